@@ -1,14 +1,28 @@
 package com.ukubuka.core.evaluator;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.utilities.Constants;
 
 /**
  * Ukubuka Expression Evaluator
@@ -23,6 +37,18 @@ public class UkubukaExpressionEvaluator {
     private static final Logger LOGGER = LoggerFactory
             .getLogger(UkubukaExpressionEvaluator.class);
 
+    /************************************ Global Variables **********************************/
+    private static final ExpressionParser INTERPRETED_EXPRESSION_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.OFF, null));
+
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    @Value("${ukubuka.expression.cache.size:"
+            + Constants.DEFAULT_EXPRESSION_CACHE_SIZE + "}")
+    private int cacheSize = Constants.DEFAULT_EXPRESSION_CACHE_SIZE;
+
     /********************************* Dependency Injections ********************************/
     @Autowired
     private ExpressionParser expressionParser;
@@ -34,15 +60,132 @@ public class UkubukaExpressionEvaluator {
      */
     public Object evaluate(final FileContents fileContents,
             final FileRecord fileRecord, final String expression) {
-        /* Create Context */
-        StandardEvaluationContext standardEvaluationContext = new StandardEvaluationContext(
-                fileRecord);
+        return evaluate(createContext(fileContents), fileRecord, expression);
+    }
+
+    /**
+     * Evaluate Against A Reusable Context
+     * 
+     * @param evaluationContext
+     * @param fileRecord
+     * @param expression
+     * @return Evaluated Expression
+     */
+    public Object evaluate(final EvaluationContext evaluationContext,
+            final FileRecord fileRecord, final String expression) {
+        /* Evaluate Expressions */
+        try {
+            return getExpression(expression).getValue(evaluationContext,
+                    fileRecord);
+        } catch (SpelEvaluationException ex) {
+            if (SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION != ex
+                    .getMessageCode()) {
+                throw ex;
+            }
+
+            /* Fall Back To Interpretation */
+            LOGGER.warn("Compiled Expression Failed, Interpreting: {}",
+                    expression);
+            Expression interpretedExpression = INTERPRETED_EXPRESSION_PARSER
+                    .parseExpression(expression);
+            expressionCache.put(expression, interpretedExpression);
+            return interpretedExpression.getValue(evaluationContext,
+                    fileRecord);
+        }
+    }
+
+    /**
+     * Create Context
+     * 
+     * The context only carries the variables shared by every row of an
+     * operation; the row itself is passed as root object on evaluation.
+     * 
+     * @param fileContents
+     * @return Evaluation Context
+     */
+    public EvaluationContext createContext(final FileContents fileContents) {
+        StandardEvaluationContext standardEvaluationContext = new StandardEvaluationContext();
         standardEvaluationContext.setVariable("aggregations",
                 fileContents.getAggregations());
+        return standardEvaluationContext;
+    }
 
-        /* Evaluate Expressions */
-        LOGGER.info("Evaluating Expression: {}", expression);
-        return expressionParser.parseExpression(expression)
-                .getValue(standardEvaluationContext);
+    /**
+     * Get Parsed Expression
+     * 
+     * @param expression
+     * @return Cached Or Freshly Parsed Expression
+     */
+    public Expression getExpression(final String expression) {
+        Expression parsedExpression = expressionCache.get(expression);
+        if (null != parsedExpression) {
+            cacheHits.increment();
+            return parsedExpression;
+        }
+
+        /* Parse & Cache */
+        cacheMisses.increment();
+        parsedExpression = expressionParser.parseExpression(expression);
+        evictIfFull();
+        Expression cachedExpression = expressionCache
+                .putIfAbsent(expression, parsedExpression);
+        return null == cachedExpression ? parsedExpression : cachedExpression;
+    }
+
+    /**
+     * Evict An Entry When The Cache Is Full
+     */
+    private void evictIfFull() {
+        Iterator<String> iterator = expressionCache.keySet().iterator();
+        while (expressionCache.size() >= Math.max(1, cacheSize)
+                && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Clear Cache
+     */
+    public void clearCache() {
+        expressionCache.clear();
+    }
+
+    /**
+     * @return the cache hit count
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * @return the cache miss count
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * @return the number of cached expressions
+     */
+    public int getCachedExpressionCount() {
+        return expressionCache.size();
+    }
+
+    /**
+     * @param expressionParser
+     *            the expressionParser to set
+     */
+    public void setExpressionParser(ExpressionParser expressionParser) {
+        this.expressionParser = expressionParser;
+        clearCache();
+    }
+
+    /**
+     * @param cacheSize
+     *            the cacheSize to set
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
     }
 }
@@ -0,0 +1,159 @@
+package com.ukubuka.core.evaluator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StreamUtils;
+
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Shortcuts
+ * 
+ * Holds the expression shortcuts ($INT$, $DOUBLE$, $MATH$, ...) read once from
+ * the classpath shortcut-mappings file.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@Component
+public class UkubukaShortcuts {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaShortcuts.class);
+
+    /************************************ Global Variables **********************************/
+    private final Map<String, String> shortcuts;
+
+    /**
+     * Default Constructor
+     */
+    public UkubukaShortcuts() {
+        this(new ClassPathResource(Constants.SHORTCUT_MAPPINGS_FILE));
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param shortcutMappings
+     */
+    public UkubukaShortcuts(final Resource shortcutMappings) {
+        this.shortcuts = toOrderedMap(readShortcuts(shortcutMappings));
+        LOGGER.info("Loaded Shortcuts: #{}", shortcuts.size());
+    }
+
+    /**
+     * Read Shortcuts
+     * 
+     * @param shortcutMappings
+     * @return Shortcuts Map
+     */
+    private static Map<String, String> readShortcuts(
+            final Resource shortcutMappings) {
+        String fileContents;
+        try (InputStream inputStream = shortcutMappings.getInputStream()) {
+            fileContents = StreamUtils.copyToString(inputStream,
+                    Charset.forName(Constants.DEFAULT_FILE_ENCODING));
+        } catch (IOException ex) {
+            LOGGER.error("Unable To Read Shortcut Mappings!", ex);
+            return Collections.emptyMap();
+        }
+
+        /* Create Shortcuts Map */
+        Map<String, String> sMap = new HashMap<>();
+        for (final String fileContent : fileContents
+                .split(Constants.DEFAULT_FILE_END_LINE_DELIMITER)) {
+            String[] keyValuePair = fileContent.trim()
+                    .split(Constants.SHORTCUT_MAP_DELIMITER, 2);
+            if (2 == keyValuePair.length) {
+                sMap.put(keyValuePair[0], keyValuePair[1]);
+            }
+        }
+        return sMap;
+    }
+
+    /**
+     * Order Shortcuts Longest Key First
+     * 
+     * A longer shortcut is always replaced before any shorter shortcut that
+     * it might contain.
+     * 
+     * @param sMap
+     * @return Immutable Shortcuts Map
+     */
+    private static Map<String, String> toOrderedMap(
+            final Map<String, String> sMap) {
+        List<Entry<String, String>> entries = new ArrayList<>(sMap.entrySet());
+        entries.sort(Comparator
+                .comparingInt((Entry<String, String> entry) -> entry.getKey()
+                        .length())
+                .reversed().thenComparing(Entry::getKey));
+
+        Map<String, String> orderedMap = new LinkedHashMap<>();
+        for (final Entry<String, String> entry : entries) {
+            orderedMap.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(orderedMap);
+    }
+
+    /**
+     * Get Shortcuts
+     * 
+     * @param additionalShortcuts
+     * @return Shortcuts Merged With The Additional Shortcuts
+     */
+    public Map<String, String> getShortcuts(
+            final Map<String, String> additionalShortcuts) {
+        if (CollectionUtils.isEmpty(additionalShortcuts)) {
+            return shortcuts;
+        }
+
+        /* Additional Shortcuts Override Defaults */
+        Map<String, String> sMap = new HashMap<>(shortcuts);
+        sMap.putAll(additionalShortcuts);
+        return toOrderedMap(sMap);
+    }
+
+    /**
+     * Expand Shortcuts
+     * 
+     * @param target
+     * @param sMap
+     * @return Expanded Target
+     */
+    public String expand(final String target, final Map<String, String> sMap) {
+        if (null == target || CollectionUtils.isEmpty(sMap)) {
+            return target;
+        }
+
+        String modifiedTarget = target;
+        for (final Entry<String, String> shortcutEntry : sMap.entrySet()) {
+            modifiedTarget = modifiedTarget.replace(shortcutEntry.getKey(),
+                    shortcutEntry.getValue());
+        }
+        return modifiedTarget;
+    }
+
+    /**
+     * @return the shortcuts
+     */
+    public Map<String, String> getShortcuts() {
+        return shortcuts;
+    }
+}
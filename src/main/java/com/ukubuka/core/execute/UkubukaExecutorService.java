@@ -1,20 +1,34 @@
 package com.ukubuka.core.execute;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.stereotype.Service;
 
+import com.ukubuka.core.evaluator.UkubukaExpressionEvaluator;
+import com.ukubuka.core.evaluator.UkubukaShortcuts;
 import com.ukubuka.core.exception.ParserException;
 import com.ukubuka.core.exception.PipelineException;
 import com.ukubuka.core.exception.TransformException;
 import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.ColumnProjection;
+import com.ukubuka.core.model.ExtractFlags;
 import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.RowFilter;
+import com.ukubuka.core.model.SupportedFileType;
+import com.ukubuka.core.model.TransformOperation;
 import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Extract;
+import com.ukubuka.core.model.UkubukaSchema.Transform;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
 import com.ukubuka.core.operations.UkubukaOperations;
 import com.ukubuka.core.schema.UkubukaSchemaReader;
 
@@ -31,10 +45,23 @@ public class UkubukaExecutorService {
     private static final Logger LOGGER = LoggerFactory
             .getLogger(UkubukaExecutorService.class);
 
+    /************************************ Global Variables **********************************/
+    private static final EnumSet<TransformOperation> EXPRESSION_OPERATIONS = EnumSet
+            .of(TransformOperation.ADD, TransformOperation.NEW,
+                    TransformOperation.INCLUDE, TransformOperation.EXCLUDE,
+                    TransformOperation.SUM, TransformOperation.AVG,
+                    TransformOperation.MIN, TransformOperation.MAX);
+
     /********************************* Dependency Injections ********************************/
     @Autowired
     private UkubukaSchemaReader ukubukaSchemaReader;
 
+    @Autowired
+    private UkubukaShortcuts shortcuts;
+
+    @Autowired
+    private UkubukaExpressionEvaluator expressionEvaluator;
+
     @Autowired
     @Qualifier("UkubukaExtractor")
     private UkubukaOperations ukubukaExtractor;
@@ -51,6 +78,9 @@ public class UkubukaExecutorService {
     @Qualifier("UkubukaVisualizer")
     private UkubukaOperations ukubukaVisualizer;
 
+    @Autowired
+    private UkubukaStreamingPipeline streamingPipeline;
+
     /**
      * Execute Ukubuka
      * 
@@ -69,6 +99,13 @@ public class UkubukaExecutorService {
         UkubukaSchema ukubukaSchema = ukubukaSchemaReader
                 .readSchema(ukubukaSchemaFile);
 
+        /* Only Parse Columns & Rows The Pipeline Uses */
+        pushDownProjections(ukubukaSchema);
+
+        /* Stream Extracts Only Copied Into A File, Batch By Batch */
+        LOGGER.info("Performing Streamed Pipeline(s)...");
+        streamingPipeline.performOperations(ukubukaSchema);
+
         /* Perform Extracts */
         LOGGER.info("Performing Extract(s)...");
         ukubukaExtractor.performOperations(dataFiles, ukubukaSchema);
@@ -85,4 +122,102 @@ public class UkubukaExecutorService {
         LOGGER.info("Performing Visualization(s)...");
         ukubukaVisualizer.performOperations(dataFiles, ukubukaSchema);
     }
+
+    /**
+     * Push Down Projections
+     * 
+     * Hands every delimited extract with transforms the plan of those
+     * transforms, so its parser can skip the columns they delete before
+     * anything reads them. Loads and visualizations see whatever the
+     * transforms leave, which is always kept. A row filter that reads raw
+     * columns only is handed down as well, to drop rows while parsing.
+     * 
+     * @param ukubukaSchema
+     */
+    private void pushDownProjections(final UkubukaSchema ukubukaSchema) {
+        if (null == ukubukaSchema.getExtracts()
+                || null == ukubukaSchema.getTransforms()) {
+            return;
+        }
+        Map<String, String> sMap = null;
+        for (final Extract extract : ukubukaSchema.getExtracts()) {
+            Transform transform = getTransform(extract.getId(),
+                    ukubukaSchema.getTransforms());
+            if (SupportedFileType.CSV != extract.getType() || null == transform
+                    || null == transform.getOperations()) {
+                continue;
+            }
+            if (null == sMap) {
+                sMap = shortcuts.getShortcuts(ukubukaSchema.getShortcuts());
+            }
+
+            /* Column Operations Run Before The Row Operation */
+            List<TransformOperations> columnOperations = new ArrayList<>();
+            if (null != transform.getOperations().getColumn()) {
+                for (final TransformOperations operation : transform
+                        .getOperations().getColumn()) {
+                    columnOperations.add(expand(operation, sMap));
+                }
+            }
+            List<TransformOperations> operations = new ArrayList<>(
+                    columnOperations);
+            TransformOperations rowOperation = null;
+            if (null != transform.getOperations().getRow()) {
+                rowOperation = expand(transform.getOperations().getRow(), sMap);
+                operations.add(rowOperation);
+            }
+
+            Map<String, Object> flags = null == extract.getFlags()
+                    ? new HashMap<>()
+                    : new HashMap<>(extract.getFlags());
+            flags.put(ExtractFlags.PROJECTION.getFlag(),
+                    new ColumnProjection(operations));
+            if (RowFilter.isPushable(columnOperations, rowOperation)) {
+                EvaluationContext evaluationContext = expressionEvaluator
+                        .createContext(new FileContents());
+                flags.put(ExtractFlags.ROW_FILTER.getFlag(),
+                        new RowFilter(columnOperations, rowOperation,
+                                (fileRecord, expression) -> expressionEvaluator
+                                        .evaluate(evaluationContext,
+                                                fileRecord, expression)));
+            }
+            extract.setFlags(flags);
+        }
+    }
+
+    /**
+     * Get Transform
+     * 
+     * @param fileId
+     * @param transforms
+     * @return First Transform Of The File, Null When None
+     */
+    private Transform getTransform(final String fileId,
+            final List<Transform> transforms) {
+        for (final Transform transform : transforms) {
+            if (null != fileId && fileId.equals(transform.getId())) {
+                return transform;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Expand Operation
+     * 
+     * @param operation
+     * @param sMap
+     * @return Copy Of The Operation With Its Expression Expanded
+     */
+    private TransformOperations expand(final TransformOperations operation,
+            final Map<String, String> sMap) {
+        TransformOperations expandedOperation = new TransformOperations();
+        expandedOperation.setType(operation.getType());
+        expandedOperation.setSource(operation.getSource());
+        expandedOperation.setTarget(
+                EXPRESSION_OPERATIONS.contains(operation.getType())
+                        ? shortcuts.expand(operation.getTarget(), sMap)
+                        : operation.getTarget());
+        return expandedOperation;
+    }
 }
@@ -0,0 +1,315 @@
+package com.ukubuka.core.execute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.ukubuka.core.evaluator.UkubukaShortcuts;
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.exception.PipelineException;
+import com.ukubuka.core.exception.TransformException;
+import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.ExtractFlags;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.LoadOperation;
+import com.ukubuka.core.model.RowFilter;
+import com.ukubuka.core.model.SupportedFileType;
+import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Extract;
+import com.ukubuka.core.model.UkubukaSchema.Load;
+import com.ukubuka.core.model.UkubukaSchema.LoadOperations;
+import com.ukubuka.core.model.UkubukaSchema.Transform;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperationsType;
+import com.ukubuka.core.model.UkubukaSchema.Visualization;
+import com.ukubuka.core.operations.load.UkubukaLoader;
+import com.ukubuka.core.operations.transform.UkubukaTransformer;
+import com.ukubuka.core.parser.UkubukaRecordStream;
+import com.ukubuka.core.parser.impl.UkubukaDFileParser;
+import com.ukubuka.core.writer.UkubukaRecordSink;
+
+/**
+ * Ukubuka Streaming Pipeline
+ * 
+ * Runs extract, transform and load batch by batch for a streaming delimited
+ * extract whose transforms work row by row and whose only use is one load
+ * copying it into a delimited or JSON file. Each batch of the record stream
+ * is transformed and written before the next one is read, so no more than
+ * one batch of the file is held. Such extracts and their loads are taken
+ * out of the schema, everything else is left to the in-memory stages.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@Component
+public class UkubukaStreamingPipeline {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaStreamingPipeline.class);
+
+    /************************************ Global Variables **********************************/
+    private static final EnumSet<SupportedFileType> SINK_FILE_TYPES = EnumSet
+            .of(SupportedFileType.CSV, SupportedFileType.JSON);
+
+    /******************************** Dependency Injections *********************************/
+    @Autowired
+    @Qualifier("UkubukaDFileParser")
+    private UkubukaDFileParser delimitedFileParser;
+
+    @Autowired
+    private UkubukaTransformer transformer;
+
+    @Autowired
+    private UkubukaLoader loader;
+
+    @Autowired
+    private UkubukaShortcuts shortcuts;
+
+    /**
+     * Perform Operations
+     * 
+     * @param ukubukaSchema
+     * @throws PipelineException
+     * @throws ParserException
+     */
+    public void performOperations(UkubukaSchema ukubukaSchema)
+            throws PipelineException, ParserException {
+        if (null == ukubukaSchema.getExtracts()
+                || null == ukubukaSchema.getLoads()) {
+            return;
+        }
+        Map<String, String> sMap = null;
+        List<Extract> extracts = new ArrayList<>();
+        List<Load> loads = new ArrayList<>(ukubukaSchema.getLoads());
+        for (final Extract extract : ukubukaSchema.getExtracts()) {
+            TransformOperationsType fileTransforms = getFileTransforms(
+                    extract.getId(), ukubukaSchema.getTransforms());
+            Load load = isStreamable(extract, fileTransforms)
+                    ? getStreamedLoad(extract.getId(), ukubukaSchema)
+                    : null;
+            if (null == load) {
+                extracts.add(extract);
+                continue;
+            }
+            if (null == sMap) {
+                sMap = shortcuts.getShortcuts(ukubukaSchema.getShortcuts());
+            }
+            stream(extract, fileTransforms, load, sMap);
+            loads.remove(load);
+        }
+        ukubukaSchema.setExtracts(extracts);
+        ukubukaSchema.setLoads(loads);
+    }
+
+    /**
+     * Stream
+     * 
+     * @param extract
+     * @param fileTransforms
+     * @param load
+     * @param sMap
+     * @throws PipelineException
+     * @throws ParserException
+     */
+    private void stream(final Extract extract,
+            final TransformOperationsType fileTransforms, final Load load,
+            final Map<String, String> sMap)
+            throws PipelineException, ParserException {
+        LOGGER.info("Streaming Extract: {} | Load: {}", extract.getId(),
+                load.getId());
+        try (UkubukaRecordStream recordStream = delimitedFileParser
+                .openRecordStream(extract.getLocation(), extract.getFlags())) {
+            List<TransformOperations> operations = null == fileTransforms
+                    ? Collections.<TransformOperations> emptyList()
+                    : transformer.getOperations(fileTransforms,
+                            isFiltered(extract));
+
+            /* Header Of The Transformed Batches */
+            FileContents headerContents = newBatch(recordStream,
+                    new ArrayList<FileRecord>());
+            transformer.transformBatch(headerContents, operations, sMap);
+
+            /* Transform & Write One Batch At A Time */
+            long batchCount = 0;
+            try (UkubukaRecordSink sink = loader.openSink(load,
+                    headerContents.getHeader())) {
+                while (recordStream.hasNext()) {
+                    FileContents batch = newBatch(recordStream,
+                            recordStream.nextBatch());
+                    transformer.transformBatch(batch, operations, sMap);
+                    sink.write(batch.getData());
+                    batchCount++;
+                }
+            }
+            LOGGER.info("Streamed Extract: {} | Records: #{} | Batches: #{}",
+                    extract.getId(), recordStream.getRecordCount(),
+                    batchCount);
+        } catch (IOException | TransformException | WriterException ex) {
+            throw new PipelineException(ex);
+        }
+    }
+
+    /**
+     * New Batch
+     * 
+     * @param recordStream
+     * @param fileRecords
+     * @return File Contents Of The Batch, With A Header Of Its Own
+     */
+    private FileContents newBatch(final UkubukaRecordStream recordStream,
+            final List<FileRecord> fileRecords) {
+        return new FileContents(new ArrayList<>(recordStream.getHeader()),
+                fileRecords);
+    }
+
+    /**
+     * Is Filtered
+     * 
+     * @param extract
+     * @return Whether The Row Filter Was Applied While Parsing
+     */
+    private boolean isFiltered(final Extract extract) {
+        Object rowFilter = ExtractFlags.ROW_FILTER.getValue(extract.getFlags(),
+                null);
+        return rowFilter instanceof RowFilter
+                && ((RowFilter) rowFilter).isApplied();
+    }
+
+    /**
+     * Is Streamable
+     * 
+     * Parallel and columnar reads build the whole file by design, so only
+     * plain streaming reads of a delimited file qualify.
+     * 
+     * @param extract
+     * @param fileTransforms
+     * @return Whether The Extract Can Be Read, Transformed & Written In
+     *         Batches
+     */
+    private boolean isStreamable(final Extract extract,
+            final TransformOperationsType fileTransforms) {
+        Map<String, Object> flags = extract.getFlags();
+        return SupportedFileType.CSV == extract.getType()
+                && null != extract.getId()
+                && ExtractFlags.STREAMING.getValue(flags, false)
+                && !ExtractFlags.PARALLEL.getValue(flags, false)
+                && !ExtractFlags.COLUMNAR.getValue(flags, false)
+                && !ExtractFlags.INFER_TYPES.getValue(flags, false)
+                && null == ExtractFlags.COLUMN_TYPES.getValue(flags, null)
+                && (null == fileTransforms || transformer
+                        .isRowLocal(transformer.getOperations(fileTransforms,
+                                false)));
+    }
+
+    /**
+     * Get Streamed Load
+     * 
+     * @param fileId
+     * @param ukubukaSchema
+     * @return The Only Load Of The File When It Copies The File Into A Sink
+     *         & Neither Is Read Again, Else Null
+     */
+    private Load getStreamedLoad(final String fileId,
+            final UkubukaSchema ukubukaSchema) {
+        Load streamedLoad = null;
+        for (final Load load : ukubukaSchema.getLoads()) {
+            if (!isReading(load, fileId)) {
+                continue;
+            }
+            if (null != streamedLoad || !isCopy(load, fileId)) {
+                return null;
+            }
+            streamedLoad = load;
+        }
+        if (null == streamedLoad) {
+            return null;
+        }
+
+        /* Nothing Else May Read The Loaded File */
+        for (final Load load : ukubukaSchema.getLoads()) {
+            if (load != streamedLoad && isReading(load, streamedLoad.getId())) {
+                return null;
+            }
+        }
+        if (null != ukubukaSchema.getVisualizations()) {
+            for (final Visualization visualization : ukubukaSchema
+                    .getVisualizations()) {
+                if (fileId.equals(visualization.getId())
+                        || streamedLoad.getId().equals(visualization.getId())) {
+                    return null;
+                }
+            }
+        }
+        return streamedLoad;
+    }
+
+    /**
+     * Is Reading
+     * 
+     * @param load
+     * @param fileId
+     * @return Whether The Load Reads The File
+     */
+    private boolean isReading(final Load load, final String fileId) {
+        LoadOperations operations = load.getOperations();
+        if (null == operations) {
+            return false;
+        }
+        if (null != operations.getJoin()
+                && (fileId.equals(operations.getJoin().getLeft())
+                        || fileId.equals(operations.getJoin().getRight()))) {
+            return true;
+        }
+        return fileId.equals(operations.getHeader())
+                || (null != operations.getData()
+                        && operations.getData().contains(fileId));
+    }
+
+    /**
+     * Is Copy
+     * 
+     * @param load
+     * @param fileId
+     * @return Whether The Load Writes The File As It Is Into A Sink
+     */
+    private boolean isCopy(final Load load, final String fileId) {
+        LoadOperations operations = load.getOperations();
+        return SINK_FILE_TYPES.contains(load.getType()) && null != load.getId()
+                && !(LoadOperation.JOIN == operations.getType()
+                        && null != operations.getJoin())
+                && LoadOperation.DISTINCT != operations.getFilter()
+                && fileId.equals(operations.getHeader())
+                && Collections.singletonList(fileId)
+                        .equals(operations.getData());
+    }
+
+    /**
+     * Get File Transforms
+     * 
+     * @param fileId
+     * @param transforms
+     * @return First Transform Operations Of The File, Null When None
+     */
+    private TransformOperationsType getFileTransforms(final String fileId,
+            final List<Transform> transforms) {
+        if (null != transforms) {
+            for (final Transform transform : transforms) {
+                if (null != fileId && fileId.equals(transform.getId())) {
+                    return transform.getOperations();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ukubuka.core.model;
+
+import java.util.Arrays;
+
+/**
+ * Boolean Column Vector
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class BooleanColumnVector extends ColumnVector {
+
+    private boolean[] values;
+
+    /***************************** Default Constructor ****************************/
+    public BooleanColumnVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /******************************** Constructor *********************************/
+    public BooleanColumnVector(final int capacity) {
+        this.values = new boolean[Math.max(1, capacity)];
+    }
+
+    /**
+     * Get Boolean
+     * 
+     * @param index
+     * @return Primitive Value
+     */
+    public boolean getBoolean(final int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /********************************* Override(s) ********************************/
+    @Override
+    public ColumnType getType() {
+        return ColumnType.BOOLEAN;
+    }
+
+    @Override
+    protected void grow(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values,
+                    nextCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void store(final int index, final Object value) {
+        if (value instanceof Boolean) {
+            values[index] = (Boolean) value;
+        } else if (ColumnType.BOOLEAN.accepts(String.valueOf(value))) {
+            values[index] = Boolean.parseBoolean(String.valueOf(value));
+        } else {
+            throw new IllegalArgumentException("Not A Boolean: " + value);
+        }
+    }
+
+    @Override
+    protected Object load(final int index) {
+        return values[index];
+    }
+
+    @Override
+    protected void shift(final int index, final int length) {
+        System.arraycopy(values, index + 1, values, index, length);
+    }
+
+    @Override
+    protected void move(final int sourceIndex, final int targetIndex,
+            final int length) {
+        System.arraycopy(values, sourceIndex, values, targetIndex, length);
+    }
+}
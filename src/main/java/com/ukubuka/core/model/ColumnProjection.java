@@ -0,0 +1,251 @@
+package com.ukubuka.core.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Column Projection
+ * 
+ * Replays the column transforms of a file on its header to find the columns
+ * no expression reads and no later stage gets to see, i.e. the ones deleted
+ * before anything references them. Expressions must already have their
+ * shortcuts expanded. Whenever the plan can not be followed, say a column is
+ * missing or an expression reaches the row other than through data[n], every
+ * column is kept and the transformer reports the problem as usual.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class ColumnProjection {
+
+    /************************************ Global Variables **********************************/
+    private static final Pattern COLUMN_REFERENCE_PATTERN = Pattern
+            .compile("\\bdata\\s*\\[\\s*(\\d+)\\s*\\]");
+    private static final String[] OPAQUE_REFERENCES = { "data", "#this",
+            "#root" };
+
+    private final List<TransformOperations> operations;
+
+    /****************************** Constructor ******************************/
+    public ColumnProjection(final List<TransformOperations> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * @return the operations
+     */
+    public List<TransformOperations> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Get Skipped Columns
+     * 
+     * @param header
+     * @return Indices Of Columns Nothing Reads, Null When Unsure
+     */
+    public BitSet getSkippedColumns(final List<String> header) {
+        BitSet referencedColumns = new BitSet(header.size());
+        List<Integer> columns = replay(header, referencedColumns);
+        if (null == columns) {
+            return null;
+        }
+
+        /* Columns Left At The End Are Loaded */
+        for (final Integer column : columns) {
+            if (column >= 0) {
+                referencedColumns.set(column);
+            }
+        }
+        BitSet skippedColumns = new BitSet(header.size());
+        skippedColumns.set(0, header.size());
+        skippedColumns.andNot(referencedColumns);
+        return skippedColumns;
+    }
+
+    /**
+     * Get Raw Expression
+     * 
+     * @param header
+     * @param expression
+     * @return Expression Reading The Columns Of The Raw Rows, Null When It
+     *         Reads A Column The Operations Compute Or Can Not Be Followed
+     */
+    public String getRawExpression(final List<String> header,
+            final String expression) {
+        List<Integer> columns = replay(header, new BitSet(header.size()));
+        if (null == columns || null == expression) {
+            return null;
+        }
+        Matcher matcher = COLUMN_REFERENCE_PATTERN.matcher(expression);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(1));
+            if (index >= columns.size() || columns.get(index) < 0) {
+                return null;
+            }
+            matcher.appendReplacement(buffer,
+                    "data[" + columns.get(index) + "]");
+        }
+        matcher.appendTail(buffer);
+        return reference(expression, columns, new BitSet()) ? buffer.toString()
+                : null;
+    }
+
+    /**
+     * Replay Operations
+     * 
+     * @param header
+     * @param referencedColumns
+     * @return Source Column At Each Position Afterwards, -1 For Computed
+     *         Columns, Null When The Operations Can Not Be Followed
+     */
+    private List<Integer> replay(final List<String> header,
+            BitSet referencedColumns) {
+        List<String> names = new ArrayList<>(header);
+        List<Integer> columns = new ArrayList<>(header.size());
+        for (int i = 0; i < header.size(); i++) {
+            columns.add(i);
+        }
+        for (final TransformOperations operation : operations) {
+            if (!replay(operation, names, columns, referencedColumns)) {
+                return null;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Replay Operation
+     * 
+     * @param operation
+     * @param names
+     * @param columns
+     * @param referencedColumns
+     * @return Whether The Operation Could Be Followed
+     */
+    private static boolean replay(final TransformOperations operation,
+            List<String> names, List<Integer> columns,
+            BitSet referencedColumns) {
+        if (null == operation.getType()) {
+            return false;
+        }
+        int sourceIndex = names.indexOf(operation.getSource());
+        switch (operation.getType()) {
+            case RENAME:
+                if (sourceIndex < 0) {
+                    return false;
+                }
+                names.set(sourceIndex, operation.getTarget());
+                return true;
+            case DELETE:
+            case REMOVE:
+                if (sourceIndex < 0) {
+                    return false;
+                }
+                names.remove(sourceIndex);
+                columns.remove(sourceIndex);
+                return true;
+            case ADD:
+            case NEW:
+                if (!reference(operation.getTarget(), columns,
+                        referencedColumns)) {
+                    return false;
+                }
+                names.add(operation.getSource());
+                columns.add(-1);
+                return true;
+            case MOVE:
+                return move(sourceIndex, operation.getTarget(), names, columns);
+            case SWAP:
+                int targetIndex = names.indexOf(operation.getTarget());
+                if (sourceIndex < 0 || targetIndex < 0) {
+                    return false;
+                }
+                Collections.swap(names, sourceIndex, targetIndex);
+                Collections.swap(columns, sourceIndex, targetIndex);
+                return true;
+            case COUNT:
+                return true;
+            case INCLUDE:
+            case EXCLUDE:
+            case SUM:
+            case AVG:
+            case MIN:
+            case MAX:
+                return reference(operation.getTarget(), columns,
+                        referencedColumns);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Replay Move
+     * 
+     * @param sourceIndex
+     * @param target
+     * @param names
+     * @param columns
+     * @return Whether The Move Could Be Followed
+     */
+    private static boolean move(final int sourceIndex, final String target,
+            List<String> names, List<Integer> columns) {
+        if (sourceIndex < 0 || null == target) {
+            return false;
+        }
+        int targetIndex;
+        try {
+            targetIndex = Integer.parseInt(target.replace(
+                    Constants.COLUMN_ENCOLSING_QUOTE, Constants.EMPTY_STRING));
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+        if (targetIndex < 0 || targetIndex >= names.size()) {
+            return false;
+        }
+        names.add(targetIndex, names.remove(sourceIndex));
+        columns.add(targetIndex, columns.remove(sourceIndex));
+        return true;
+    }
+
+    /**
+     * Mark Referenced Columns
+     * 
+     * @param expression
+     * @param columns
+     * @param referencedColumns
+     * @return Whether Every Reference Could Be Resolved
+     */
+    private static boolean reference(final String expression,
+            final List<Integer> columns, BitSet referencedColumns) {
+        if (null == expression) {
+            return false;
+        }
+        Matcher matcher = COLUMN_REFERENCE_PATTERN.matcher(expression);
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(1));
+            if (index < columns.size() && columns.get(index) >= 0) {
+                referencedColumns.set(columns.get(index));
+            }
+        }
+
+        /* Any Other Way Into The Row Could Read Anything */
+        String remainder = matcher.replaceAll(Constants.EMPTY_STRING)
+                .toLowerCase(Locale.ROOT);
+        for (final String opaqueReference : OPAQUE_REFERENCES) {
+            if (remainder.contains(opaqueReference)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
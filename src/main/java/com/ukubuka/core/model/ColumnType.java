@@ -0,0 +1,128 @@
+package com.ukubuka.core.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Column Types
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@JsonFormat(shape = JsonFormat.Shape.OBJECT)
+public enum ColumnType {
+
+    INT("int"), LONG("long"), DOUBLE("double"), DECIMAL("decimal"), BOOLEAN(
+            "boolean"), STRING("string");
+
+    /* Column Type */
+    private String type;
+
+    /********** Private Constructor **********/
+    private ColumnType(final String type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Get Column Type
+     * 
+     * @param type
+     * @return ColumnType, Null When Unsupported
+     */
+    public static ColumnType getColumnType(final String type) {
+        for (final ColumnType columnType : ColumnType.values()) {
+            if (columnType.getType().equalsIgnoreCase(type)) {
+                return columnType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Accepts
+     * 
+     * A value is only accepted when it reads back as exactly the same text,
+     * so typing a column never changes what gets written out.
+     * 
+     * @param value
+     * @return Whether The Value Round Trips Through This Type
+     */
+    public boolean accepts(final String value) {
+        try {
+            switch (this) {
+                case INT:
+                    return Integer.toString(Integer.parseInt(value))
+                            .equals(value);
+                case LONG:
+                    return Long.toString(Long.parseLong(value)).equals(value);
+                case DOUBLE:
+                    return Double.toString(Double.parseDouble(value))
+                            .equals(value);
+                case DECIMAL:
+                    return new BigDecimal(value).toString().equals(value);
+                case BOOLEAN:
+                    return Boolean.TRUE.toString().equals(value)
+                            || Boolean.FALSE.toString().equals(value);
+                default:
+                    return true;
+            }
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Infer Column Type
+     * 
+     * @param samples
+     * @return Narrowest Type Accepting Every Sample
+     */
+    public static ColumnType infer(final List<String> samples) {
+        if (samples.isEmpty()) {
+            return STRING;
+        }
+        for (final ColumnType columnType : ColumnType.values()) {
+            boolean acceptsAll = true;
+            for (final String sample : samples) {
+                if (!columnType.accepts(sample)) {
+                    acceptsAll = false;
+                    break;
+                }
+            }
+            if (acceptsAll) {
+                return columnType;
+            }
+        }
+        return STRING;
+    }
+
+    /**
+     * Get Column Type Of A Value
+     * 
+     * @param value
+     * @return ColumnType
+     */
+    public static ColumnType of(final Object value) {
+        if (value instanceof Integer) {
+            return INT;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof BigDecimal) {
+            return DECIMAL;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        }
+        return STRING;
+    }
+}
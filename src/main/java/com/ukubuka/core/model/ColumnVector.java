@@ -0,0 +1,268 @@
+package com.ukubuka.core.model;
+
+import java.util.BitSet;
+
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Column Vector
+ * 
+ * Growable array holding the values of a single column. Typed vectors keep
+ * their values in primitive arrays and mark empty values as missing, which
+ * read back as an empty string just like an untyped empty field.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public abstract class ColumnVector {
+
+    protected static final int DEFAULT_CAPACITY = 16;
+
+    private int size;
+    private BitSet missing;
+
+    /**
+     * Create Column Vector
+     * 
+     * @param columnType
+     * @param capacity
+     * @return Column Vector For The Type
+     */
+    public static ColumnVector create(final ColumnType columnType,
+            final int capacity) {
+        switch (columnType) {
+            case INT:
+                return new IntColumnVector(capacity);
+            case LONG:
+                return new LongColumnVector(capacity);
+            case DOUBLE:
+                return new DoubleColumnVector(capacity);
+            case DECIMAL:
+                return new DecimalColumnVector(capacity);
+            case BOOLEAN:
+                return new BooleanColumnVector(capacity);
+            default:
+                return new ObjectColumnVector(capacity);
+        }
+    }
+
+    /**
+     * @return the column type
+     */
+    public abstract ColumnType getType();
+
+    /**
+     * Grow Storage
+     * 
+     * @param capacity
+     */
+    protected abstract void grow(int capacity);
+
+    /**
+     * Store Value
+     * 
+     * @param index
+     * @param value
+     * @throws IllegalArgumentException
+     *             When The Value Does Not Fit The Type
+     */
+    protected abstract void store(int index, Object value);
+
+    /**
+     * Load Value
+     * 
+     * @param index
+     * @return Boxed Value
+     */
+    protected abstract Object load(int index);
+
+    /**
+     * Shift Values After The Index Down By One
+     * 
+     * @param index
+     * @param length
+     */
+    protected abstract void shift(int index, int length);
+
+    /**
+     * Move A Run Of Values Down
+     * 
+     * @param sourceIndex
+     * @param targetIndex
+     * @param length
+     */
+    protected abstract void move(int sourceIndex, int targetIndex, int length);
+
+    /**
+     * Release Values From The Index On
+     * 
+     * @param index
+     */
+    protected void release(final int index) {
+        /* Primitive Values Hold Nothing */
+    }
+
+    /**
+     * Add Value
+     * 
+     * @param value
+     */
+    public void add(final Object value) {
+        grow(size + 1);
+        put(size, value);
+        size++;
+    }
+
+    /**
+     * Get Value
+     * 
+     * @param index
+     * @return Value
+     */
+    public Object get(final int index) {
+        checkIndex(index);
+        return isMissing(index) ? Constants.EMPTY_STRING : load(index);
+    }
+
+    /**
+     * Set Value
+     * 
+     * @param index
+     * @param value
+     * @return Previous Value
+     */
+    public Object set(final int index, final Object value) {
+        Object previousValue = get(index);
+        put(index, value);
+        return previousValue;
+    }
+
+    /**
+     * Remove Value
+     * 
+     * @param index
+     */
+    public void remove(final int index) {
+        checkIndex(index);
+        shift(index, size - index - 1);
+        if (null != missing) {
+            for (int i = index; i < size - 1; i++) {
+                missing.set(i, missing.get(i + 1));
+            }
+            missing.clear(size - 1);
+        }
+        size--;
+    }
+
+    /**
+     * Retain Values
+     * 
+     * Keeps the values whose index is set, in order, moving each run of kept
+     * values down with a single copy.
+     * 
+     * @param keptRows
+     */
+    public void retain(final BitSet keptRows) {
+        int keptCount = 0;
+        int from = keptRows.nextSetBit(0);
+        while (from >= 0 && from < size) {
+            int to = Math.min(size, keptRows.nextClearBit(from));
+            if (keptCount != from) {
+                move(from, keptCount, to - from);
+                if (null != missing) {
+                    for (int i = from; i < to; i++) {
+                        missing.set(keptCount + i - from, missing.get(i));
+                    }
+                }
+            }
+            keptCount += to - from;
+            from = to < size ? keptRows.nextSetBit(to) : -1;
+        }
+        if (null != missing) {
+            missing.clear(keptCount, size);
+        }
+        release(keptCount);
+        size = keptCount;
+    }
+
+    /**
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Is Missing
+     * 
+     * @param index
+     * @return Whether The Value Was Empty
+     */
+    public boolean isMissing(final int index) {
+        return null != missing && missing.get(index);
+    }
+
+    /**
+     * @return whether any value is missing
+     */
+    public boolean hasMissing() {
+        return null != missing && !missing.isEmpty();
+    }
+
+    /**
+     * To Object Vector
+     * 
+     * @return Untyped Copy Of This Vector
+     */
+    public ColumnVector toObjectVector() {
+        ColumnVector columnVector = new ObjectColumnVector(size);
+        for (int i = 0; i < size; i++) {
+            columnVector.add(get(i));
+        }
+        return columnVector;
+    }
+
+    /**
+     * Put Value
+     * 
+     * @param index
+     * @param value
+     */
+    private void put(final int index, final Object value) {
+        if (ColumnType.STRING != getType() && (null == value
+                || Constants.EMPTY_STRING.equals(value))) {
+            if (null == missing) {
+                missing = new BitSet();
+            }
+            missing.set(index);
+            return;
+        }
+        store(index, value);
+        if (null != missing) {
+            missing.clear(index);
+        }
+    }
+
+    /**
+     * Check Index
+     * 
+     * @param index
+     */
+    protected void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + " | Size: " + size);
+        }
+    }
+
+    /**
+     * Next Capacity
+     * 
+     * @param length
+     * @param capacity
+     * @return Grown Capacity
+     */
+    protected static int nextCapacity(final int length, final int capacity) {
+        return Math.max(capacity, length + (length >> 1));
+    }
+}
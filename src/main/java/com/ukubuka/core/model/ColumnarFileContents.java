@@ -0,0 +1,276 @@
+package com.ukubuka.core.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Columnar File Contents
+ * 
+ * Keeps one column vector per header entry instead of one list per row, so
+ * column deletes, moves and swaps only touch the column list. Rows are
+ * exposed through {@link #getData()} as views backed by the column vectors,
+ * which means a row handed out before a row removal may point at a shifted
+ * row afterwards.
+ * 
+ * Columns may be typed, in which case values are parsed once on append and
+ * kept in primitive arrays. A typed column that meets a value it cannot hold
+ * falls back to an untyped column.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class ColumnarFileContents extends FileContents {
+
+    private final List<ColumnVector> columns = new ArrayList<>();
+    private final List<FileRecord> rows = new Rows();
+    private int rowCount;
+
+    /******************************** Constructor *********************************/
+    public ColumnarFileContents(final List<String> header) {
+        this(header, Collections.nCopies(header.size(), ColumnType.STRING));
+    }
+
+    public ColumnarFileContents(final List<String> header,
+            final List<ColumnType> columnTypes) {
+        super(new ArrayList<>(header), null);
+        for (final ColumnType columnType : columnTypes) {
+            columns.add(ColumnVector.create(columnType, 0));
+        }
+    }
+
+    public ColumnarFileContents(final List<String> header,
+            final List<ColumnVector> columns, final int rowCount) {
+        super(new ArrayList<>(header), null);
+        if (header.size() != columns.size()) {
+            throw new IllegalArgumentException("Header Has " + header.size()
+                    + " Columns | Got " + columns.size() + " Vectors");
+        }
+        for (final ColumnVector column : columns) {
+            if (rowCount != column.size()) {
+                throw new IllegalArgumentException("Column Has "
+                        + column.size() + " Rows | Expected " + rowCount);
+            }
+        }
+        this.columns.addAll(columns);
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Append Record
+     * 
+     * Short records are padded with empty values.
+     * 
+     * @param record
+     */
+    public void appendRecord(final List<Object> record) {
+        if (record.size() > columns.size()) {
+            throw new IllegalArgumentException("Record Has " + record.size()
+                    + " Columns | Header Has " + columns.size());
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = i < record.size() ? record.get(i)
+                    : Constants.EMPTY_STRING;
+            try {
+                columns.get(i).add(value);
+            } catch (IllegalArgumentException ex) {
+                /* Fall Back To An Untyped Column */
+                ColumnVector column = columns.get(i).toObjectVector();
+                column.add(value);
+                columns.set(i, column);
+            }
+        }
+        rowCount++;
+    }
+
+    /**
+     * Get Column
+     * 
+     * @param index
+     * @return Column Vector
+     */
+    public ColumnVector getColumn(final int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * @return the column types
+     */
+    public List<ColumnType> getColumnTypes() {
+        List<ColumnType> columnTypes = new ArrayList<>(columns.size());
+        for (final ColumnVector column : columns) {
+            columnTypes.add(column.getType());
+        }
+        return columnTypes;
+    }
+
+    /**
+     * @return the rowCount
+     */
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the row views
+     */
+    @Override
+    public List<FileRecord> getData() {
+        return rows;
+    }
+
+    /**
+     * Replace Rows
+     * 
+     * @param data
+     *            the data to set
+     */
+    @Override
+    public void setData(final List<FileRecord> data) {
+        List<FileRecord> fileRecords = new ArrayList<>(data);
+        for (int i = 0; i < columns.size(); i++) {
+            columns.set(i, ColumnVector.create(columns.get(i).getType(),
+                    fileRecords.size()));
+        }
+        rowCount = 0;
+        for (final FileRecord fileRecord : fileRecords) {
+            appendRecord(fileRecord.getData());
+        }
+    }
+
+    /********************************* Override(s) ********************************/
+    @Override
+    public void addColumn(final String columnName, final List<Object> values) {
+        ColumnVector column = ColumnVector.create(getColumnType(values),
+                rowCount);
+        Iterator<Object> valuesIterator = values.iterator();
+        for (int i = 0; i < rowCount; i++) {
+            column.add(valuesIterator.next());
+        }
+        getHeader().add(columnName);
+        columns.add(column);
+    }
+
+    @Override
+    public void deleteColumn(final int index) {
+        getHeader().remove(index);
+        columns.remove(index);
+    }
+
+    @Override
+    public void moveColumn(final int sourceIndex, final int targetIndex) {
+        getHeader().add(targetIndex, getHeader().remove(sourceIndex));
+        columns.add(targetIndex, columns.remove(sourceIndex));
+    }
+
+    @Override
+    public void swapColumns(final int sourceIndex, final int targetIndex) {
+        Collections.swap(getHeader(), sourceIndex, targetIndex);
+        Collections.swap(columns, sourceIndex, targetIndex);
+    }
+
+    @Override
+    public void retainRows(final BitSet keptRows) {
+        for (final ColumnVector column : columns) {
+            column.retain(keptRows);
+        }
+        rowCount = keptRows.get(0, rowCount).cardinality();
+    }
+
+    /**
+     * Get Column Type
+     * 
+     * @param values
+     * @return Common Type Of The Values, String When Mixed
+     */
+    private ColumnType getColumnType(final List<Object> values) {
+        ColumnType columnType = null;
+        for (final Object value : values) {
+            ColumnType valueType = ColumnType.of(value);
+            if (null != columnType && columnType != valueType) {
+                return ColumnType.STRING;
+            }
+            columnType = valueType;
+        }
+        return null == columnType ? ColumnType.STRING : columnType;
+    }
+
+    /**
+     * Rows View
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    private class Rows extends AbstractList<FileRecord> {
+
+        @Override
+        public FileRecord get(final int index) {
+            if (index < 0 || index >= rowCount) {
+                throw new IndexOutOfBoundsException(
+                        "Index: " + index + " | Size: " + rowCount);
+            }
+            return new FileRecord(new Row(index));
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+
+        @Override
+        public boolean add(final FileRecord fileRecord) {
+            appendRecord(fileRecord.getData());
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public FileRecord remove(final int index) {
+            FileRecord fileRecord = new FileRecord(
+                    new ArrayList<>(get(index).getData()));
+            for (final ColumnVector column : columns) {
+                column.remove(index);
+            }
+            rowCount--;
+            modCount++;
+            return fileRecord;
+        }
+    }
+
+    /**
+     * Row View
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    private class Row extends AbstractList<Object> {
+
+        private final int rowIndex;
+
+        /******************************** Constructor *********************************/
+        private Row(final int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        @Override
+        public Object get(final int index) {
+            return columns.get(index).get(rowIndex);
+        }
+
+        @Override
+        public Object set(final int index, final Object value) {
+            return columns.get(index).set(rowIndex, value);
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ukubuka.core.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Compression
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@JsonFormat(shape = JsonFormat.Shape.OBJECT)
+public enum Compression {
+
+    NONE("none"), GZIP("gzip", ".gz", ".gzip"), DEFLATE("deflate", ".deflate",
+            ".zz");
+
+    /* Compression */
+    private String compression;
+
+    /* File Extensions */
+    private String[] extensions;
+
+    /********** Private Constructor **********/
+    private Compression(final String compression, final String... extensions) {
+        this.compression = compression;
+        this.extensions = extensions;
+    }
+
+    /**
+     * @return the compression
+     */
+    public String getCompression() {
+        return compression;
+    }
+
+    /**
+     * Decompress
+     * 
+     * @param inputStream
+     * @return Stream Inflating The Input As It Is Read
+     * @throws IOException
+     */
+    public InputStream decompress(final InputStream inputStream)
+            throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPInputStream(inputStream,
+                        Constants.COMPRESSION_BUFFER_SIZE);
+            case DEFLATE:
+                return new InflaterInputStream(inputStream);
+            default:
+                return inputStream;
+        }
+    }
+
+    /**
+     * Compress
+     * 
+     * @param outputStream
+     * @return Stream Deflating The Output As It Is Written
+     * @throws IOException
+     */
+    public OutputStream compress(final OutputStream outputStream)
+            throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(outputStream,
+                        Constants.COMPRESSION_BUFFER_SIZE);
+            case DEFLATE:
+                return new DeflaterOutputStream(outputStream);
+            default:
+                return outputStream;
+        }
+    }
+
+    /**
+     * Get Compression
+     * 
+     * A declared compression wins, otherwise it is told by the file
+     * extension.
+     * 
+     * @param compression
+     * @param completeFileName
+     * @return Compression
+     */
+    public static Compression getCompression(final String compression,
+            final String completeFileName) {
+        if (null != compression && !compression.isEmpty()) {
+            for (final Compression value : Compression.values()) {
+                if (value.getCompression().equalsIgnoreCase(compression)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException(
+                    "Unsupported Compression: " + compression);
+        }
+
+        String fileName = null == completeFileName ? ""
+                : completeFileName.toLowerCase(Locale.ROOT);
+        for (final Compression value : Compression.values()) {
+            for (final String extension : value.extensions) {
+                if (fileName.endsWith(extension)) {
+                    return value;
+                }
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ukubuka.core.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Decimal Column Vector
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class DecimalColumnVector extends NumericColumnVector {
+
+    private BigDecimal[] values;
+
+    /***************************** Default Constructor ****************************/
+    public DecimalColumnVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /******************************** Constructor *********************************/
+    public DecimalColumnVector(final int capacity) {
+        this.values = new BigDecimal[Math.max(1, capacity)];
+    }
+
+    /********************************* Override(s) ********************************/
+    @Override
+    public ColumnType getType() {
+        return ColumnType.DECIMAL;
+    }
+
+    @Override
+    public BigDecimal sum() {
+        BigDecimal sumValue = BigDecimal.ZERO;
+        for (int i = 0; i < size(); i++) {
+            sumValue = sumValue.add(values[i]);
+        }
+        return sumValue;
+    }
+
+    @Override
+    public BigDecimal min() {
+        if (0 == size()) {
+            return null;
+        }
+        BigDecimal minValue = values[0];
+        for (int i = 1; i < size(); i++) {
+            minValue = minValue.min(values[i]);
+        }
+        return minValue;
+    }
+
+    @Override
+    public BigDecimal max() {
+        if (0 == size()) {
+            return null;
+        }
+        BigDecimal maxValue = values[0];
+        for (int i = 1; i < size(); i++) {
+            maxValue = maxValue.max(values[i]);
+        }
+        return maxValue;
+    }
+
+    @Override
+    protected void grow(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values,
+                    nextCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void store(final int index, final Object value) {
+        values[index] = value instanceof BigDecimal ? (BigDecimal) value
+                : new BigDecimal(String.valueOf(value));
+    }
+
+    @Override
+    protected Object load(final int index) {
+        return values[index];
+    }
+
+    @Override
+    protected void shift(final int index, final int length) {
+        System.arraycopy(values, index + 1, values, index, length);
+        values[index + length] = null;
+    }
+
+    @Override
+    protected void move(final int sourceIndex, final int targetIndex,
+            final int length) {
+        System.arraycopy(values, sourceIndex, values, targetIndex, length);
+    }
+
+    @Override
+    protected void release(final int index) {
+        Arrays.fill(values, index, values.length, null);
+    }
+}
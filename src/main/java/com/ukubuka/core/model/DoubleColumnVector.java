@@ -0,0 +1,106 @@
+package com.ukubuka.core.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Double Column Vector
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class DoubleColumnVector extends NumericColumnVector {
+
+    private double[] values;
+
+    /***************************** Default Constructor ****************************/
+    public DoubleColumnVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /******************************** Constructor *********************************/
+    public DoubleColumnVector(final int capacity) {
+        this.values = new double[Math.max(1, capacity)];
+    }
+
+    /**
+     * Get Double
+     * 
+     * @param index
+     * @return Primitive Value
+     */
+    public double getDouble(final int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /********************************* Override(s) ********************************/
+    @Override
+    public ColumnType getType() {
+        return ColumnType.DOUBLE;
+    }
+
+    @Override
+    public BigDecimal sum() {
+        /* Exact Decimal Sum, Same As Adding The Printed Values */
+        BigDecimal sumValue = BigDecimal.ZERO;
+        for (int i = 0; i < size(); i++) {
+            sumValue = sumValue.add(BigDecimal.valueOf(values[i]));
+        }
+        return sumValue;
+    }
+
+    @Override
+    public BigDecimal min() {
+        if (0 == size()) {
+            return null;
+        }
+        double minValue = values[0];
+        for (int i = 1; i < size(); i++) {
+            minValue = Math.min(minValue, values[i]);
+        }
+        return BigDecimal.valueOf(minValue);
+    }
+
+    @Override
+    public BigDecimal max() {
+        if (0 == size()) {
+            return null;
+        }
+        double maxValue = values[0];
+        for (int i = 1; i < size(); i++) {
+            maxValue = Math.max(maxValue, values[i]);
+        }
+        return BigDecimal.valueOf(maxValue);
+    }
+
+    @Override
+    protected void grow(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values,
+                    nextCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void store(final int index, final Object value) {
+        values[index] = value instanceof Double ? (Double) value
+                : Double.parseDouble(String.valueOf(value));
+    }
+
+    @Override
+    protected Object load(final int index) {
+        return values[index];
+    }
+
+    @Override
+    protected void shift(final int index, final int length) {
+        System.arraycopy(values, index + 1, values, index, length);
+    }
+
+    @Override
+    protected void move(final int sourceIndex, final int targetIndex,
+            final int length) {
+        System.arraycopy(values, sourceIndex, values, targetIndex, length);
+    }
+}
@@ -1,17 +1,64 @@
 package com.ukubuka.core.model;
 
+import java.util.Map;
+
 /**
  * Extract Flags
  * 
+ * <ul>
+ * <li>fileEncoding: charset of the file, UTF-8 by default</li>
+ * <li>endLineDelimiter: reserved, records always end at a line break</li>
+ * <li>fileDelimiter: field delimiter of a delimited file</li>
+ * <li>withHeader: whether the first record is the header, true by
+ * default</li>
+ * <li>source: where the file lives, a local file by default</li>
+ * <li>streaming: read a delimited file from a buffered channel instead of
+ * loading it into one string. When the extract is only transformed row by
+ * row and copied into one CSV or JSON load, each batch is transformed and
+ * written before the next one is read</li>
+ * <li>batchSize: most records tokenized per batch, 10000 by default</li>
+ * <li>columnar: hold the records as typed column vectors</li>
+ * <li>columnTypes: declared type of each column by name, implies
+ * columnar</li>
+ * <li>inferTypes: infer the column types from a sample of the records,
+ * implies columnar</li>
+ * <li>parallel: split an uncompressed delimited file into chunks read on
+ * several threads</li>
+ * <li>parallelism: threads of a parallel read, every processor when not
+ * positive</li>
+ * <li>chunkSize: smallest chunk of a parallel read in bytes, 8 MB by
+ * default</li>
+ * <li>memoryMapped: decode the file straight from mapped segments</li>
+ * <li>compression: none, gzip or deflate, guessed from the file extension
+ * when absent</li>
+ * <li>projection: columns the transforms read, set by the pipeline</li>
+ * <li>rowFilter: row filter pushed into the parser, set by the
+ * pipeline</li>
+ * </ul>
+ * 
  * @author agrawroh
  * @version v1.0
  */
 public enum ExtractFlags {
-    FILE_ENCODING("fileEncoding"), FILE_END_LINE_DELIMITER("endLineDelimiter"), FILE_DELIMITER(
-            "fileDelimiter"), FILE_CONTAINS_HEADER("withHeader"), SOURCE(
-            "source");
+    FILE_ENCODING("fileEncoding"),
+    FILE_END_LINE_DELIMITER("endLineDelimiter"),
+    FILE_DELIMITER("fileDelimiter"),
+    FILE_CONTAINS_HEADER("withHeader"),
+    SOURCE("source"),
+    STREAMING("streaming"),
+    BATCH_SIZE("batchSize"),
+    COLUMNAR("columnar"),
+    COLUMN_TYPES("columnTypes"),
+    INFER_TYPES("inferTypes"),
+    PARALLEL("parallel"),
+    PARALLELISM("parallelism"),
+    CHUNK_SIZE("chunkSize"),
+    MEMORY_MAPPED("memoryMapped"),
+    COMPRESSION("compression"),
+    PROJECTION("projection"),
+    ROW_FILTER("rowFilter");
 
-    /* File Type */
+    /* Flag */
     private String flag;
 
     /********** Private Constructor **********/
@@ -25,4 +72,18 @@ public enum ExtractFlags {
     public String getFlag() {
         return flag;
     }
+
+    /**
+     * Get Flag Value
+     * 
+     * @param flags
+     * @param defaultValue
+     * @return Flag Value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(final Map<String, Object> flags,
+            final T defaultValue) {
+        Object value = null == flags ? null : flags.get(flag);
+        return null == value ? defaultValue : (T) value;
+    }
 }
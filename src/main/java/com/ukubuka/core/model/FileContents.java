@@ -1,12 +1,21 @@
 package com.ukubuka.core.model;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 /**
  * File Contents
  * 
+ * Column deletes, moves and swaps only rearrange the header and a mapping
+ * from each column to the field of the row holding it. The rows themselves
+ * are rearranged once, the next time they are read, so a chain of
+ * structural transforms walks the rows a single time.
+ * 
  * @author agrawroh
  * @version v1.0
  */
@@ -15,6 +24,8 @@ public class FileContents {
     private List<String> header;
     private List<FileRecord> data;
     private Map<String, Object> aggregations = new HashMap<>();
+    private List<Integer> columnMapping;
+    private int mappedWidth;
 
     /***************************** Default Constructor ****************************/
     public FileContents() {
@@ -39,6 +50,7 @@ public class FileContents {
      *            the header to set
      */
     public void setHeader(List<String> header) {
+        applyColumnMapping();
         this.header = header;
     }
 
@@ -46,14 +58,23 @@ public class FileContents {
      * @return the data
      */
     public List<FileRecord> getData() {
+        applyColumnMapping();
         return data;
     }
 
+    /**
+     * @return the number of rows, without rearranging them
+     */
+    public int getRowCount() {
+        return null == data ? 0 : data.size();
+    }
+
     /**
      * @param data
      *            the data to set
      */
     public void setData(List<FileRecord> data) {
+        applyColumnMapping();
         this.data = data;
     }
     
@@ -70,4 +91,132 @@ public class FileContents {
     public void setAggregations(Map<String, Object> aggregations) {
         this.aggregations = aggregations;
     }
+
+    /**
+     * Add Column
+     * 
+     * @param columnName
+     * @param values
+     */
+    public void addColumn(final String columnName, final List<Object> values) {
+        applyColumnMapping();
+        header.add(columnName);
+        Iterator<Object> valuesIterator = values.iterator();
+        for (final FileRecord fileRecord : data) {
+            fileRecord.getData().add(valuesIterator.next());
+        }
+    }
+
+    /**
+     * Delete Column
+     * 
+     * @param index
+     */
+    public void deleteColumn(final int index) {
+        List<Integer> mapping = getColumnMapping();
+        header.remove(index);
+        mapping.remove(index);
+    }
+
+    /**
+     * Move Column
+     * 
+     * @param sourceIndex
+     * @param targetIndex
+     */
+    public void moveColumn(final int sourceIndex, final int targetIndex) {
+        List<Integer> mapping = getColumnMapping();
+        header.add(targetIndex, header.remove(sourceIndex));
+        mapping.add(targetIndex, mapping.remove(sourceIndex));
+    }
+
+    /**
+     * Swap Columns
+     * 
+     * @param sourceIndex
+     * @param targetIndex
+     */
+    public void swapColumns(final int sourceIndex, final int targetIndex) {
+        List<Integer> mapping = getColumnMapping();
+        Collections.swap(header, sourceIndex, targetIndex);
+        Collections.swap(mapping, sourceIndex, targetIndex);
+    }
+
+    /**
+     * Retain Rows
+     * 
+     * Keeps the rows whose index is set, in order, by moving each kept row
+     * forward once and dropping the tail in one go.
+     * 
+     * @param keptRows
+     */
+    public void retainRows(final BitSet keptRows) {
+        int keptCount = 0;
+        for (int i = 0; i < data.size(); i++) {
+            if (keptRows.get(i)) {
+                if (keptCount != i) {
+                    data.set(keptCount, data.get(i));
+                }
+                keptCount++;
+            }
+        }
+        data.subList(keptCount, data.size()).clear();
+    }
+
+    /**
+     * Get Column Mapping
+     * 
+     * @return Field Of The Row Each Column Is Read From
+     */
+    private List<Integer> getColumnMapping() {
+        if (null == columnMapping) {
+            mappedWidth = header.size();
+            columnMapping = new ArrayList<>(mappedWidth);
+            for (int i = 0; i < mappedWidth; i++) {
+                columnMapping.add(i);
+            }
+        }
+        return columnMapping;
+    }
+
+    /**
+     * Apply Column Mapping
+     * 
+     * Rearranges the fields of every row in place. Fields past the columns
+     * the mapping was started with stay at the end of the row, columns a
+     * short row does not have are left out of it.
+     */
+    private void applyColumnMapping() {
+        if (null == columnMapping) {
+            return;
+        }
+        List<Integer> mapping = columnMapping;
+        columnMapping = null;
+        if (null == data) {
+            return;
+        }
+        for (final FileRecord fileRecord : data) {
+            List<Object> values = fileRecord.getData();
+            Object[] fields = values.toArray();
+            if (mapping.size() == mappedWidth
+                    && fields.length >= mappedWidth) {
+                /* Same Width, Fixed Size Rows Stay Usable */
+                for (int i = 0; i < mappedWidth; i++) {
+                    values.set(i, fields[mapping.get(i)]);
+                }
+                continue;
+            }
+
+            /* Short Rows Keep Only The Fields They Have */
+            values.clear();
+            for (final Integer field : mapping) {
+                if (field < fields.length) {
+                    values.add(fields[field]);
+                }
+            }
+            for (int i = mappedWidth; i < fields.length; i++) {
+                values.add(fields[i]);
+            }
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.ukubuka.core.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Int Column Vector
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class IntColumnVector extends NumericColumnVector {
+
+    private int[] values;
+
+    /***************************** Default Constructor ****************************/
+    public IntColumnVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /******************************** Constructor *********************************/
+    public IntColumnVector(final int capacity) {
+        this.values = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Get Int
+     * 
+     * @param index
+     * @return Primitive Value
+     */
+    public int getInt(final int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /********************************* Override(s) ********************************/
+    @Override
+    public ColumnType getType() {
+        return ColumnType.INT;
+    }
+
+    @Override
+    public BigDecimal sum() {
+        long sumValue = 0;
+        for (int i = 0; i < size(); i++) {
+            sumValue += values[i];
+        }
+        return BigDecimal.valueOf(sumValue);
+    }
+
+    @Override
+    public BigDecimal min() {
+        if (0 == size()) {
+            return null;
+        }
+        int minValue = Integer.MAX_VALUE;
+        for (int i = 0; i < size(); i++) {
+            minValue = Math.min(minValue, values[i]);
+        }
+        return BigDecimal.valueOf(minValue);
+    }
+
+    @Override
+    public BigDecimal max() {
+        if (0 == size()) {
+            return null;
+        }
+        int maxValue = Integer.MIN_VALUE;
+        for (int i = 0; i < size(); i++) {
+            maxValue = Math.max(maxValue, values[i]);
+        }
+        return BigDecimal.valueOf(maxValue);
+    }
+
+    @Override
+    protected void grow(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values,
+                    nextCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void store(final int index, final Object value) {
+        values[index] = value instanceof Integer ? (Integer) value
+                : Integer.parseInt(String.valueOf(value));
+    }
+
+    @Override
+    protected Object load(final int index) {
+        return values[index];
+    }
+
+    @Override
+    protected void shift(final int index, final int length) {
+        System.arraycopy(values, index + 1, values, index, length);
+    }
+
+    @Override
+    protected void move(final int sourceIndex, final int targetIndex,
+            final int length) {
+        System.arraycopy(values, sourceIndex, values, targetIndex, length);
+    }
+}
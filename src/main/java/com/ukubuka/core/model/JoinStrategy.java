@@ -0,0 +1,30 @@
+package com.ukubuka.core.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Join Strategy
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@JsonFormat(shape = JsonFormat.Shape.OBJECT)
+public enum JoinStrategy {
+
+    HASH("hash"), SORT_MERGE("sortMerge");
+
+    /* Join Strategy */
+    private String strategy;
+
+    /********** Private Constructor **********/
+    private JoinStrategy(final String strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * @return the strategy
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ukubuka.core.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Join Type
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@JsonFormat(shape = JsonFormat.Shape.OBJECT)
+public enum JoinType {
+
+    INNER("inner"), LEFT("left"), RIGHT("right"), FULL("full");
+
+    /* Join Type */
+    private String type;
+
+    /********** Private Constructor **********/
+    private JoinType(final String type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return whether unmatched left rows are kept
+     */
+    public boolean keepsLeft() {
+        return LEFT == this || FULL == this;
+    }
+
+    /**
+     * @return whether unmatched right rows are kept
+     */
+    public boolean keepsRight() {
+        return RIGHT == this || FULL == this;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ukubuka.core.model;
+
+import java.util.Map;
+
+/**
+ * Load Flags
+ * 
+ * <ul>
+ * <li>spillThreshold: rows above which the distinct filter spills its
+ * fingerprints to partition files, never spilling when not positive</li>
+ * <li>spillDirectory: where the distinct filter spills, the temporary
+ * directory by default</li>
+ * <li>prettyPrint: indent a JSON file, true by default</li>
+ * <li>jsonLines: write one JSON object per line instead of an array</li>
+ * <li>compression: none, gzip or deflate, guessed from the file extension
+ * when absent. Columnar blocks are deflated unless told otherwise</li>
+ * <li>blockSize: values per block of a columnar file, 65536 by
+ * default</li>
+ * </ul>
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public enum LoadFlags {
+    SPILL_THRESHOLD("spillThreshold"),
+    SPILL_DIRECTORY("spillDirectory"),
+    PRETTY_PRINT("prettyPrint"),
+    JSON_LINES("jsonLines"),
+    COMPRESSION("compression"),
+    BLOCK_SIZE("blockSize");
+
+    /* Flag */
+    private String flag;
+
+    /********** Private Constructor **********/
+    private LoadFlags(final String flag) {
+        this.flag = flag;
+    }
+
+    /**
+     * @return the flag
+     */
+    public String getFlag() {
+        return flag;
+    }
+
+    /**
+     * Get Flag Value
+     * 
+     * @param flags
+     * @param defaultValue
+     * @return Flag Value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(final Map<String, Object> flags,
+            final T defaultValue) {
+        Object value = null == flags ? null : flags.get(flag);
+        return null == value ? defaultValue : (T) value;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ukubuka.core.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Long Column Vector
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class LongColumnVector extends NumericColumnVector {
+
+    private long[] values;
+
+    /***************************** Default Constructor ****************************/
+    public LongColumnVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /******************************** Constructor *********************************/
+    public LongColumnVector(final int capacity) {
+        this.values = new long[Math.max(1, capacity)];
+    }
+
+    /**
+     * Get Long
+     * 
+     * @param index
+     * @return Primitive Value
+     */
+    public long getLong(final int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /********************************* Override(s) ********************************/
+    @Override
+    public ColumnType getType() {
+        return ColumnType.LONG;
+    }
+
+    @Override
+    public BigDecimal sum() {
+        long sumValue = 0;
+        int i = 0;
+        try {
+            for (; i < size(); i++) {
+                sumValue = Math.addExact(sumValue, values[i]);
+            }
+            return BigDecimal.valueOf(sumValue);
+        } catch (ArithmeticException ex) {
+            /* Continue In BigDecimal Once The Long Overflows */
+            BigDecimal bigSumValue = BigDecimal.valueOf(sumValue);
+            for (; i < size(); i++) {
+                bigSumValue = bigSumValue.add(BigDecimal.valueOf(values[i]));
+            }
+            return bigSumValue;
+        }
+    }
+
+    @Override
+    public BigDecimal min() {
+        if (0 == size()) {
+            return null;
+        }
+        long minValue = Long.MAX_VALUE;
+        for (int i = 0; i < size(); i++) {
+            minValue = Math.min(minValue, values[i]);
+        }
+        return BigDecimal.valueOf(minValue);
+    }
+
+    @Override
+    public BigDecimal max() {
+        if (0 == size()) {
+            return null;
+        }
+        long maxValue = Long.MIN_VALUE;
+        for (int i = 0; i < size(); i++) {
+            maxValue = Math.max(maxValue, values[i]);
+        }
+        return BigDecimal.valueOf(maxValue);
+    }
+
+    @Override
+    protected void grow(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values,
+                    nextCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void store(final int index, final Object value) {
+        values[index] = value instanceof Long || value instanceof Integer
+                ? ((Number) value).longValue()
+                : Long.parseLong(String.valueOf(value));
+    }
+
+    @Override
+    protected Object load(final int index) {
+        return values[index];
+    }
+
+    @Override
+    protected void shift(final int index, final int length) {
+        System.arraycopy(values, index + 1, values, index, length);
+    }
+
+    @Override
+    protected void move(final int sourceIndex, final int targetIndex,
+            final int length) {
+        System.arraycopy(values, sourceIndex, values, targetIndex, length);
+    }
+}
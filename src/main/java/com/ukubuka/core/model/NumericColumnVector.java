@@ -0,0 +1,36 @@
+package com.ukubuka.core.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Numeric Column Vector
+ * 
+ * Aggregates straight over the primitive values. Results carry the same
+ * value and scale as converting each boxed value to a BigDecimal would.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public abstract class NumericColumnVector extends ColumnVector {
+
+    /**
+     * Sum
+     * 
+     * @return Sum Of All Values
+     */
+    public abstract BigDecimal sum();
+
+    /**
+     * Minimum
+     * 
+     * @return Smallest Value, Null When Empty
+     */
+    public abstract BigDecimal min();
+
+    /**
+     * Maximum
+     * 
+     * @return Largest Value, Null When Empty
+     */
+    public abstract BigDecimal max();
+}
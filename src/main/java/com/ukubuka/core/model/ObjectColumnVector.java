@@ -0,0 +1,65 @@
+package com.ukubuka.core.model;
+
+import java.util.Arrays;
+
+/**
+ * Object Column Vector
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class ObjectColumnVector extends ColumnVector {
+
+    private Object[] values;
+
+    /***************************** Default Constructor ****************************/
+    public ObjectColumnVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /******************************** Constructor *********************************/
+    public ObjectColumnVector(final int capacity) {
+        this.values = new Object[Math.max(1, capacity)];
+    }
+
+    /********************************* Override(s) ********************************/
+    @Override
+    public ColumnType getType() {
+        return ColumnType.STRING;
+    }
+
+    @Override
+    protected void grow(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values,
+                    nextCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void store(final int index, final Object value) {
+        values[index] = value;
+    }
+
+    @Override
+    protected Object load(final int index) {
+        return values[index];
+    }
+
+    @Override
+    protected void shift(final int index, final int length) {
+        System.arraycopy(values, index + 1, values, index, length);
+        values[index + length] = null;
+    }
+
+    @Override
+    protected void move(final int sourceIndex, final int targetIndex,
+            final int length) {
+        System.arraycopy(values, sourceIndex, values, targetIndex, length);
+    }
+
+    @Override
+    protected void release(final int index) {
+        Arrays.fill(values, index, values.length, null);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ukubuka.core.model;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
+
+/**
+ * Row Filter
+ * 
+ * The INCLUDE/EXCLUDE row transform of a file, handed to its parser so the
+ * rows it rejects are dropped as they are read instead of after the whole
+ * file is in memory. Its expression is rewritten to read the raw columns the
+ * transformed ones come from. A parser that binds the filter applies it to
+ * every row, after which the transformer leaves it out.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class RowFilter {
+
+    /************************************ Global Variables **********************************/
+    private static final EnumSet<TransformOperation> FILTER_OPERATIONS = EnumSet
+            .of(TransformOperation.INCLUDE, TransformOperation.EXCLUDE);
+    private static final EnumSet<TransformOperation> AGGREGATE_OPERATIONS = EnumSet
+            .of(TransformOperation.SUM, TransformOperation.AVG,
+                    TransformOperation.MIN, TransformOperation.MAX,
+                    TransformOperation.COUNT);
+    private static final String[] ROW_SET_REFERENCES = { "#", "index" };
+
+    private final ColumnProjection projection;
+    private final TransformOperations rowOperation;
+    private final BiFunction<FileRecord, String, Object> evaluator;
+    private boolean applied;
+
+    /****************************** Constructor ******************************/
+    public RowFilter(final List<TransformOperations> columnOperations,
+            final TransformOperations rowOperation,
+            final BiFunction<FileRecord, String, Object> evaluator) {
+        this.projection = new ColumnProjection(columnOperations);
+        this.rowOperation = rowOperation;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Is Pushable
+     * 
+     * Filtering earlier only gives the same rows when nothing before the
+     * filter looks at the set of rows, i.e. no aggregation and no row index.
+     * 
+     * @param columnOperations
+     * @param rowOperation
+     * @return Whether The Row Operation Can Run While Parsing
+     */
+    public static boolean isPushable(
+            final List<TransformOperations> columnOperations,
+            final TransformOperations rowOperation) {
+        if (null == rowOperation
+                || !FILTER_OPERATIONS.contains(rowOperation.getType())
+                || !readsSingleRow(rowOperation.getTarget(),
+                        ROW_SET_REFERENCES)) {
+            return false;
+        }
+        for (final TransformOperations operation : columnOperations) {
+            if (AGGREGATE_OPERATIONS.contains(operation.getType())
+                    || !readsSingleRow(operation.getTarget(),
+                            ROW_SET_REFERENCES[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads Single Row
+     * 
+     * @param expression
+     * @param references
+     * @return Whether The Expression Uses None Of The References
+     */
+    private static boolean readsSingleRow(final String expression,
+            final String... references) {
+        if (null == expression) {
+            return true;
+        }
+        String lowerCaseExpression = expression.toLowerCase(Locale.ROOT);
+        for (final String reference : references) {
+            if (lowerCaseExpression.contains(reference)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bind
+     * 
+     * @param header
+     * @return Test Of Whether A Raw Row Is Kept, Null When The Filter Reads
+     *         Columns The Raw Rows Do Not Have
+     */
+    public Predicate<FileRecord> bind(final List<String> header) {
+        String rawExpression = projection.getRawExpression(header,
+                rowOperation.getTarget());
+        if (null == rawExpression) {
+            return null;
+        }
+        applied = true;
+        boolean isExclude = TransformOperation.EXCLUDE == rowOperation
+                .getType();
+        return fileRecord -> isExclude != (boolean) evaluator.apply(fileRecord,
+                rawExpression);
+    }
+
+    /**
+     * @return whether a parser applied the filter
+     */
+    public boolean isApplied() {
+        return applied;
+    }
+}
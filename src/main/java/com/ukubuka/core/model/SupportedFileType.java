@@ -11,7 +11,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 @JsonFormat(shape = JsonFormat.Shape.OBJECT)
 public enum SupportedFileType {
 
-    XML("xml"), CSV("csv"), JSON("json");
+    XML("xml"), CSV("csv"), JSON("json"), COLUMNAR("columnar");
 
     /* File Type */
     private String fileType;
@@ -27,6 +27,9 @@ public class UkubukaSchema {
     @JsonProperty("visualize")
     private List<Visualization> visualizations;
 
+    @JsonProperty("shortcuts")
+    private Map<String, String> shortcuts;
+
     /**
      * Extract
      * 
@@ -499,6 +502,12 @@ public class UkubukaSchema {
         @JsonProperty("filter")
         private LoadOperation filter;
 
+        @JsonProperty("flags")
+        private Map<String, Object> flags;
+
+        @JsonProperty("join")
+        private Join join;
+
         /**
          * @return the type
          */
@@ -558,6 +567,153 @@ public class UkubukaSchema {
         public void setData(List<String> data) {
             this.data = data;
         }
+
+        /**
+         * @return the flags
+         */
+        public Map<String, Object> getFlags() {
+            return flags;
+        }
+
+        /**
+         * @param flags
+         *            the flags to set
+         */
+        public void setFlags(Map<String, Object> flags) {
+            this.flags = flags;
+        }
+
+        /**
+         * @return the join
+         */
+        public Join getJoin() {
+            return join;
+        }
+
+        /**
+         * @param join
+         *            the join to set
+         */
+        public void setJoin(Join join) {
+            this.join = join;
+        }
+    }
+
+    /**
+     * Join
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Join {
+        @JsonProperty("type")
+        private JoinType type;
+
+        @JsonProperty("left")
+        private String left;
+
+        @JsonProperty("right")
+        private String right;
+
+        @JsonProperty("leftKeys")
+        private List<String> leftKeys;
+
+        @JsonProperty("rightKeys")
+        private List<String> rightKeys;
+
+        @JsonProperty("strategy")
+        private JoinStrategy strategy;
+
+        /**
+         * @return the type
+         */
+        public JoinType getType() {
+            return type;
+        }
+
+        /**
+         * @param type
+         *            the type to set
+         */
+        public void setType(JoinType type) {
+            this.type = type;
+        }
+
+        /**
+         * @return the left
+         */
+        public String getLeft() {
+            return left;
+        }
+
+        /**
+         * @param left
+         *            the left to set
+         */
+        public void setLeft(String left) {
+            this.left = left;
+        }
+
+        /**
+         * @return the right
+         */
+        public String getRight() {
+            return right;
+        }
+
+        /**
+         * @param right
+         *            the right to set
+         */
+        public void setRight(String right) {
+            this.right = right;
+        }
+
+        /**
+         * @return the leftKeys
+         */
+        public List<String> getLeftKeys() {
+            return leftKeys;
+        }
+
+        /**
+         * @param leftKeys
+         *            the leftKeys to set
+         */
+        public void setLeftKeys(List<String> leftKeys) {
+            this.leftKeys = leftKeys;
+        }
+
+        /**
+         * @return the rightKeys
+         */
+        public List<String> getRightKeys() {
+            return rightKeys;
+        }
+
+        /**
+         * @param rightKeys
+         *            the rightKeys to set
+         */
+        public void setRightKeys(List<String> rightKeys) {
+            this.rightKeys = rightKeys;
+        }
+
+        /**
+         * @return the strategy
+         */
+        public JoinStrategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * @param strategy
+         *            the strategy to set
+         */
+        public void setStrategy(JoinStrategy strategy) {
+            this.strategy = strategy;
+        }
     }
 
     /**
@@ -618,4 +774,19 @@ public class UkubukaSchema {
     public void setVisualizations(List<Visualization> visualizations) {
         this.visualizations = visualizations;
     }
+
+    /**
+     * @return the shortcuts
+     */
+    public Map<String, String> getShortcuts() {
+        return shortcuts;
+    }
+
+    /**
+     * @param shortcuts
+     *            the shortcuts to set
+     */
+    public void setShortcuts(Map<String, String> shortcuts) {
+        this.shortcuts = shortcuts;
+    }
 }
@@ -35,6 +35,10 @@ public class UkubukaExtractor implements UkubukaOperations {
     @Qualifier("UkubukaDFileParser")
     private UkubukaParser delimitedFileParser;
 
+    @Autowired
+    @Qualifier("UkubukaColumnarParser")
+    private UkubukaParser columnarFileParser;
+
     /**
      * Perform Operations
      * 
@@ -73,6 +77,11 @@ public class UkubukaExtractor implements UkubukaOperations {
                     fileContents = delimitedFileParser.parseFile(
                             extract.getLocation(), extract.getFlags());
                     break;
+                /* Columnar File */
+                case COLUMNAR:
+                    fileContents = columnarFileParser.parseFile(
+                            extract.getLocation(), extract.getFlags());
+                    break;
                 /* Unsupported File */
                 default:
                     throw new ParserException("File Type Not Supported!");
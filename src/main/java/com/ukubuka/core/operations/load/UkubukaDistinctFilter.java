@@ -0,0 +1,267 @@
+package com.ukubuka.core.operations.load;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Distinct Filter
+ * 
+ * Drops repeated rows while keeping the first occurrence of every row in its
+ * original position. Rows are hashed field by field into a 64 bit fingerprint
+ * and only rows with the same fingerprint are compared, field by field, by
+ * their text.
+ * 
+ * Above the spill threshold the fingerprints are written to partition files
+ * on disk and each partition is deduplicated on its own, so the lookup table
+ * never holds more than one partition.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaDistinctFilter {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaDistinctFilter.class);
+
+    /************************************ Global Variables **********************************/
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int spillThreshold;
+    private final String spillDirectory;
+
+    /****************************** Constructor ******************************/
+    public UkubukaDistinctFilter(final int spillThreshold,
+            final String spillDirectory) {
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Filter Distinct Rows
+     * 
+     * @param fileRecords
+     * @return First Occurrence Of Every Row, In Input Order
+     * @throws WriterException
+     */
+    public List<FileRecord> filter(final List<FileRecord> fileRecords)
+            throws WriterException {
+        if (spillThreshold > 0 && fileRecords.size() > spillThreshold) {
+            try {
+                return filterWithSpill(fileRecords);
+            } catch (IOException ex) {
+                throw new WriterException(ex);
+            }
+        }
+
+        List<FileRecord> distinctRecords = new ArrayList<>();
+        Set<RowKey> seenRows = new HashSet<>();
+        for (final FileRecord fileRecord : fileRecords) {
+            if (seenRows.add(new RowKey(fileRecord.getData()))) {
+                distinctRecords.add(fileRecord);
+            }
+        }
+        return distinctRecords;
+    }
+
+    /**
+     * Filter With Spill
+     * 
+     * @param fileRecords
+     * @return First Occurrence Of Every Row, In Input Order
+     * @throws IOException
+     */
+    private List<FileRecord> filterWithSpill(
+            final List<FileRecord> fileRecords) throws IOException {
+        int partitions = (int) Math.min(Constants.MAXIMUM_SPILL_PARTITIONS,
+                ((long) fileRecords.size() + spillThreshold - 1)
+                        / spillThreshold);
+        Path spillPath = StringUtils.isEmpty(spillDirectory)
+                ? Files.createTempDirectory("ukubuka-distinct")
+                : Files.createTempDirectory(Paths.get(spillDirectory),
+                        "ukubuka-distinct");
+        LOGGER.info("Spilling Fingerprints - Rows: #{} | Partitions: #{}",
+                fileRecords.size(), partitions);
+
+        try {
+            /* Write Fingerprints By Partition */
+            DataOutputStream[] spillStreams = new DataOutputStream[partitions];
+            try {
+                for (int i = 0; i < partitions; i++) {
+                    spillStreams[i] = new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(
+                                    spillPath.resolve(String.valueOf(i)))));
+                }
+                int index = 0;
+                for (final FileRecord fileRecord : fileRecords) {
+                    long fingerprint = fingerprint(fileRecord.getData());
+                    int partition = (int) Math.floorMod(fingerprint,
+                            (long) partitions);
+                    spillStreams[partition].writeLong(fingerprint);
+                    spillStreams[partition].writeInt(index++);
+                }
+            } finally {
+                for (final DataOutputStream spillStream : spillStreams) {
+                    if (null != spillStream) {
+                        spillStream.close();
+                    }
+                }
+            }
+
+            /* Deduplicate Partition By Partition */
+            BitSet firstOccurrences = new BitSet(fileRecords.size());
+            for (int i = 0; i < partitions; i++) {
+                Set<RowKey> seenRows = new HashSet<>();
+                try (DataInputStream partitionStream = new DataInputStream(
+                        new BufferedInputStream(Files.newInputStream(
+                                spillPath.resolve(String.valueOf(i)))))) {
+                    while (true) {
+                        long fingerprint;
+                        try {
+                            fingerprint = partitionStream.readLong();
+                        } catch (EOFException ex) {
+                            break;
+                        }
+                        int index = partitionStream.readInt();
+                        if (seenRows.add(new RowKey(
+                                fileRecords.get(index).getData(),
+                                fingerprint))) {
+                            firstOccurrences.set(index);
+                        }
+                    }
+                }
+            }
+
+            /* Collect First Occurrences In Input Order */
+            List<FileRecord> distinctRecords = new ArrayList<>(
+                    firstOccurrences.cardinality());
+            int index = firstOccurrences.nextSetBit(0);
+            while (index >= 0) {
+                distinctRecords.add(fileRecords.get(index));
+                index = firstOccurrences.nextSetBit(index + 1);
+            }
+            return distinctRecords;
+        } finally {
+            FileSystemUtils.deleteRecursively(spillPath.toFile());
+        }
+    }
+
+    /**
+     * Fingerprint
+     * 
+     * @param data
+     * @return 64 Bit Row Fingerprint
+     */
+    static long fingerprint(final List<Object> data) {
+        if (null == data) {
+            return 0;
+        }
+        long hash = FNV_OFFSET_BASIS ^ data.size();
+        for (final Object value : data) {
+            hash = (hash ^ fieldText(value).hashCode()) * FNV_PRIME;
+            hash = Long.rotateLeft(hash, 31);
+        }
+
+        /* Spread The Bits */
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Same Fields
+     * 
+     * @param data
+     * @param otherData
+     * @return Whether Both Rows Hold The Same Text In Every Field
+     */
+    static boolean sameFields(final List<Object> data,
+            final List<Object> otherData) {
+        if (data == otherData) {
+            return true;
+        }
+        if (null == data || null == otherData
+                || data.size() != otherData.size()) {
+            return false;
+        }
+        for (int i = 0; i < data.size(); i++) {
+            Object value = data.get(i);
+            Object otherValue = otherData.get(i);
+            if (value != otherValue
+                    && !fieldText(value).equals(fieldText(otherValue))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Field Text
+     * 
+     * @param value
+     * @return Field As Written Out
+     */
+    static String fieldText(final Object value) {
+        return value instanceof String ? (String) value
+                : String.valueOf(value);
+    }
+
+    /**
+     * Row Key
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    private static class RowKey {
+
+        private final List<Object> data;
+        private final long fingerprint;
+
+        /******************************** Constructor *********************************/
+        private RowKey(final List<Object> data) {
+            this(data, fingerprint(data));
+        }
+
+        private RowKey(final List<Object> data, final long fingerprint) {
+            this.data = data;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(fingerprint);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof RowKey)) {
+                return false;
+            }
+            RowKey rowKey = (RowKey) object;
+            return fingerprint == rowKey.fingerprint
+                    && sameFields(data, rowKey.data);
+        }
+    }
+}
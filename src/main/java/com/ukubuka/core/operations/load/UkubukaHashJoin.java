@@ -0,0 +1,142 @@
+package com.ukubuka.core.operations.load;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.JoinType;
+
+/**
+ * Ukubuka Hash Join
+ *
+ * The smaller input is loaded into a hash table keyed by the key values and
+ * the larger input probes it row by row, so the joined rows follow the order
+ * of the larger input. Unmatched rows of the build side, when kept, come
+ * last.
+ *
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaHashJoin extends UkubukaJoin {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaHashJoin.class);
+
+    /**
+     * Join Records
+     */
+    @Override
+    protected List<FileRecord> joinRecords(final JoinSide left,
+            final JoinSide right, final JoinType joinType) {
+        /* Build On The Smaller Input */
+        boolean buildLeft = left.getRecords().size() < right.getRecords()
+                .size();
+        LOGGER.info("Hash Join - Type: {} | Left: #{} | Right: #{} | Build: {}",
+                joinType, left.getRecords().size(), right.getRecords().size(),
+                buildLeft ? "Left" : "Right");
+        return buildLeft ? hashJoin(left, right, true)
+                : hashJoin(right, left, false);
+    }
+
+    /**
+     * Hash Join
+     *
+     * @param build
+     * @param probe
+     * @param buildLeft
+     * @return Joined Records
+     */
+    private List<FileRecord> hashJoin(final JoinSide build,
+            final JoinSide probe, final boolean buildLeft) {
+        List<FileRecord> buildRecords = build.getRecords();
+        List<FileRecord> probeRecords = probe.getRecords();
+
+        /* Build Hash Table, Chaining Rows With Equal Keys In Input Order */
+        Map<JoinKey, Integer> chainHeads = new HashMap<>();
+        int[] chainNext = new int[buildRecords.size()];
+        for (int i = buildRecords.size() - 1; i >= 0; i--) {
+            Integer chainHead = chainHeads.put(
+                    new JoinKey(build.getKeyValues(buildRecords.get(i))), i);
+            chainNext[i] = null == chainHead ? -1 : chainHead;
+        }
+
+        /* Probe */
+        List<FileRecord> joinedRecords = new ArrayList<>(probeRecords.size());
+        BitSet matchedRecords = new BitSet(buildRecords.size());
+        for (final FileRecord probeRecord : probeRecords) {
+            Integer chainHead = chainHeads
+                    .get(new JoinKey(probe.getKeyValues(probeRecord)));
+            if (null == chainHead) {
+                if (probe.keepsUnmatched()) {
+                    joinedRecords.add(buildLeft
+                            ? combine(build.emptyRow(), probe.row(probeRecord))
+                            : combine(probe.row(probeRecord),
+                                    build.emptyRow()));
+                }
+                continue;
+            }
+            for (int i = chainHead; i >= 0; i = chainNext[i]) {
+                matchedRecords.set(i);
+                joinedRecords.add(buildLeft
+                        ? combine(build.row(buildRecords.get(i)),
+                                probe.row(probeRecord))
+                        : combine(probe.row(probeRecord),
+                                build.row(buildRecords.get(i))));
+            }
+        }
+
+        /* Unmatched Build Rows */
+        if (build.keepsUnmatched()) {
+            int i = matchedRecords.nextClearBit(0);
+            while (i < buildRecords.size()) {
+                joinedRecords.add(buildLeft
+                        ? combine(build.row(buildRecords.get(i)),
+                                probe.emptyRow())
+                        : combine(probe.emptyRow(),
+                                build.row(buildRecords.get(i))));
+                i = matchedRecords.nextClearBit(i + 1);
+            }
+        }
+        return joinedRecords;
+    }
+
+    /**
+     * Join Key
+     *
+     * @author agrawroh
+     * @version v1.0
+     */
+    private static class JoinKey {
+
+        private final List<Object> keyValues;
+        private final long fingerprint;
+
+        /******************************** Constructor *********************************/
+        private JoinKey(final List<Object> keyValues) {
+            this.keyValues = keyValues;
+            this.fingerprint = UkubukaDistinctFilter.fingerprint(keyValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(fingerprint);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey joinKey = (JoinKey) object;
+            return fingerprint == joinKey.fingerprint && UkubukaDistinctFilter
+                    .sameFields(keyValues, joinKey.keyValues);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.ukubuka.core.operations.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.JoinType;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Join
+ * 
+ * Equi-joins two file contents on their key columns. Keys are compared by
+ * their text, missing sides of outer joins are padded with empty values and
+ * right columns whose name is already taken by a left column are prefixed
+ * with the right id.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public abstract class UkubukaJoin {
+
+    /**
+     * Join
+     * 
+     * @param left
+     * @param right
+     * @param rightId
+     * @param leftKeys
+     * @param rightKeys
+     * @param joinType
+     * @return Joined File Contents
+     * @throws WriterException
+     */
+    public FileContents join(final FileContents left, final FileContents right,
+            final String rightId, final List<String> leftKeys,
+            final List<String> rightKeys, final JoinType joinType)
+            throws WriterException {
+        int[] leftKeyIndices = getKeyIndices(left.getHeader(), leftKeys);
+        int[] rightKeyIndices = getKeyIndices(right.getHeader(), rightKeys);
+        if (leftKeyIndices.length != rightKeyIndices.length) {
+            throw new WriterException("Join Key Count Mismatch | Left: "
+                    + leftKeys + " | Right: " + rightKeys);
+        }
+
+        List<FileRecord> joinedRecords = joinRecords(
+                new JoinSide(left, leftKeyIndices, joinType.keepsLeft()),
+                new JoinSide(right, rightKeyIndices, joinType.keepsRight()),
+                joinType);
+        return new FileContents(
+                joinHeader(left.getHeader(), right.getHeader(), rightId),
+                joinedRecords);
+    }
+
+    /**
+     * Join Records
+     * 
+     * @param left
+     * @param right
+     * @param joinType
+     * @return Joined Records
+     * @throws WriterException
+     */
+    protected abstract List<FileRecord> joinRecords(JoinSide left,
+            JoinSide right, JoinType joinType) throws WriterException;
+
+    /**
+     * Get Key Indices
+     * 
+     * @param header
+     * @param keys
+     * @return Key Column Indices
+     * @throws WriterException
+     */
+    private static int[] getKeyIndices(final List<String> header,
+            final List<String> keys) throws WriterException {
+        if (null == keys || keys.isEmpty()) {
+            throw new WriterException("Join Keys Missing!");
+        }
+        int[] keyIndices = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyIndices[i] = header.indexOf(keys.get(i));
+            if (keyIndices[i] < 0) {
+                throw new WriterException(
+                        "Join Key Not Found: " + keys.get(i));
+            }
+        }
+        return keyIndices;
+    }
+
+    /**
+     * Join Header
+     * 
+     * @param leftHeader
+     * @param rightHeader
+     * @param rightId
+     * @return Joined Header
+     */
+    private static List<String> joinHeader(final List<String> leftHeader,
+            final List<String> rightHeader, final String rightId) {
+        List<String> header = new ArrayList<>(leftHeader);
+        for (final String column : rightHeader) {
+            header.add(leftHeader.contains(column) ? rightId + "." + column
+                    : column);
+        }
+        return header;
+    }
+
+    /**
+     * Combine Rows
+     * 
+     * @param leftRow
+     * @param rightRow
+     * @return Joined Record
+     */
+    protected static FileRecord combine(final List<Object> leftRow,
+            final List<Object> rightRow) {
+        List<Object> data = new ArrayList<>(leftRow.size() + rightRow.size());
+        data.addAll(leftRow);
+        data.addAll(rightRow);
+        return new FileRecord(data);
+    }
+
+    /**
+     * Join Side
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    protected static class JoinSide {
+
+        private final FileContents fileContents;
+        private final int[] keyIndices;
+        private final boolean keepUnmatched;
+        private final int width;
+
+        /******************************** Constructor *********************************/
+        JoinSide(final FileContents fileContents, final int[] keyIndices,
+                final boolean keepUnmatched) {
+            this.fileContents = fileContents;
+            this.keyIndices = keyIndices;
+            this.keepUnmatched = keepUnmatched;
+            this.width = fileContents.getHeader().size();
+        }
+
+        /**
+         * @return the records
+         */
+        List<FileRecord> getRecords() {
+            return fileContents.getData();
+        }
+
+        /**
+         * @return whether unmatched rows are kept
+         */
+        boolean keepsUnmatched() {
+            return keepUnmatched;
+        }
+
+        /**
+         * Get Key Values
+         * 
+         * @param fileRecord
+         * @return Key Values, Empty Past The End Of A Short Row
+         */
+        List<Object> getKeyValues(final FileRecord fileRecord) {
+            List<Object> data = fileRecord.getData();
+            List<Object> keyValues = new ArrayList<>(keyIndices.length);
+            for (final int keyIndex : keyIndices) {
+                keyValues.add(keyIndex < data.size() ? data.get(keyIndex)
+                        : Constants.EMPTY_STRING);
+            }
+            return keyValues;
+        }
+
+        /**
+         * Get Row
+         * 
+         * @param fileRecord
+         * @return Row Padded To The Header Width
+         */
+        List<Object> row(final FileRecord fileRecord) {
+            List<Object> data = fileRecord.getData();
+            if (data.size() >= width) {
+                return data.size() == width ? data : data.subList(0, width);
+            }
+            List<Object> row = new ArrayList<>(width);
+            row.addAll(data);
+            row.addAll(Collections.nCopies(width - data.size(),
+                    Constants.EMPTY_STRING));
+            return row;
+        }
+
+        /**
+         * @return row of empty values
+         */
+        List<Object> emptyRow() {
+            return Collections.nCopies(width, Constants.EMPTY_STRING);
+        }
+    }
+}
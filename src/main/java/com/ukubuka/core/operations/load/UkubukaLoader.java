@@ -1,7 +1,6 @@
 package com.ukubuka.core.operations.load;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -13,13 +12,20 @@ import org.springframework.stereotype.Component;
 import com.ukubuka.core.exception.ParserException;
 import com.ukubuka.core.exception.PipelineException;
 import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.Compression;
 import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.JoinStrategy;
+import com.ukubuka.core.model.JoinType;
+import com.ukubuka.core.model.LoadFlags;
 import com.ukubuka.core.model.LoadOperation;
 import com.ukubuka.core.model.SupportedFileType;
 import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Join;
 import com.ukubuka.core.model.UkubukaSchema.Load;
 import com.ukubuka.core.operations.UkubukaOperations;
+import com.ukubuka.core.utilities.Constants;
+import com.ukubuka.core.writer.UkubukaRecordSink;
 import com.ukubuka.core.writer.UkubukaWriter;
 
 /**
@@ -84,19 +90,35 @@ public class UkubukaLoader implements UkubukaOperations {
         /* Check Whether Valid Load Operations */
         LOGGER.info("Performing Load: HC{}", load.hashCode());
 
+        /* Check Flag For DISTINCT */
+        UkubukaDistinctFilter distinctFilter = LoadOperation.DISTINCT == load
+                .getOperations().getFilter()
+                        ? getDistinctFilter(load.getOperations().getFlags())
+                        : null;
+
         /* Get File Contents */
-        FileContents fileContents = new FileContents(new ArrayList<String>(),
-                new ArrayList<FileRecord>());
-        fileContents.setHeader(
-                dataFiles.get(load.getOperations().getHeader()).getHeader());
-
-        /* Iterate Data Sources */
-        for (final String fileId : load.getOperations().getData()) {
-            /* Check Flag For DISTINCT */
-            fileContents.getData().addAll(
-                    LoadOperation.DISTINCT == load.getOperations().getFilter()
-                            ? new HashSet<>(dataFiles.get(fileId).getData())
-                            : dataFiles.get(fileId).getData());
+        FileContents fileContents;
+        if (LoadOperation.JOIN == load.getOperations().getType()
+                && null != load.getOperations().getJoin()) {
+            fileContents = performJoin(load.getOperations().getJoin(),
+                    dataFiles);
+            if (null != distinctFilter) {
+                fileContents.setData(
+                        distinctFilter.filter(fileContents.getData()));
+            }
+        } else {
+            fileContents = new FileContents(new ArrayList<String>(),
+                    new ArrayList<FileRecord>());
+            fileContents.setHeader(dataFiles
+                    .get(load.getOperations().getHeader()).getHeader());
+
+            /* Iterate Data Sources */
+            for (final String fileId : load.getOperations().getData()) {
+                fileContents.getData().addAll(null == distinctFilter
+                        ? dataFiles.get(fileId).getData()
+                        : distinctFilter
+                                .filter(dataFiles.get(fileId).getData()));
+            }
         }
 
         /* Save Local Store Copy */
@@ -106,6 +128,66 @@ public class UkubukaLoader implements UkubukaOperations {
         writeFile(load, fileContents);
     }
 
+    /**
+     * Perform Join
+     * 
+     * @param join
+     * @param dataFiles
+     * @return Joined File Contents
+     * @throws WriterException
+     */
+    private FileContents performJoin(final Join join,
+            final Map<String, FileContents> dataFiles) throws WriterException {
+        FileContents left = dataFiles.get(join.getLeft());
+        FileContents right = dataFiles.get(join.getRight());
+        if (null == left || null == right) {
+            throw new WriterException("Join Input Not Found | Left: "
+                    + join.getLeft() + " | Right: " + join.getRight());
+        }
+        return getJoin(join).join(left, right,
+                join.getRight(),
+                join.getLeftKeys(),
+                null == join.getRightKeys() ? join.getLeftKeys()
+                        : join.getRightKeys(),
+                null == join.getType() ? JoinType.INNER : join.getType());
+    }
+
+    /**
+     * Get Join
+     * 
+     * Joins are hashed unless a sort merge is declared. Both build on inputs
+     * already in memory, so neither is picked by input size.
+     * 
+     * @param join
+     * @return Join Implementation
+     */
+    private UkubukaJoin getJoin(final Join join) {
+        JoinStrategy strategy = null == join.getStrategy() ? JoinStrategy.HASH
+                : join.getStrategy();
+        LOGGER.info("Join Strategy: {}", strategy);
+
+        if (JoinStrategy.SORT_MERGE == strategy) {
+            return new UkubukaSortMergeJoin();
+        }
+        return new UkubukaHashJoin();
+    }
+
+    /**
+     * Get Distinct Filter
+     * 
+     * @param flags
+     * @return Distinct Filter
+     */
+    private UkubukaDistinctFilter getDistinctFilter(
+            final Map<String, Object> flags) {
+        return new UkubukaDistinctFilter(
+                LoadFlags.SPILL_THRESHOLD
+                        .getValue(flags,
+                                (Number) Constants.DEFAULT_SPILL_THRESHOLD)
+                        .intValue(),
+                LoadFlags.SPILL_DIRECTORY.getValue(flags, (String) null));
+    }
+
     /**
      * Write File
      * 
@@ -119,8 +201,8 @@ public class UkubukaLoader implements UkubukaOperations {
         try {
             LOGGER.info("ID: {} | Type: {} | Location: {}", load.getId(),
                     load.getType(), load.getLocation());
-            writeFile(load.getType(), load.getLocation(),
-                    fileContents.getHeader(), fileContents.getData());
+            writeFile(load.getType(), load.getLocation(), fileContents,
+                    load.getOperations().getFlags());
         } catch (ParserException ex) {
             throw new WriterException(ex);
         }
@@ -131,29 +213,95 @@ public class UkubukaLoader implements UkubukaOperations {
      * 
      * @param supportedFileType
      * @param completeFileName
-     * @param header
-     * @param data
+     * @param fileContents
+     * @param flags
      * @throws ParserException
      * @throws WriterException
      */
     private void writeFile(final SupportedFileType supportedFileType,
-            final String completeFileName, List<String> header,
-            List<FileRecord> data) throws ParserException, WriterException {
+            final String completeFileName, final FileContents fileContents,
+            final Map<String, Object> flags)
+            throws ParserException, WriterException {
+        List<String> header = fileContents.getHeader();
+        List<FileRecord> data = fileContents.getData();
+        Compression compression = getCompression(completeFileName, flags);
+
         /* Get File Type */
         switch (supportedFileType) {
             /* Delimited File */
             case CSV:
-                writer.writeFile(completeFileName,
-                        writer.writeCSV(header, data));
+                writer.writeCSV(completeFileName, header, data, compression);
                 break;
-            /* XML File */
+            /* JSON File */
             case JSON:
-                writer.writeFile(completeFileName, writer.prettyPrint(
-                        writer.writeJSON(header, data).toString()));
+                writer.writeJSON(completeFileName, header, data,
+                        LoadFlags.PRETTY_PRINT.getValue(flags, true),
+                        LoadFlags.JSON_LINES.getValue(flags, false),
+                        compression);
+                break;
+            /* Columnar File, Blocks Deflated Unless Told Otherwise */
+            case COLUMNAR:
+                Number blockSize = LoadFlags.BLOCK_SIZE.getValue(flags,
+                        (Number) Constants.DEFAULT_COLUMNAR_BLOCK_SIZE);
+                writer.writeColumnar(completeFileName, fileContents,
+                        null == LoadFlags.COMPRESSION.getValue(flags,
+                                (String) null) ? Compression.DEFLATE
+                                        : compression,
+                        blockSize.intValue());
                 break;
             /* Unsupported File */
             default:
                 throw new ParserException("File Type Not Supported!");
         }
     }
+
+    /**
+     * Open Sink
+     * 
+     * @param load
+     * @param header
+     * @return Sink Writing The Load Batch By Batch
+     * @throws WriterException
+     */
+    public UkubukaRecordSink openSink(final Load load,
+            final List<String> header) throws WriterException {
+        LOGGER.info("Opening Sink - ID: {} | Type: {} | Location: {}",
+                load.getId(), load.getType(), load.getLocation());
+        Map<String, Object> flags = load.getOperations().getFlags();
+        Compression compression = getCompression(load.getLocation(), flags);
+        switch (load.getType()) {
+            /* Delimited File */
+            case CSV:
+                return writer.openCSV(load.getLocation(), header, compression);
+            /* JSON File */
+            case JSON:
+                return writer.openJSON(load.getLocation(), header,
+                        LoadFlags.PRETTY_PRINT.getValue(flags, true),
+                        LoadFlags.JSON_LINES.getValue(flags, false),
+                        compression);
+            /* Unsupported File */
+            default:
+                throw new WriterException(
+                        "File Type Not Supported By Sink: " + load.getType());
+        }
+    }
+
+    /**
+     * Get Compression
+     * 
+     * @param completeFileName
+     * @param flags
+     * @return Declared Compression, Else The One Told By The Extension
+     * @throws WriterException
+     */
+    private Compression getCompression(final String completeFileName,
+            final Map<String, Object> flags) throws WriterException {
+        try {
+            return Compression.getCompression(
+                    LoadFlags.COMPRESSION.getValue(flags, (String) null),
+                    completeFileName);
+        } catch (IllegalArgumentException ex) {
+            throw new WriterException(ex);
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package com.ukubuka.core.operations.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.JoinType;
+
+/**
+ * Ukubuka Sort Merge Join
+ * 
+ * In-memory ordered join: sorts both inputs on their key text and merges the
+ * two sorted inputs, so joined rows come out in key order, rows with equal
+ * keys in input order. Both inputs and the joined rows stay on the heap. It
+ * is picked by declaring the SORT_MERGE strategy on the join.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaSortMergeJoin extends UkubukaJoin {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaSortMergeJoin.class);
+
+    /**
+     * Join Records
+     */
+    @Override
+    protected List<FileRecord> joinRecords(final JoinSide left,
+            final JoinSide right, final JoinType joinType) {
+        LOGGER.info("Sort Merge Join - Type: {} | Left: #{} | Right: #{}",
+                joinType, left.getRecords().size(), right.getRecords().size());
+        String[][] leftKeys = keys(left);
+        String[][] rightKeys = keys(right);
+        return mergeJoin(left, leftKeys, sort(leftKeys), right, rightKeys,
+                sort(rightKeys));
+    }
+
+    /**
+     * Merge Join
+     * 
+     * @param left
+     * @param leftKeys
+     * @param leftOrder
+     * @param right
+     * @param rightKeys
+     * @param rightOrder
+     * @return Joined Records
+     */
+    private List<FileRecord> mergeJoin(final JoinSide left,
+            final String[][] leftKeys, final Integer[] leftOrder,
+            final JoinSide right, final String[][] rightKeys,
+            final Integer[] rightOrder) {
+        List<FileRecord> leftRecords = left.getRecords();
+        List<FileRecord> rightRecords = right.getRecords();
+        List<FileRecord> joinedRecords = new ArrayList<>();
+
+        int leftPosition = 0;
+        int rightPosition = 0;
+        while (leftPosition < leftOrder.length
+                || rightPosition < rightOrder.length) {
+            int comparison = leftPosition == leftOrder.length ? 1
+                    : rightPosition == rightOrder.length ? -1
+                            : compareKeys(leftKeys[leftOrder[leftPosition]],
+                                    rightKeys[rightOrder[rightPosition]]);
+            if (comparison < 0) {
+                if (left.keepsUnmatched()) {
+                    joinedRecords.add(combine(
+                            left.row(leftRecords.get(leftOrder[leftPosition])),
+                            right.emptyRow()));
+                }
+                leftPosition++;
+            } else if (comparison > 0) {
+                if (right.keepsUnmatched()) {
+                    joinedRecords.add(combine(left.emptyRow(), right.row(
+                            rightRecords.get(rightOrder[rightPosition]))));
+                }
+                rightPosition++;
+            } else {
+                /* Find The Right Rows Sharing This Key */
+                String[] keys = leftKeys[leftOrder[leftPosition]];
+                int rightGroupStart = rightPosition;
+                while (rightPosition < rightOrder.length && 0 == compareKeys(
+                        keys, rightKeys[rightOrder[rightPosition]])) {
+                    rightPosition++;
+                }
+                while (leftPosition < leftOrder.length && 0 == compareKeys(
+                        keys, leftKeys[leftOrder[leftPosition]])) {
+                    List<Object> leftRow = left
+                            .row(leftRecords.get(leftOrder[leftPosition]));
+                    for (int i = rightGroupStart; i < rightPosition; i++) {
+                        joinedRecords.add(combine(leftRow,
+                                right.row(rightRecords.get(rightOrder[i]))));
+                    }
+                    leftPosition++;
+                }
+            }
+        }
+        return joinedRecords;
+    }
+
+    /**
+     * Get Keys
+     * 
+     * @param joinSide
+     * @return Key Text Of Every Row
+     */
+    private String[][] keys(final JoinSide joinSide) {
+        List<FileRecord> fileRecords = joinSide.getRecords();
+        String[][] keys = new String[fileRecords.size()][];
+        for (int i = 0; i < keys.length; i++) {
+            List<Object> keyValues = joinSide
+                    .getKeyValues(fileRecords.get(i));
+            keys[i] = new String[keyValues.size()];
+            for (int j = 0; j < keys[i].length; j++) {
+                keys[i][j] = UkubukaDistinctFilter
+                        .fieldText(keyValues.get(j));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Sort
+     * 
+     * @param keys
+     * @return Row Indices In Key Order, Equal Keys In Input Order
+     */
+    private Integer[] sort(final String[][] keys) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        /* Object Sort Is Stable */
+        Arrays.sort(order, (index, otherIndex) -> compareKeys(keys[index],
+                keys[otherIndex]));
+        return order;
+    }
+
+    /**
+     * Compare Keys
+     * 
+     * @param keys
+     * @param otherKeys
+     * @return Key Order
+     */
+    private static int compareKeys(final String[] keys,
+            final String[] otherKeys) {
+        for (int i = 0; i < keys.length; i++) {
+            int comparison = keys[i].compareTo(otherKeys[i]);
+            if (0 != comparison) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+}
@@ -1,36 +1,55 @@
 package com.ukubuka.core.operations.transform;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 import com.ukubuka.core.evaluator.UkubukaExpressionEvaluator;
+import com.ukubuka.core.evaluator.UkubukaShortcuts;
 import com.ukubuka.core.exception.PipelineException;
 import com.ukubuka.core.exception.TransformException;
-import com.ukubuka.core.launcher.UkubukaLauncher;
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnVector;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.ExtractFlags;
 import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
-import com.ukubuka.core.model.SupportedSource;
+import com.ukubuka.core.model.NumericColumnVector;
+import com.ukubuka.core.model.RowFilter;
 import com.ukubuka.core.model.TransformOperation;
 import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Extract;
 import com.ukubuka.core.model.UkubukaSchema.Transform;
 import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
 import com.ukubuka.core.model.UkubukaSchema.TransformOperationsType;
 import com.ukubuka.core.operations.UkubukaOperations;
-import com.ukubuka.core.reader.UkubukaReader;
 import com.ukubuka.core.utilities.Constants;
+import com.ukubuka.core.utilities.Utilities;
 
 /**
  * Ukubuka Transformer
@@ -55,13 +74,52 @@ public class UkubukaTransformer implements UkubukaOperations {
                     TransformOperation.SUM, TransformOperation.AVG,
                     TransformOperation.MIN, TransformOperation.MAX,
                     TransformOperation.COUNT);
+    private static final EnumSet<TransformOperation> AGGREGATE_OPERATIONS = EnumSet
+            .of(TransformOperation.SUM, TransformOperation.AVG,
+                    TransformOperation.MIN, TransformOperation.MAX,
+                    TransformOperation.COUNT);
+    private static final EnumSet<TransformOperation> ROW_OPERATIONS = EnumSet
+            .of(TransformOperation.RENAME, TransformOperation.DELETE,
+                    TransformOperation.REMOVE, TransformOperation.ADD,
+                    TransformOperation.NEW, TransformOperation.MOVE,
+                    TransformOperation.SWAP, TransformOperation.INCLUDE,
+                    TransformOperation.EXCLUDE);
+    private static final EnumSet<TransformOperation> EVALUATED_ROW_OPERATIONS = EnumSet
+            .of(TransformOperation.ADD, TransformOperation.NEW,
+                    TransformOperation.INCLUDE, TransformOperation.EXCLUDE);
+    private static final Pattern COLUMN_REFERENCE_PATTERN = Pattern
+            .compile("\\s*data\\[(\\d+)\\]\\s*");
+    private static final Pattern TYPED_PARSE_PATTERN = Pattern.compile(
+            "T\\(java\\.lang\\.(Integer|Long|Double)\\)\\.parse(Int|Long|Double)\\(\\s*data\\[(\\d+)\\]\\s*\\)");
+    private static final Map<String, ColumnType> PARSED_TYPES = new HashMap<>();
+    static {
+        PARSED_TYPES.put("IntegerInt", ColumnType.INT);
+        PARSED_TYPES.put("LongLong", ColumnType.LONG);
+        PARSED_TYPES.put("DoubleDouble", ColumnType.DOUBLE);
+    }
 
     /******************************** Dependency Injections *********************************/
     @Autowired
     private UkubukaExpressionEvaluator expressionEvaluator;
 
     @Autowired
-    private UkubukaReader reader;
+    private UkubukaShortcuts shortcuts;
+
+    @Value("${ukubuka.transform.parallel.threshold:"
+            + Constants.DEFAULT_PARALLEL_THRESHOLD + "}")
+    private int parallelThreshold = Constants.DEFAULT_PARALLEL_THRESHOLD;
+
+    @Value("${ukubuka.transform.parallelism:" + Constants.DEFAULT_PARALLELISM
+            + "}")
+    private int parallelism = Constants.DEFAULT_PARALLELISM;
+
+    @Value("${ukubuka.transform.trace.sample:"
+            + Constants.DEFAULT_TRACE_SAMPLE + "}")
+    private int traceSample = Constants.DEFAULT_TRACE_SAMPLE;
+
+    private final AtomicLong tracedEvaluations = new AtomicLong();
+
+    private ForkJoinPool forkJoinPool;
 
     /**
      * Perform Operations
@@ -74,21 +132,47 @@ public class UkubukaTransformer implements UkubukaOperations {
     public void performOperations(Map<String, FileContents> dataFiles,
             final UkubukaSchema schema) throws PipelineException {
         try {
-            performOperations(dataFiles, schema.getTransforms());
+            performOperations(dataFiles, schema.getTransforms(),
+                    shortcuts.getShortcuts(schema.getShortcuts()),
+                    getFilteredFiles(schema.getExtracts()));
         } catch (TransformException ex) {
             throw new PipelineException(ex);
         }
     }
 
+    /**
+     * Get Filtered Files
+     * 
+     * @param extracts
+     * @return Files Whose Row Filter Was Already Applied While Parsing
+     */
+    private Set<String> getFilteredFiles(final List<Extract> extracts) {
+        Set<String> filteredFiles = new HashSet<>();
+        if (null != extracts) {
+            for (final Extract extract : extracts) {
+                Object rowFilter = ExtractFlags.ROW_FILTER
+                        .getValue(extract.getFlags(), null);
+                if (rowFilter instanceof RowFilter
+                        && ((RowFilter) rowFilter).isApplied()) {
+                    filteredFiles.add(extract.getId());
+                }
+            }
+        }
+        return filteredFiles;
+    }
+
     /**
      * Perform Transformations
      * 
      * @param dataFiles
      * @param transforms
+     * @param sMap
+     * @param filteredFiles
      * @throws TransformException
      */
     private void performOperations(Map<String, FileContents> dataFiles,
-            final List<Transform> transforms) throws TransformException {
+            final List<Transform> transforms, final Map<String, String> sMap,
+            final Set<String> filteredFiles) throws TransformException {
         /* Get File Transformation */
         for (final Entry<String, FileContents> dataFile : dataFiles
                 .entrySet()) {
@@ -97,17 +181,70 @@ public class UkubukaTransformer implements UkubukaOperations {
 
             /* Process File Transforms */
             if (null != fileTransforms) {
-                /* Perform Column Operations */
+                boolean isFiltered = filteredFiles.contains(dataFile.getKey());
+                if (isFiltered) {
+                    LOGGER.info("Row Filter Applied While Parsing: {}",
+                            dataFile.getKey());
+                }
+
+                /* Perform Operations */
                 performTypeOperations(dataFile.getValue(),
-                        fileTransforms.getColumn());
+                        getOperations(fileTransforms, isFiltered), sMap);
+            }
+        }
+    }
 
-                /* Perform Row Operations */
-                if (null != fileTransforms.getRow()) {
-                    performTypeOperations(dataFile.getValue(),
-                            Arrays.asList(fileTransforms.getRow()));
-                }
+    /**
+     * Get Operations
+     * 
+     * @param fileTransforms
+     * @param isFiltered
+     * @return Column Operations, Then The Row Operation Unless Applied While
+     *         Parsing
+     */
+    public List<TransformOperations> getOperations(
+            final TransformOperationsType fileTransforms,
+            final boolean isFiltered) {
+        List<TransformOperations> operations = new ArrayList<>();
+        if (null != fileTransforms.getColumn()) {
+            operations.addAll(fileTransforms.getColumn());
+        }
+        if (!isFiltered && null != fileTransforms.getRow()) {
+            operations.add(fileTransforms.getRow());
+        }
+        return operations;
+    }
+
+    /**
+     * Is Row Local
+     * 
+     * Aggregations read every row of the file, all other operations touch one
+     * row at a time, so batches of the file can be transformed one by one.
+     * 
+     * @param operations
+     * @return Whether No Operation Needs The Whole File
+     */
+    public boolean isRowLocal(final List<TransformOperations> operations) {
+        for (final TransformOperations operation : operations) {
+            if (!ROW_OPERATIONS.contains(operation.getType())) {
+                return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * Transform Batch
+     * 
+     * @param fileContents
+     * @param operations
+     * @param sMap
+     * @throws TransformException
+     */
+    public void transformBatch(FileContents fileContents,
+            final List<TransformOperations> operations,
+            final Map<String, String> sMap) throws TransformException {
+        performTypeOperations(fileContents, operations, sMap);
     }
 
     /**
@@ -115,14 +252,16 @@ public class UkubukaTransformer implements UkubukaOperations {
      * 
      * @param fileContents
      * @param transformOperations
+     * @param sMap
      * @throws TransformException
      */
     private void performTypeOperations(FileContents fileContents,
-            final List<TransformOperations> transformOperations)
-            throws TransformException {
+            final List<TransformOperations> transformOperations,
+            final Map<String, String> sMap) throws TransformException {
         if (!CollectionUtils.isEmpty(transformOperations)) {
             LOGGER.info("Transform Count: #{}", transformOperations.size());
-            performTransformOperations(fileContents, transformOperations);
+            performTransformOperations(fileContents, transformOperations,
+                    sMap);
         }
     }
 
@@ -150,27 +289,76 @@ public class UkubukaTransformer implements UkubukaOperations {
      * @param fileHeader
      * @param operationsList
      * @param fileRecords
+     * @param sMap
      * @throws TransformException
      */
     private void performTransformOperations(FileContents fileContents,
-            List<TransformOperations> operationsList)
-            throws TransformException {
+            List<TransformOperations> operationsList,
+            final Map<String, String> sMap) throws TransformException {
         /* Iterate Operations */
-        for (final TransformOperations operation : operationsList) {
+        int end;
+        for (int i = 0; i < operationsList.size(); i = end) {
+            TransformOperations operation = operationsList.get(i);
             LOGGER.info("Performing Transform: HC{}", operation.hashCode());
+            long startTime = System.nanoTime();
+            int inputRows = fileContents.getRowCount();
+
+            /* Fuse Consecutive Aggregations Or Row Operations Into One Pass */
+            boolean isAggregation = AGGREGATE_OPERATIONS
+                    .contains(operation.getType());
+            end = isAggregation ? getAggregationsEnd(operationsList, i)
+                    : getRowOperationsEnd(fileContents, operationsList, i);
+            List<TransformOperations> operations = operationsList.subList(i,
+                    end);
+            if (isAggregation) {
+                doAggregations(fileContents, operations, sMap);
+            } else if (operations.size() > 1) {
+                doRowOperations(fileContents, operations, sMap);
+            } else {
+                /* Check Whether Column Exists */
+                String source = operation.getSource();
+                if (!TRANSFORM_OPERATION_EXCEPTIONS
+                        .contains(operation.getType())
+                        && !fileContents.getHeader().contains(source)) {
+                    throw new TransformException("Column Not Found! Name: "
+                            + source + " | Header: "
+                            + fileContents.getHeader());
+                }
 
-            /* Check Whether Column Exists */
-            String source = operation.getSource();
-            if (!TRANSFORM_OPERATION_EXCEPTIONS.contains(operation.getType())
-                    && !fileContents.getHeader().contains(source)) {
-                throw new TransformException("Column Not Found! Name: " + source
-                        + " | Header: " + fileContents.getHeader());
+                /* Perform Operation */
+                performTransformOperation(fileContents, operation.getType(),
+                        source, operation.getTarget(), sMap);
             }
+            logSummary(operations, inputRows, fileContents.getRowCount(),
+                    startTime);
+        }
+    }
 
-            /* Perform Operation */
-            performTransformOperation(fileContents, operation.getType(), source,
-                    operation.getTarget());
+    /**
+     * Log Summary
+     * 
+     * One line per pass instead of one per row.
+     * 
+     * @param operations
+     * @param inputRows
+     * @param outputRows
+     * @param startTime
+     */
+    private void logSummary(final List<TransformOperations> operations,
+            final int inputRows, final int outputRows, final long startTime) {
+        long elapsedTime = System.nanoTime() - startTime;
+        List<TransformOperation> operationTypes = new ArrayList<>(
+                operations.size());
+        for (final TransformOperations operation : operations) {
+            operationTypes.add(operation.getType());
         }
+        LOGGER.info(
+                "Transform Summary - Operations: {} | Rows: #{} | Output Rows: #{} | Time: {} ms | Rate: {} Rows/s",
+                operationTypes, inputRows, outputRows,
+                TimeUnit.NANOSECONDS.toMillis(elapsedTime),
+                elapsedTime > 0
+                        ? inputRows * TimeUnit.SECONDS.toNanos(1) / elapsedTime
+                        : inputRows);
     }
 
     /**
@@ -181,85 +369,61 @@ public class UkubukaTransformer implements UkubukaOperations {
      * @param target
      * @param operationType
      * @param fileRecords
+     * @param sMap
      * @throws TransformException
      */
     private void performTransformOperation(FileContents fileContents,
             final TransformOperation operationType, final String source,
-            final String target) throws TransformException {
-        /* Get File Contents */
-        List<String> fileHeader = fileContents.getHeader();
-        List<FileRecord> fileRecords = fileContents.getData();
+            final String target, final Map<String, String> sMap)
+            throws TransformException {
+        /* Expand Shortcuts Once Per Operation */
+        String expression = getExpression(fileContents, target, sMap);
 
         /* Switch Type */
         switch (operationType) {
             /* Column Rename Operation */
             case RENAME:
-                doRename(fileHeader, source, target);
+                doRename(fileContents.getHeader(), source, target);
                 break;
 
             /* Column Delete Operation */
             case DELETE:
-                doDelete(fileHeader, fileRecords, source);
+                doDelete(fileContents, source);
                 break;
 
             /* Column Delete Operation */
             case REMOVE:
-                doDelete(fileHeader, fileRecords, source);
+                doDelete(fileContents, source);
                 break;
 
             /* Column Add Operation */
             case ADD:
-                doAdd(fileContents, source, target);
+                doAdd(fileContents, source, expression);
                 break;
 
             /* Column Add Operation */
             case NEW:
-                doAdd(fileContents, source, target);
+                doAdd(fileContents, source, expression);
                 break;
 
             /* Column Move Operation */
             case MOVE:
-                doMove(fileHeader, fileRecords, source, target);
+                doMove(fileContents, source, target);
                 break;
 
             /* Column Swap Operation */
             case SWAP:
-                doSwap(fileHeader, fileRecords, source, target);
+                doSwap(fileContents, source, target);
                 break;
 
             /* Column Include Operation */
             case INCLUDE:
-                doInclude(fileContents, target);
+                doInclude(fileContents, expression);
                 break;
 
             /* Column Exclude Operation */
             case EXCLUDE:
-                doExclude(fileContents, target);
-                break;
-
-            /* Column Sum Operation */
-            case SUM:
-                doSum(fileContents, source, target);
-                break;
-
-            /* Column Average Operation */
-            case AVG:
-                doAverage(fileContents, source, target);
-                break;
-
-            /* Column Minimum Operation */
-            case MIN:
-                doMin(fileContents, source, target);
-                break;
-
-            /* Column Maximum Operation */
-            case MAX:
-                doMax(fileContents, source, target);
-                break;
-
-            /* Column Count Operation */
-            case COUNT:
-                doCount(fileContents, source, target);
+                doExclude(fileContents, expression);
                 break;
 
             /* Unsupported Operation */
@@ -270,148 +434,485 @@ public class UkubukaTransformer implements UkubukaOperations {
     }
 
     /**
-     * Perform Sum Operation
+     * Get Aggregations End
      * 
-     * @param fileContents
-     * @param source
-     * @param target
+     * @param operationsList
+     * @param start
+     * @return End Of The Aggregations Run In One Pass
      */
-    private void doSum(FileContents fileContents, final String source,
-            final String target) {
-        LOGGER.info("Performing Sum Operation - Source: {} | Target: {}",
-                source, target);
+    private int getAggregationsEnd(
+            final List<TransformOperations> operationsList, final int start) {
+        int end = start + 1;
+        while (end < operationsList.size()
+                && isFusable(operationsList.get(end))) {
+            end++;
+        }
+        return end;
+    }
 
-        /* Add Source */
-        fileContents.getAggregations().put(source,
-                calculateSum(fileContents, target));
+    /**
+     * Is Fusable
+     * 
+     * An aggregation reading #aggregations needs the results of the ones
+     * before it, so it has to start a new pass.
+     * 
+     * @param operation
+     * @return Whether The Operation Can Join The Current Aggregation Pass
+     */
+    private boolean isFusable(final TransformOperations operation) {
+        return AGGREGATE_OPERATIONS.contains(operation.getType())
+                && (null == operation.getTarget() || !operation.getTarget()
+                        .contains(Constants.AGGREGATIONS_VARIABLE));
     }
 
     /**
-     * Perform Count Operation
+     * Get Row Operations End
+     * 
+     * Row operations of row contents run in one pass as long as at least one
+     * of them evaluates expressions. Aggregations need every row to be done,
+     * so they end the pass. Columnar contents apply each operation to whole
+     * columns instead.
      * 
      * @param fileContents
-     * @param source
-     * @param target
+     * @param operationsList
+     * @param start
+     * @return End Of The Operations Run In One Pass, Start + 1 When None
      */
-    private void doCount(FileContents fileContents, final String source,
-            final String target) {
-        LOGGER.info("Performing Count Operation - Source: {} | Target: {}",
-                source, target);
+    private int getRowOperationsEnd(final FileContents fileContents,
+            final List<TransformOperations> operationsList, final int start) {
+        if (fileContents instanceof ColumnarFileContents) {
+            return start + 1;
+        }
+        int end = start;
+        boolean isEvaluated = false;
+        while (end < operationsList.size()
+                && ROW_OPERATIONS.contains(operationsList.get(end).getType())) {
+            isEvaluated |= EVALUATED_ROW_OPERATIONS
+                    .contains(operationsList.get(end).getType());
+            end++;
+        }
+        return isEvaluated ? end : start + 1;
+    }
 
-        /* Add Source */
-        fileContents.getAggregations().put(source,
-                new BigDecimal(fileContents.getData().size()));
+    /**
+     * Perform Row Operations
+     * 
+     * Compiles the operations against the header into steps on field
+     * positions and runs all of them on a row before moving to the next one.
+     * A row dropped by INCLUDE/EXCLUDE skips the steps after it, and dropped
+     * rows are compacted away once at the end.
+     * 
+     * @param fileContents
+     * @param operations
+     * @param sMap
+     * @throws TransformException
+     */
+    private void doRowOperations(FileContents fileContents,
+            final List<TransformOperations> operations,
+            final Map<String, String> sMap) throws TransformException {
+        LOGGER.info("Performing Row Operations - Count: #{}",
+                operations.size());
+
+        /* Compile Steps */
+        List<FileRecord> fileRecords = fileContents.getData();
+        List<String> fileHeader = new ArrayList<>(fileContents.getHeader());
+        List<RowStep> rowSteps = new ArrayList<>(operations.size());
+        boolean isFiltered = false;
+        for (final TransformOperations operation : operations) {
+            String source = operation.getSource();
+            if (!TRANSFORM_OPERATION_EXCEPTIONS.contains(operation.getType())
+                    && !fileHeader.contains(source)) {
+                throw new TransformException("Column Not Found! Name: " + source
+                        + " | Header: " + fileHeader);
+            }
+            RowStep rowStep = compileRowStep(fileContents, fileHeader,
+                    operation, sMap);
+            if (null != rowStep) {
+                rowSteps.add(rowStep);
+                isFiltered |= TransformOperation.INCLUDE == rowStep.type
+                        || TransformOperation.EXCLUDE == rowStep.type;
+            }
+        }
+
+        /* Single Pass Over Rows */
+        EvaluationContext evaluationContext = expressionEvaluator
+                .createContext(fileContents);
+        BitSet keptRows = new BitSet(fileRecords.size());
+        int rowIndex = 0;
+        for (final FileRecord fileRecord : fileRecords) {
+            if (performRowSteps(evaluationContext, fileRecord, rowSteps)) {
+                keptRows.set(rowIndex);
+            }
+            rowIndex++;
+        }
+
+        /* Publish Header & Compact Once */
+        fileContents.getHeader().clear();
+        fileContents.getHeader().addAll(fileHeader);
+        if (isFiltered) {
+            fileContents.retainRows(keptRows);
+        }
     }
 
     /**
-     * Perform Average Operation
+     * Compile Row Step
      * 
      * @param fileContents
-     * @param source
-     * @param target
+     * @param fileHeader
+     * @param operation
+     * @param sMap
+     * @return Step On The Fields Of A Row, Null When Only The Header Changes
      */
-    private void doAverage(FileContents fileContents, final String source,
-            final String target) {
-        LOGGER.info("Performing Average Operation - Source: {} | Target: {}",
-                source, target);
+    private RowStep compileRowStep(final FileContents fileContents,
+            List<String> fileHeader, final TransformOperations operation,
+            final Map<String, String> sMap) {
+        String source = operation.getSource();
+        String target = operation.getTarget();
+        int sourceIndex = fileHeader.indexOf(source);
+        switch (operation.getType()) {
+            case RENAME:
+                fileHeader.set(sourceIndex, target);
+                return null;
+            case DELETE:
+            case REMOVE:
+                fileHeader.remove(sourceIndex);
+                return new RowStep(TransformOperation.DELETE, sourceIndex, -1,
+                        null);
+            case ADD:
+            case NEW:
+                fileHeader.add(source);
+                return new RowStep(TransformOperation.ADD, -1, -1,
+                        getExpression(fileContents, target, sMap));
+            case MOVE:
+                int targetIndex = Integer.parseInt(target.replace(
+                        Constants.COLUMN_ENCOLSING_QUOTE,
+                        Constants.EMPTY_STRING));
+                fileHeader.add(targetIndex, fileHeader.remove(sourceIndex));
+                return new RowStep(TransformOperation.MOVE, sourceIndex,
+                        targetIndex, null);
+            case SWAP:
+                int swapIndex = fileHeader.indexOf(target);
+                Collections.swap(fileHeader, sourceIndex, swapIndex);
+                return new RowStep(TransformOperation.SWAP, sourceIndex,
+                        swapIndex, null);
+            default:
+                return new RowStep(operation.getType(), -1, -1,
+                        getExpression(fileContents, target, sMap));
+        }
+    }
 
-        /* Add Source */
-        fileContents.getAggregations().put(source,
-                calculateSum(fileContents, target).divide(
-                        new BigDecimal(fileContents.getData().size()),
-                        Constants.DIVISION_OPERATION_PRECISION,
-                        Constants.DIVISION_OPERATION_ROUNDING));
+    /**
+     * Perform Row Steps
+     * 
+     * @param evaluationContext
+     * @param fileRecord
+     * @param rowSteps
+     * @return Whether The Row Is Kept
+     */
+    private boolean performRowSteps(final EvaluationContext evaluationContext,
+            final FileRecord fileRecord, final List<RowStep> rowSteps) {
+        List<Object> values = fileRecord.getData();
+        for (final RowStep rowStep : rowSteps) {
+            switch (rowStep.type) {
+                case DELETE:
+                    values.remove(rowStep.sourceIndex);
+                    break;
+                case ADD:
+                    /* Index Among The Rows Reaching This Step */
+                    fileRecord.setIndex(rowStep.reachedRows++);
+                    values.add(evaluateExpression(evaluationContext,
+                            fileRecord, rowStep.expression));
+                    break;
+                case MOVE:
+                    values.add(rowStep.targetIndex,
+                            values.remove(rowStep.sourceIndex));
+                    break;
+                case SWAP:
+                    Collections.swap(values, rowStep.sourceIndex,
+                            rowStep.targetIndex);
+                    break;
+                default:
+                    boolean expressionValue = (boolean) evaluateExpression(
+                            evaluationContext, fileRecord, rowStep.expression);
+                    if ((TransformOperation.EXCLUDE == rowStep.type)
+                            == expressionValue) {
+                        return false;
+                    }
+                    break;
+            }
+        }
+        return true;
     }
 
     /**
-     * Perform Minimum Operation
+     * Perform Aggregation Operations
+     * 
+     * Evaluates every distinct target once per row in a single pass over the
+     * data and stores SUM/AVG/MIN/MAX/COUNT results in operation order.
      * 
      * @param fileContents
-     * @param source
-     * @param target
+     * @param operations
+     * @param sMap
+     * @throws TransformException
      */
-    private void doMin(FileContents fileContents, final String source,
-            final String target) {
-        LOGGER.info("Performing Minimum Operation - Source: {} | Target: {}",
-                source, target);
+    private void doAggregations(FileContents fileContents,
+            final List<TransformOperations> operations,
+            final Map<String, String> sMap) throws TransformException {
+        LOGGER.info("Performing Aggregation Operations - Count: #{}",
+                operations.size());
+
+        /* Collect Distinct Targets */
+        Map<String, Aggregate> aggregates = new LinkedHashMap<>();
+        List<Aggregate> evaluatedAggregates = new ArrayList<>();
+        for (final TransformOperations operation : operations) {
+            if (TransformOperation.COUNT == operation.getType()) {
+                continue;
+            }
+            String expression = getExpression(fileContents,
+                    operation.getTarget(), sMap);
+            Aggregate aggregate = aggregates.get(expression);
+            if (null == aggregate) {
+                aggregate = new Aggregate(expression);
+                aggregates.put(expression, aggregate);
+            }
+            aggregate.require(operation.getType());
+        }
 
-        /* Add Source */
-        fileContents.getAggregations().put(source,
-                calculateMin(fileContents, target));
+        /* Typed Columns Aggregate Without Evaluation */
+        for (final Aggregate aggregate : aggregates.values()) {
+            NumericColumnVector column = getDirectColumn(fileContents,
+                    aggregate.expression);
+            if (null == column) {
+                evaluatedAggregates.add(aggregate);
+            } else {
+                aggregate.accumulate(column);
+            }
+        }
+
+        /* Single Pass Over Rows */
+        if (!evaluatedAggregates.isEmpty()) {
+            int threads = getParallelism();
+            if (threads > 1
+                    && fileContents.getData().size() >= parallelThreshold) {
+                aggregateInParallel(fileContents, evaluatedAggregates,
+                        threads);
+            } else {
+                aggregateRows(expressionEvaluator.createContext(fileContents),
+                        fileContents.getData(), evaluatedAggregates);
+            }
+        }
+
+        /* Store Results */
+        BigDecimal rowCount = new BigDecimal(fileContents.getData().size());
+        for (final TransformOperations operation : operations) {
+            LOGGER.info("Storing Aggregation - Type: {} | Source: {}",
+                    operation.getType(), operation.getSource());
+            Aggregate aggregate = TransformOperation.COUNT == operation
+                    .getType() ? null
+                            : aggregates.get(getExpression(fileContents,
+                                    operation.getTarget(), sMap));
+            fileContents.getAggregations().put(operation.getSource(),
+                    getAggregation(operation.getType(), aggregate, rowCount));
+        }
     }
 
     /**
-     * Perform Maximum Operation
+     * Aggregate Rows
+     * 
+     * @param evaluationContext
+     * @param fileRecords
+     * @param aggregates
+     */
+    private void aggregateRows(final EvaluationContext evaluationContext,
+            final List<FileRecord> fileRecords,
+            final List<Aggregate> aggregates) {
+        for (final FileRecord fileRecord : fileRecords) {
+            for (final Aggregate aggregate : aggregates) {
+                aggregate.accumulate(Utilities.toBigDecimal(evaluateExpression(
+                        evaluationContext, fileRecord, aggregate.expression)));
+            }
+        }
+    }
+
+    /**
+     * Aggregate In Parallel
+     * 
+     * Splits the rows into chunks that are aggregated on a fork/join pool,
+     * each chunk with its own evaluation context, and merges the partial
+     * results back in chunk order.
      * 
      * @param fileContents
-     * @param source
-     * @param target
+     * @param aggregates
+     * @param threads
+     * @throws TransformException
      */
-    private void doMax(FileContents fileContents, final String source,
-            final String target) {
-        LOGGER.info("Performing Maximum Operation - Source: {} | Target: {}",
-                source, target);
+    private void aggregateInParallel(final FileContents fileContents,
+            final List<Aggregate> aggregates, final int threads)
+            throws TransformException {
+        List<FileRecord> fileRecords = fileContents.getData();
+        int chunks = threads * Constants.PARALLEL_CHUNKS_PER_THREAD;
+        int chunkSize = Math.max(1, (fileRecords.size() + chunks - 1) / chunks);
+        LOGGER.info("Aggregating In Parallel - Threads: {} | Chunk Size: {}",
+                threads, chunkSize);
+
+        /* Create Chunk Tasks */
+        List<Callable<List<Aggregate>>> tasks = new ArrayList<>();
+        for (int from = 0; from < fileRecords.size(); from += chunkSize) {
+            final List<FileRecord> chunk = fileRecords.subList(from,
+                    Math.min(fileRecords.size(), from + chunkSize));
+            tasks.add(() -> {
+                List<Aggregate> partials = new ArrayList<>(aggregates.size());
+                for (final Aggregate aggregate : aggregates) {
+                    partials.add(aggregate.newPartial());
+                }
+                aggregateRows(expressionEvaluator.createContext(fileContents),
+                        chunk, partials);
+                return partials;
+            });
+        }
 
-        /* Add Source */
-        fileContents.getAggregations().put(source,
-                calculateMax(fileContents, target));
+        /* Merge Partials */
+        try {
+            for (final Future<List<Aggregate>> future : getForkJoinPool()
+                    .invokeAll(tasks)) {
+                List<Aggregate> partials = future.get();
+                for (int i = 0; i < aggregates.size(); i++) {
+                    aggregates.get(i).merge(partials.get(i));
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TransformException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new TransformException(ex.getCause());
+        }
     }
 
     /**
-     * Calculate Minimum
+     * Get Fork/Join Pool
+     * 
+     * Created on first use and kept for every later aggregation, idle
+     * workers are retired by the pool itself.
+     * 
+     * @return Aggregation Pool Sized To The Parallelism
+     */
+    private synchronized ForkJoinPool getForkJoinPool() {
+        if (null == forkJoinPool) {
+            forkJoinPool = new ForkJoinPool(getParallelism());
+        }
+        return forkJoinPool;
+    }
+
+    /**
+     * Get Parallelism
+     * 
+     * @return Aggregation Threads, All Processors When Not Set
+     */
+    private int getParallelism() {
+        return parallelism > 0 ? parallelism
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Get Aggregation
+     * 
+     * @param operationType
+     * @param aggregate
+     * @param rowCount
+     * @return Aggregated Value
+     */
+    private BigDecimal getAggregation(final TransformOperation operationType,
+            final Aggregate aggregate, final BigDecimal rowCount) {
+        switch (operationType) {
+            case SUM:
+                return aggregate.sumValue;
+            case AVG:
+                return aggregate.sumValue.divide(rowCount,
+                        Constants.DIVISION_OPERATION_PRECISION,
+                        Constants.DIVISION_OPERATION_ROUNDING);
+            case MIN:
+                return aggregate.minValue;
+            case MAX:
+                return aggregate.maxValue;
+            default:
+                return rowCount;
+        }
+    }
+
+    /**
+     * Get Expression
      * 
      * @param fileContents
      * @param target
-     * @return sumValue
+     * @param sMap
+     * @return Expanded Expression
      */
-    private BigDecimal calculateMin(FileContents fileContents,
-            final String target) {
-        /* Calculate Minimum Column Value */
-        BigDecimal minValue = BigDecimal.valueOf(Double.MAX_VALUE);
-        for (final FileRecord fileRecord : fileContents.getData()) {
-            BigDecimal expressionValue = new BigDecimal(String.valueOf(
-                    evaluateExpression(fileContents, fileRecord, target)));
-            minValue = minValue.min(expressionValue);
-        }
-        return minValue;
+    private String getExpression(FileContents fileContents,
+            final String target, final Map<String, String> sMap) {
+        return elideTypedParses(fileContents, shortcuts.expand(target, sMap));
     }
 
     /**
-     * Calculate Maximum
+     * Get Direct Column
      * 
      * @param fileContents
      * @param target
-     * @return sumValue
+     * @return Typed Numeric Column When The Target Is A Bare Reference To It
      */
-    private BigDecimal calculateMax(FileContents fileContents,
+    private NumericColumnVector getDirectColumn(FileContents fileContents,
             final String target) {
-        /* Calculate Maximum Column Value */
-        BigDecimal maxValue = BigDecimal.valueOf(Double.MIN_VALUE);
-        for (final FileRecord fileRecord : fileContents.getData()) {
-            BigDecimal expressionValue = new BigDecimal(String.valueOf(
-                    evaluateExpression(fileContents, fileRecord, target)));
-            maxValue = maxValue.max(expressionValue);
+        if (!(fileContents instanceof ColumnarFileContents)) {
+            return null;
         }
-        return maxValue;
+        Matcher matcher = COLUMN_REFERENCE_PATTERN.matcher(target);
+        if (!matcher.matches()) {
+            return null;
+        }
+        int index = Integer.parseInt(matcher.group(1));
+        if (index >= fileContents.getHeader().size()) {
+            return null;
+        }
+        ColumnVector column = ((ColumnarFileContents) fileContents)
+                .getColumn(index);
+        return column instanceof NumericColumnVector && !column.hasMissing()
+                ? (NumericColumnVector) column
+                : null;
     }
 
     /**
-     * Calculate Sum
+     * Elide Typed Parses
+     * 
+     * Drops $INT$/$LONG$/$DOUBLE$ style parses of a column that already
+     * holds values of that type, so they are used as they are.
      * 
      * @param fileContents
-     * @param target
-     * @return sumValue
+     * @param expression
+     * @return Expression Without Redundant Parses
      */
-    private BigDecimal calculateSum(FileContents fileContents,
-            final String target) {
-        /* Sum Column Values */
-        BigDecimal sumValue = new BigDecimal(0);
-        for (final FileRecord fileRecord : fileContents.getData()) {
-            BigDecimal expressionValue = new BigDecimal(String.valueOf(
-                    evaluateExpression(fileContents, fileRecord, target)));
-            sumValue = sumValue.add(expressionValue);
+    private String elideTypedParses(FileContents fileContents,
+            final String expression) {
+        if (!(fileContents instanceof ColumnarFileContents)
+                || null == expression) {
+            return expression;
+        }
+        ColumnarFileContents columnarFileContents = (ColumnarFileContents) fileContents;
+        Matcher matcher = TYPED_PARSE_PATTERN.matcher(expression);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(3));
+            ColumnType parsedType = PARSED_TYPES
+                    .get(matcher.group(1) + matcher.group(2));
+            boolean isTyped = index < columnarFileContents.getHeader().size()
+                    && parsedType == columnarFileContents.getColumn(index)
+                            .getType();
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(
+                    isTyped ? "data[" + index + "]" : matcher.group()));
         }
-        return sumValue;
+        matcher.appendTail(buffer);
+        return buffer.toString();
     }
 
     /**
@@ -434,25 +935,15 @@ public class UkubukaTransformer implements UkubukaOperations {
     /**
      * Perform Delete Operation
      * 
-     * @param columnNames
+     * @param fileContents
      * @param source
-     * @param rowData
      */
-    private void doDelete(List<String> fileHeader, List<FileRecord> fileRecords,
-            final String source) {
+    private void doDelete(FileContents fileContents, final String source) {
         LOGGER.info("Performing Delete Operation - Source: {} | Header: {}",
-                source, fileHeader);
-
-        /* Get Index */
-        int index = fileHeader.indexOf(source);
-
-        /* Remove Header Entry */
-        fileHeader.remove(index);
+                source, fileContents.getHeader());
 
-        /* Remove Records */
-        for (final FileRecord fileRecord : fileRecords) {
-            fileRecord.getData().remove(index);
-        }
+        /* Remove Column */
+        fileContents.deleteColumn(fileContents.getHeader().indexOf(source));
     }
 
     /**
@@ -470,91 +961,59 @@ public class UkubukaTransformer implements UkubukaOperations {
                 "Performing Add Operation - Source: {} | Target: {} | Header: {}",
                 source, target, fileHeader);
 
-        /* Add Source */
-        fileHeader.add(source);
-
-        /* Add New Column Values */
-        for (int index = 0; index < fileRecords.size(); index++) {
-            FileRecord fileRecord = fileRecords.get(index);
-            fileRecord.setIndex(index);
-            Object expressionValue = evaluateExpression(fileContents,
-                    fileRecord, target);
-            fileRecord.getData().add(expressionValue);
+        /* Evaluate New Column Values */
+        EvaluationContext evaluationContext = expressionEvaluator
+                .createContext(fileContents);
+        List<Object> columnValues = new ArrayList<>(fileRecords.size());
+        int index = 0;
+        for (final FileRecord fileRecord : fileRecords) {
+            fileRecord.setIndex(index++);
+            columnValues.add(
+                    evaluateExpression(evaluationContext, fileRecord, target));
         }
-    }
 
-    /**
-     * Get Original Target
-     * 
-     * @param target
-     * @param sMap
-     * @return modifiedTarget
-     */
-    private String getOriginalTarget(final String target,
-            final Map<String, String> sMap) {
-        String modifiedTarget = target;
-        for (final Entry<String, String> shortcutEntry : sMap.entrySet()) {
-            modifiedTarget = modifiedTarget.replace(shortcutEntry.getKey(),
-                    shortcutEntry.getValue());
-        }
-        return modifiedTarget;
+        /* Add Source */
+        fileContents.addColumn(source, columnValues);
     }
 
     /**
      * Perform Move Operation
      * 
-     * @param fileHeader
+     * @param fileContents
      * @param source
      * @param target
-     * @param fileRecords
      */
-    private void doMove(List<String> fileHeader, List<FileRecord> fileRecords,
-            final String source, final String target) {
+    private void doMove(FileContents fileContents, final String source,
+            final String target) {
         LOGGER.info(
                 "Performing Move Operation - Source: {} | Target: {} | Header: {}",
-                source, target, fileHeader);
+                source, target, fileContents.getHeader());
 
         /* Get Source & Target Indices */
-        int sourceIndex = fileHeader.indexOf(source);
+        int sourceIndex = fileContents.getHeader().indexOf(source);
         int targetIndex = Integer.parseInt(target.replace(
                 Constants.COLUMN_ENCOLSING_QUOTE, Constants.EMPTY_STRING));
 
-        /* Move Columns */
-        String header = fileHeader.remove(sourceIndex);
-        fileHeader.add(targetIndex, header);
-
-        /* Move Data Column Values */
-        for (final FileRecord fileRecord : fileRecords) {
-            Object data = fileRecord.getData().remove(sourceIndex);
-            fileRecord.getData().add(targetIndex, data);
-        }
+        /* Move Column */
+        fileContents.moveColumn(sourceIndex, targetIndex);
     }
 
     /**
      * Perform Swap Operation
      * 
-     * @param fileHeader
+     * @param fileContents
      * @param source
      * @param target
-     * @param fileRecords
      */
-    private void doSwap(List<String> fileHeader, List<FileRecord> fileRecords,
-            final String source, final String target) {
+    private void doSwap(FileContents fileContents, final String source,
+            final String target) {
         LOGGER.info(
                 "Performing Swap Operation - Source: {} | Target: {} | Header: {}",
-                source, target, fileHeader);
-
-        /* Get Source & Target Indices */
-        int sourceIndex = fileHeader.indexOf(source);
-        int targetIndex = fileHeader.indexOf(target);
+                source, target, fileContents.getHeader());
 
         /* Swap Columns */
-        Collections.swap(fileHeader, sourceIndex, targetIndex);
-
-        /* Swap Data Column Values */
-        for (final FileRecord fileRecord : fileRecords) {
-            Collections.swap(fileRecord.getData(), sourceIndex, targetIndex);
-        }
+        fileContents.swapColumns(fileContents.getHeader().indexOf(source),
+                fileContents.getHeader().indexOf(target));
     }
 
     /**
@@ -590,66 +1049,195 @@ public class UkubukaTransformer implements UkubukaOperations {
      */
     private void excludeRow(FileContents fileContents, final String target,
             final boolean isExclude) {
-        /* Iterate Rows */
-        Iterator<FileRecord> fileRecordsIterator = fileContents.getData()
-                .iterator();
-        while (fileRecordsIterator.hasNext()) {
-            FileRecord fileRecord = fileRecordsIterator.next();
-            boolean expressionValue = (boolean) evaluateExpression(fileContents,
-                    fileRecord, target);
-            if ((isExclude && expressionValue)
-                    || !(isExclude || expressionValue)) {
-                fileRecordsIterator.remove();
+        /* Mark Kept Rows */
+        EvaluationContext evaluationContext = expressionEvaluator
+                .createContext(fileContents);
+        List<FileRecord> fileRecords = fileContents.getData();
+        BitSet keptRows = new BitSet(fileRecords.size());
+        int rowIndex = 0;
+        for (final FileRecord fileRecord : fileRecords) {
+            boolean expressionValue = (boolean) evaluateExpression(
+                    evaluationContext, fileRecord, target);
+            if (isExclude != expressionValue) {
+                keptRows.set(rowIndex);
             }
+            rowIndex++;
         }
+
+        /* Compact Once */
+        fileContents.retainRows(keptRows);
     }
 
     /**
      * Evaluate Expression
      * 
-     * @param fileContents
+     * @param evaluationContext
+     * @param fileRecord
      * @param target
      * @return Evaluated Expression
      */
-    private Object evaluateExpression(final FileContents fileContents,
+    private Object evaluateExpression(
+            final EvaluationContext evaluationContext,
             final FileRecord fileRecord, final String target) {
-        Map<String, String> sMap = getShortcutsMap();
-        Object expressionValue = expressionEvaluator.evaluate(fileContents,
-                fileRecord, CollectionUtils.isEmpty(sMap) ? target
-                        : getOriginalTarget(target, sMap));
-        LOGGER.info("Evaluated Expression Value: {}", expressionValue);
+        Object expressionValue = expressionEvaluator
+                .evaluate(evaluationContext, fileRecord, target);
+
+        /* Trace Every Nth Evaluation Only When Asked To */
+        if (traceSample > 0 && LOGGER.isDebugEnabled()
+                && 0 == tracedEvaluations.getAndIncrement() % traceSample) {
+            LOGGER.debug(
+                    "Evaluated Expression - Row: {} | Expression: {} | Value: {}",
+                    fileRecord.getIndex(), target, expressionValue);
+        }
         return expressionValue;
     }
 
     /**
-     * Get Shortcuts Map
+     * @param parallelThreshold
+     *            the parallelThreshold to set
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @param parallelism
+     *            the parallelism to set
+     */
+    public synchronized void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        if (null != forkJoinPool) {
+            forkJoinPool.shutdown();
+            forkJoinPool = null;
+        }
+    }
+
+    /**
+     * @param traceSample
+     *            the traceSample to set
+     */
+    public void setTraceSample(int traceSample) {
+        this.traceSample = traceSample;
+    }
+
+    /**
+     * Row Step
+     * 
+     * One compiled row operation, with the field positions it works on at
+     * its place in the pass.
      * 
-     * @return sMap
+     * @author agrawroh
+     * @version v1.0
      */
-    private Map<String, String> getShortcutsMap() {
-        /* Get Mappings File */
-        String[] fileContents;
-        try {
-            fileContents = this.reader
-                    .readFileAsString(SupportedSource.FILE, UkubukaLauncher
-                            .getAppContext()
-                            .getResource(
-                                    Constants.CLASSPATH + "shortcut-mappings")
-                            .getFile().getAbsolutePath(),
-                            Constants.DEFAULT_FILE_ENCODING)
-                    .split(Constants.DEFAULT_FILE_END_LINE_DELIMITER);
-        } catch (Exception ex) {
-            LOGGER.error("Unable To Read Shortcut Mappings!", ex);
-            return Collections.emptyMap();
-        }
-
-        /* Create Shortcuts Map */
-        Map<String, String> sMap = new HashMap<>();
-        for (final String fileContent : fileContents) {
-            String[] keyValuePair = fileContent
-                    .split(Constants.SHORTCUT_MAP_DELIMITER);
-            sMap.put(keyValuePair[0], keyValuePair[1]);
-        }
-        return sMap;
+    private static class RowStep {
+        private final TransformOperation type;
+        private final int sourceIndex;
+        private final int targetIndex;
+        private final String expression;
+        private int reachedRows;
+
+        /******************************** Constructor *********************************/
+        private RowStep(final TransformOperation type, final int sourceIndex,
+                final int targetIndex, final String expression) {
+            this.type = type;
+            this.sourceIndex = sourceIndex;
+            this.targetIndex = targetIndex;
+            this.expression = expression;
+        }
+    }
+
+    /**
+     * Aggregate
+     * 
+     * Running SUM/MIN/MAX of one target. MIN and MAX start from the largest
+     * and the most negative double, so that negative values are ordered as
+     * well.
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    private static class Aggregate {
+        private final String expression;
+        private boolean needsSum;
+        private boolean needsMin;
+        private boolean needsMax;
+        private BigDecimal sumValue = new BigDecimal(0);
+        private BigDecimal minValue = BigDecimal.valueOf(Double.MAX_VALUE);
+        private BigDecimal maxValue = BigDecimal.valueOf(-Double.MAX_VALUE);
+
+        /****************************** Constructor ******************************/
+        private Aggregate(final String expression) {
+            this.expression = expression;
+        }
+
+        /**
+         * Require
+         * 
+         * @param operationType
+         */
+        private void require(final TransformOperation operationType) {
+            needsSum |= TransformOperation.SUM == operationType
+                    || TransformOperation.AVG == operationType;
+            needsMin |= TransformOperation.MIN == operationType;
+            needsMax |= TransformOperation.MAX == operationType;
+        }
+
+        /**
+         * New Partial
+         * 
+         * @return Empty Aggregate Of The Same Target And Operations
+         */
+        private Aggregate newPartial() {
+            Aggregate aggregate = new Aggregate(expression);
+            aggregate.needsSum = needsSum;
+            aggregate.needsMin = needsMin;
+            aggregate.needsMax = needsMax;
+            return aggregate;
+        }
+
+        /**
+         * Merge Partial
+         * 
+         * @param partial
+         */
+        private void merge(final Aggregate partial) {
+            sumValue = sumValue.add(partial.sumValue);
+            minValue = minValue.min(partial.minValue);
+            maxValue = maxValue.max(partial.maxValue);
+        }
+
+        /**
+         * Accumulate Row Value
+         * 
+         * @param value
+         */
+        private void accumulate(final BigDecimal value) {
+            if (needsSum) {
+                sumValue = sumValue.add(value);
+            }
+            if (needsMin) {
+                minValue = minValue.min(value);
+            }
+            if (needsMax) {
+                maxValue = maxValue.max(value);
+            }
+        }
+
+        /**
+         * Accumulate Typed Column
+         * 
+         * @param column
+         */
+        private void accumulate(final NumericColumnVector column) {
+            if (needsSum) {
+                sumValue = sumValue.add(column.sum());
+            }
+            if (needsMin && 0 != column.size()) {
+                minValue = minValue.min(column.min());
+            }
+            if (needsMax && 0 != column.size()) {
+                maxValue = maxValue.max(column.max());
+            }
+        }
     }
 }
@@ -113,11 +113,7 @@ public class UkubukaVisualizer implements UkubukaOperations {
                         visualization.getFlags().getHeight())
                 .replace(Constants.OPTION_TAG,
                         visualization.getFlags().getOptions())
-                .replace(
-                        Constants.DATA_TAG, writer
-                                .prettyPrint(writer
-                                        .writeJSON(fileContents.getHeader(),
-                                                fileContents.getData())
-                                        .toString()));
+                .replace(Constants.DATA_TAG, writer.knitJSON(
+                        fileContents.getHeader(), fileContents.getData()));
     }
 }
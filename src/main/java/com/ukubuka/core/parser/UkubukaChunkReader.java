@@ -0,0 +1,289 @@
+package com.ukubuka.core.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Chunk Reader
+ * 
+ * Splits a delimited file into byte ranges that start and end on record
+ * boundaries, tokenizes the ranges concurrently and hands the records back in
+ * file order. Boundaries are found by a byte scan that tracks quoting exactly
+ * like the tokenizer does, so a line break inside a quoted field never splits
+ * a record. The scan needs the quote, the delimiter and the line breaks to be
+ * single bytes that never show up inside a multi byte character, which only
+ * holds for the charsets accepted by {@link #isSupported(Charset, String)}.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaChunkReader {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaChunkReader.class);
+
+    /************************************ Global Variables **********************************/
+    private static final int SCAN_BUFFER_SIZE = 65536;
+    private static final byte QUOTE = (byte) Constants.COLUMN_ENCOLSING_QUOTE
+            .charAt(0);
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final List<Charset> SUPPORTED_CHARSETS = Arrays.asList(
+            StandardCharsets.UTF_8, StandardCharsets.US_ASCII,
+            StandardCharsets.ISO_8859_1);
+
+    private final FileChannel fileChannel;
+    private final Charset charset;
+    private final char delimiter;
+
+    /****************************** Constructor ******************************/
+    public UkubukaChunkReader(final FileChannel fileChannel,
+            final Charset charset, final String fileDelimiter) {
+        this.fileChannel = fileChannel;
+        this.charset = charset;
+        this.delimiter = fileDelimiter.charAt(0);
+    }
+
+    /**
+     * Is Supported
+     * 
+     * @param charset
+     * @param fileDelimiter
+     * @return Whether Record Boundaries Can Be Found On Raw Bytes
+     */
+    public static boolean isSupported(final Charset charset,
+            final String fileDelimiter) {
+        char character = fileDelimiter.charAt(0);
+        return SUPPORTED_CHARSETS.contains(charset) && character < 0x80
+                && QUOTE != character && LINE_FEED != character
+                && CARRIAGE_RETURN != character;
+    }
+
+    /**
+     * Read Records
+     * 
+     * @param forkJoinPool
+     * @param chunkSize
+     * @return All Records In File Order
+     * @throws ParserException
+     */
+    public List<FileRecord> readRecords(final ForkJoinPool forkJoinPool,
+            final long chunkSize) throws ParserException {
+        int parallelism = forkJoinPool.getParallelism();
+        List<Long> boundaries = split(parallelism
+                * Constants.PARALLEL_CHUNKS_PER_THREAD, chunkSize);
+        LOGGER.info("Reading In Parallel - Threads: {} | Chunks: #{}",
+                parallelism, boundaries.size() - 1);
+
+        /* Create Chunk Tasks */
+        List<Callable<List<FileRecord>>> tasks = new ArrayList<>();
+        for (int i = 1; i < boundaries.size(); i++) {
+            final long start = boundaries.get(i - 1);
+            final long end = boundaries.get(i);
+            tasks.add(() -> readChunk(start, end));
+        }
+
+        /* Stitch Chunks In Order */
+        List<FileRecord> fileRecords = new ArrayList<>();
+        try {
+            for (final Future<List<FileRecord>> future : forkJoinPool
+                    .invokeAll(tasks)) {
+                fileRecords.addAll(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ParserException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ParserException) {
+                throw (ParserException) ex.getCause();
+            }
+            throw new ParserException(ex.getCause());
+        }
+        return fileRecords;
+    }
+
+    /**
+     * Split File
+     * 
+     * Aims for evenly sized chunks of at least the given size and moves every
+     * cut forward to the first record boundary after it.
+     * 
+     * @param chunks
+     * @param chunkSize
+     * @return Chunk Boundaries, Starting With Zero And Ending With File Size
+     * @throws ParserException
+     */
+    public List<Long> split(final int chunks, final long chunkSize)
+            throws ParserException {
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        try {
+            long fileSize = fileChannel.size();
+            long step = Math.max(Math.max(1, chunkSize),
+                    (fileSize + chunks - 1) / Math.max(1, chunks));
+            if (step < fileSize) {
+                scanBoundaries(fileSize, step, boundaries);
+            }
+            if (fileSize > boundaries.get(boundaries.size() - 1)) {
+                boundaries.add(fileSize);
+            }
+        } catch (IOException ex) {
+            throw new ParserException(ex);
+        }
+        return boundaries;
+    }
+
+    /**
+     * Scan Boundaries
+     * 
+     * @param fileSize
+     * @param step
+     * @param boundaries
+     * @throws IOException
+     */
+    private void scanBoundaries(final long fileSize, final long step,
+            final List<Long> boundaries) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long nextCut = step;
+        long offset = 0;
+        boolean quoted = false;
+        boolean quoteSeen = false;
+        boolean fieldStart = true;
+
+        while (offset < fileSize && nextCut < fileSize) {
+            buffer.clear();
+            int read = fileChannel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < read; i++) {
+                byte character = bytes[i];
+
+                /* Quoted Section */
+                if (quoted) {
+                    if (quoteSeen) {
+                        quoteSeen = false;
+                        if (QUOTE == character) {
+                            continue;
+                        }
+                        quoted = false;
+                        fieldStart = false;
+                    } else {
+                        quoteSeen = QUOTE == character;
+                        continue;
+                    }
+                }
+
+                /* Unquoted Section */
+                if (delimiter == character) {
+                    fieldStart = true;
+                } else if (QUOTE == character) {
+                    quoted = fieldStart;
+                    fieldStart = false;
+                } else if (LINE_FEED == character
+                        || CARRIAGE_RETURN == character) {
+                    fieldStart = true;
+                    long boundary = offset + i + 1;
+                    if (boundary >= nextCut && boundary < fileSize) {
+                        boundaries.add(boundary);
+                        nextCut = boundary + step;
+                    }
+                } else {
+                    fieldStart = false;
+                }
+            }
+            offset += read;
+        }
+    }
+
+    /**
+     * Read Chunk
+     * 
+     * @param start
+     * @param end
+     * @return Chunk Records
+     * @throws ParserException
+     */
+    private List<FileRecord> readChunk(final long start, final long end)
+            throws ParserException {
+        List<FileRecord> fileRecords = new ArrayList<>();
+        try (InputStreamReader reader = new InputStreamReader(
+                new RangeInputStream(fileChannel, start, end),
+                charset.newDecoder())) {
+            UkubukaTokenizer tokenizer = new UkubukaTokenizer(reader,
+                    delimiter);
+            List<Object> fileRecord;
+            while (null != (fileRecord = tokenizer.nextRecord())) {
+                fileRecords.add(new FileRecord(fileRecord));
+            }
+        } catch (IOException ex) {
+            throw new ParserException(ex);
+        }
+        return fileRecords;
+    }
+
+    /**
+     * Range Input Stream
+     * 
+     * Reads a byte range of a shared file channel using positional reads, so
+     * any number of ranges can be read at the same time.
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    private static class RangeInputStream extends InputStream {
+
+        private final FileChannel fileChannel;
+        private final long end;
+        private long position;
+
+        /******************************** Constructor *********************************/
+        private RangeInputStream(final FileChannel fileChannel,
+                final long start, final long end) {
+            this.fileChannel = fileChannel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] bytes = new byte[1];
+            return -1 == read(bytes, 0, 1) ? -1 : bytes[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length)
+                throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int read = fileChannel.read(ByteBuffer.wrap(bytes, offset,
+                    (int) Math.min(length, end - position)), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ukubuka.core.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnVector;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.Compression;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Columnar Reader
+ * 
+ * Reads back files written by the columnar writer straight into typed column
+ * vectors, without tokenizing or parsing any text.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaColumnarReader {
+
+    private final DataInputStream dataStream;
+
+    /****************************** Constructor ******************************/
+    public UkubukaColumnarReader(final InputStream inputStream) {
+        this.dataStream = new DataInputStream(inputStream);
+    }
+
+    /**
+     * Read Contents
+     * 
+     * @return Columnar File Contents
+     * @throws ParserException
+     * @throws IOException
+     */
+    public ColumnarFileContents read() throws ParserException, IOException {
+        if (Constants.COLUMNAR_FILE_MAGIC != dataStream.readInt()) {
+            throw new ParserException("Not A Columnar File!");
+        }
+        int version = dataStream.readByte();
+        if (Constants.COLUMNAR_FILE_VERSION != version) {
+            throw new ParserException(
+                    "Unsupported Columnar File Version: " + version);
+        }
+        Compression compression;
+        try {
+            compression = Compression.getCompression(dataStream.readUTF(),
+                    null);
+        } catch (IllegalArgumentException ex) {
+            throw new ParserException(ex);
+        }
+
+        /* Column Names And Types */
+        int columnCount = dataStream.readInt();
+        List<String> header = new ArrayList<>(columnCount);
+        List<ColumnType> columnTypes = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            header.add(dataStream.readUTF());
+            String type = dataStream.readUTF();
+            ColumnType columnType = ColumnType.getColumnType(type);
+            if (null == columnType) {
+                throw new ParserException("Unsupported Column Type: " + type
+                        + " | Column: " + header.get(i));
+            }
+            columnTypes.add(columnType);
+        }
+        int rowCount = dataStream.readInt();
+        dataStream.readInt();
+
+        List<ColumnVector> columns = new ArrayList<>(columnCount);
+        for (final ColumnType columnType : columnTypes) {
+            columns.add(ColumnVector.create(columnType, rowCount));
+        }
+
+        /* Blocks */
+        int rowsRead = 0;
+        while (rowsRead < rowCount) {
+            int blockRows = dataStream.readInt();
+            for (int i = 0; i < columnCount; i++) {
+                readColumn(columns.get(i), compression, blockRows);
+            }
+            rowsRead += blockRows;
+        }
+        return new ColumnarFileContents(header, columns, rowCount);
+    }
+
+    /**
+     * Read Column Block
+     * 
+     * @param column
+     * @param compression
+     * @param blockRows
+     * @throws IOException
+     */
+    private void readColumn(final ColumnVector column,
+            final Compression compression, final int blockRows)
+            throws IOException {
+        ColumnType columnType = column.getType();
+        byte[] bytes = new byte[dataStream.readInt()];
+        dataStream.readFully(bytes);
+
+        try (DataInputStream valueStream = new DataInputStream(compression
+                .decompress(new ByteArrayInputStream(bytes)))) {
+            long[] words = new long[valueStream.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = valueStream.readLong();
+            }
+            BitSet missing = BitSet.valueOf(words);
+            for (int i = 0; i < blockRows; i++) {
+                column.add(missing.get(i) ? Constants.EMPTY_STRING
+                        : readValue(valueStream, columnType));
+            }
+        }
+    }
+
+    /**
+     * Read Value
+     * 
+     * @param valueStream
+     * @param columnType
+     * @return Boxed Value
+     * @throws IOException
+     */
+    private static Object readValue(final DataInputStream valueStream,
+            final ColumnType columnType) throws IOException {
+        switch (columnType) {
+            case INT:
+                return valueStream.readInt();
+            case LONG:
+                return valueStream.readLong();
+            case DOUBLE:
+                return valueStream.readDouble();
+            case BOOLEAN:
+                return valueStream.readBoolean();
+            case DECIMAL:
+                return new BigDecimal(readText(valueStream));
+            default:
+                return readText(valueStream);
+        }
+    }
+
+    /**
+     * Read Text
+     * 
+     * @param valueStream
+     * @return Text, Null When Written As Null
+     * @throws IOException
+     */
+    private static String readText(final DataInputStream valueStream)
+            throws IOException {
+        int length = valueStream.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        valueStream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,207 @@
+package com.ukubuka.core.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.model.ColumnProjection;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.RowFilter;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Record Stream
+ * 
+ * Tokenizes a delimited file record by record and hands out the records in
+ * batches so that no more than one batch is buffered at a time. With a
+ * projection, the fields of columns it skips are left empty. With a row
+ * filter, the records it rejects are dropped before they are batched.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaRecordStream implements Closeable {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaRecordStream.class);
+
+    /************************************ Global Variables **********************************/
+    private final Reader reader;
+    private final UkubukaTokenizer tokenizer;
+    private final int batchSize;
+    private final List<String> header;
+    private Predicate<FileRecord> rowFilter;
+    private List<Object> pendingRecord;
+    private boolean exhausted;
+    private long recordCount;
+    private long filteredCount;
+
+    /****************************** Constructor ******************************/
+    public UkubukaRecordStream(final Reader reader, final String fileDelimiter,
+            final boolean withHeader, final int batchSize)
+            throws ParserException {
+        this(reader, fileDelimiter, withHeader, batchSize, null, null);
+    }
+
+    public UkubukaRecordStream(final Reader reader, final String fileDelimiter,
+            final boolean withHeader, final int batchSize,
+            final ColumnProjection projection, final RowFilter rowFilter)
+            throws ParserException {
+        this.reader = reader;
+        this.tokenizer = new UkubukaTokenizer(reader, fileDelimiter.charAt(0));
+        this.batchSize = batchSize;
+
+        /* Read First Record */
+        List<Object> firstRecord = readRecord();
+        if (null == firstRecord) {
+            this.exhausted = true;
+            this.header = new ArrayList<>();
+        } else if (withHeader) {
+            this.header = toHeader(firstRecord);
+        } else {
+            this.pendingRecord = firstRecord;
+            this.header = stitchHeader(firstRecord.size());
+        }
+        LOGGER.info("Opened Record Stream - Header: {} | Batch Size: {}",
+                header, batchSize);
+
+        /* Skip Unused Columns From Here On */
+        if (null != projection) {
+            BitSet skippedColumns = projection.getSkippedColumns(header);
+            LOGGER.info("Skipped Columns: {}", skippedColumns);
+            tokenizer.setSkippedFields(skippedColumns);
+        }
+
+        /* Filter Rows As They Are Read */
+        if (null != rowFilter) {
+            this.rowFilter = rowFilter.bind(header);
+            LOGGER.info("Row Filter Applied While Reading: {}",
+                    null != this.rowFilter);
+        }
+    }
+
+    /**
+     * @return the header
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * @return the recordCount
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Has Next
+     * 
+     * @return Whether More Records Are Available
+     */
+    public boolean hasNext() {
+        return !exhausted || null != pendingRecord;
+    }
+
+    /**
+     * Next Batch
+     * 
+     * @return Next Batch Of Records, Empty When Exhausted
+     * @throws ParserException
+     */
+    public List<FileRecord> nextBatch() throws ParserException {
+        List<FileRecord> fileRecords = new ArrayList<>(
+                Math.min(batchSize, Constants.DEFAULT_BATCH_SIZE));
+        if (null != pendingRecord) {
+            addRecord(fileRecords, pendingRecord);
+            pendingRecord = null;
+        }
+        while (fileRecords.size() < batchSize && !exhausted) {
+            List<Object> fileRecord = readRecord();
+            if (null == fileRecord) {
+                exhausted = true;
+            } else {
+                addRecord(fileRecords, fileRecord);
+            }
+        }
+        recordCount += fileRecords.size();
+        return fileRecords;
+    }
+
+    /**
+     * Add Record Unless Filtered Out
+     * 
+     * @param fileRecords
+     * @param record
+     */
+    private void addRecord(List<FileRecord> fileRecords,
+            final List<Object> record) {
+        FileRecord fileRecord = new FileRecord(record);
+        if (null == rowFilter || rowFilter.test(fileRecord)) {
+            fileRecords.add(fileRecord);
+        } else {
+            filteredCount++;
+        }
+    }
+
+    /**
+     * Close Stream
+     */
+    @Override
+    public void close() throws IOException {
+        LOGGER.info("Closing Record Stream - Records Read: #{} | Filtered: #{}",
+                recordCount, filteredCount);
+        reader.close();
+    }
+
+    /**
+     * Read Record
+     * 
+     * @return Record Fields
+     * @throws ParserException
+     */
+    private List<Object> readRecord() throws ParserException {
+        try {
+            return tokenizer.nextRecord();
+        } catch (IOException ex) {
+            throw new ParserException(ex);
+        }
+    }
+
+    /**
+     * To Header
+     * 
+     * @param headerRecord
+     * @return Header
+     */
+    public static List<String> toHeader(final List<Object> headerRecord) {
+        List<String> header = new ArrayList<>(headerRecord.size());
+        for (final Object column : headerRecord) {
+            header.add(String.valueOf(column));
+        }
+        return header;
+    }
+
+    /**
+     * Stitch Header
+     * 
+     * @param columnSize
+     * @return Generated Header
+     */
+    public static List<String> stitchHeader(final int columnSize) {
+        List<String> stitchedHeader = new ArrayList<>(columnSize);
+        for (int i = 0; i < columnSize; i++) {
+            stitchedHeader.add(Constants.DEFAULT_COLUMN_NAME_PREFIX + i);
+        }
+        return stitchedHeader;
+    }
+}
@@ -0,0 +1,241 @@
+package com.ukubuka.core.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Tokenizer
+ * 
+ * Splits delimited records into fields in a single forward pass over a char
+ * buffer. Fields may be enclosed in quotes, in which case they can contain the
+ * delimiter, line breaks and escaped ("") quotes.
+ * 
+ * Fields of skipped columns are still scanned for their boundaries but never
+ * copied, they come out as empty values so every other field keeps its
+ * position.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaTokenizer {
+
+    /************************************ Global Variables **********************************/
+    private static final int BUFFER_SIZE = 8192;
+    private static final char QUOTE = Constants.COLUMN_ENCOLSING_QUOTE
+            .charAt(0);
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private int expectedFields = 16;
+    private BitSet skippedFields;
+
+    /****************************** Constructor ******************************/
+    public UkubukaTokenizer(final Reader reader, final char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * @param skippedFields
+     *            the skippedFields to set
+     */
+    public void setSkippedFields(BitSet skippedFields) {
+        this.skippedFields = null == skippedFields || skippedFields.isEmpty()
+                ? null
+                : skippedFields;
+    }
+
+    /**
+     * Next Record
+     * 
+     * @return Record Fields, Or Null When The Input Is Exhausted
+     * @throws IOException
+     */
+    public List<Object> nextRecord() throws IOException {
+        List<Object> fields = new ArrayList<>(expectedFields);
+        boolean quoted = false;
+        boolean fieldQuoted = false;
+        boolean recordStarted = false;
+        boolean fieldStarted = false;
+        boolean keep = isKept(0);
+
+        while (true) {
+            /* Refill Buffer */
+            if (position >= limit && !fill()) {
+                if (!recordStarted) {
+                    return null;
+                }
+                fields.add(takeField());
+                return finish(fields);
+            }
+
+            /* Quoted Section */
+            if (quoted) {
+                int start = position;
+                while (position < limit && buffer[position] != QUOTE) {
+                    position++;
+                }
+                append(keep, start);
+                if (position < limit) {
+                    position++;
+                    if (peek() == QUOTE) {
+                        append(keep, QUOTE);
+                        position++;
+                    } else {
+                        quoted = false;
+                    }
+                }
+                continue;
+            }
+
+            /* Unquoted Section */
+            int start = position;
+            while (position < limit && !isSpecial(buffer[position])) {
+                position++;
+            }
+            append(keep, start);
+            if (position > start) {
+                recordStarted = true;
+                fieldStarted = true;
+            }
+            if (position >= limit) {
+                continue;
+            }
+
+            char character = buffer[position++];
+            if (character == delimiter) {
+                recordStarted = true;
+                fields.add(takeField());
+                fieldQuoted = false;
+                fieldStarted = false;
+                keep = isKept(fields.size());
+            } else if (character == QUOTE) {
+                recordStarted = true;
+                if (!fieldStarted && !fieldQuoted) {
+                    quoted = true;
+                    fieldQuoted = true;
+                } else {
+                    append(keep, QUOTE);
+                }
+                fieldStarted = true;
+            } else {
+                /* Line Break */
+                if (character == CARRIAGE_RETURN && peek() == LINE_FEED) {
+                    position++;
+                }
+                if (recordStarted) {
+                    fields.add(takeField());
+                    return finish(fields);
+                }
+            }
+        }
+    }
+
+    /**
+     * Is Kept
+     * 
+     * @param index
+     * @return Whether The Field At The Index Is Copied
+     */
+    private boolean isKept(final int index) {
+        return null == skippedFields || !skippedFields.get(index);
+    }
+
+    /**
+     * Append Plain Run
+     * 
+     * @param keep
+     * @param start
+     */
+    private void append(final boolean keep, final int start) {
+        if (keep) {
+            field.append(buffer, start, position - start);
+        }
+    }
+
+    /**
+     * Append Character
+     * 
+     * @param keep
+     * @param character
+     */
+    private void append(final boolean keep, final char character) {
+        if (keep) {
+            field.append(character);
+        }
+    }
+
+    /**
+     * Is Special Character
+     * 
+     * @param character
+     * @return Whether The Character Ends A Plain Run
+     */
+    private boolean isSpecial(final char character) {
+        return character == delimiter || character == QUOTE
+                || character == LINE_FEED || character == CARRIAGE_RETURN;
+    }
+
+    /**
+     * Peek Next Character
+     * 
+     * @return Next Character, Or -1 At End Of Input
+     * @throws IOException
+     */
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Fill Buffer
+     * 
+     * @return Whether Any Characters Were Read
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (0 == read);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    /**
+     * Take Field
+     * 
+     * @return Field Value
+     */
+    private String takeField() {
+        String value = 0 == field.length() ? Constants.EMPTY_STRING
+                : field.toString();
+        field.setLength(0);
+        return value;
+    }
+
+    /**
+     * Finish Record
+     * 
+     * @param fields
+     * @return Record Fields
+     */
+    private List<Object> finish(final List<Object> fields) {
+        expectedFields = fields.size();
+        return fields;
+    }
+}
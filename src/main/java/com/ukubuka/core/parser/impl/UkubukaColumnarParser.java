@@ -0,0 +1,70 @@
+package com.ukubuka.core.parser.impl;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.exception.ReaderException;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.ExtractFlags;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.SupportedSource;
+import com.ukubuka.core.parser.UkubukaBaseParser;
+import com.ukubuka.core.parser.UkubukaColumnarReader;
+import com.ukubuka.core.parser.UkubukaParser;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Columnar File Parser
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@Component("UkubukaColumnarParser")
+public class UkubukaColumnarParser extends UkubukaBaseParser
+        implements UkubukaParser {
+
+    /************************************ Logger Instance ***********************************/
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(UkubukaColumnarParser.class);
+
+    /**
+     * Parse File
+     */
+    @Override
+    public FileContents parseFile(final String completeFileName,
+            Map<String, Object> flags) throws ParserException {
+        LOGGER.info("Parsing Columnar File - Location: {} | Flags: {}",
+                completeFileName, flags);
+        SupportedSource source = SupportedSource.getSource(
+                ExtractFlags.SOURCE.getValue(flags, (String) null));
+        try (InputStream inputStream = new BufferedInputStream(
+                Channels.newInputStream(super.getReader()
+                        .openFileChannel(source, completeFileName)),
+                Constants.COMPRESSION_BUFFER_SIZE)) {
+            ColumnarFileContents fileContents = new UkubukaColumnarReader(
+                    inputStream).read();
+            LOGGER.info("Rows: #{} | Column Types: {}",
+                    fileContents.getRowCount(), fileContents.getColumnTypes());
+            return fileContents;
+        } catch (IOException | ReaderException
+                | IllegalArgumentException ex) {
+            throw new ParserException(ex);
+        }
+    }
+
+    /**
+     * Get Parser Information
+     */
+    @Override
+    public String getParserInfo() {
+        return this.getClass().getSimpleName();
+    }
+}
@@ -1,9 +1,16 @@
 package com.ukubuka.core.parser.impl;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,13 +19,20 @@ import org.springframework.util.StringUtils;
 
 import com.ukubuka.core.exception.ParserException;
 import com.ukubuka.core.exception.ReaderException;
+import com.ukubuka.core.model.ColumnProjection;
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.Compression;
 import com.ukubuka.core.model.ExtractFlags;
 import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.RowFilter;
 import com.ukubuka.core.model.SupportedSource;
 import com.ukubuka.core.parser.UkubukaBaseParser;
+import com.ukubuka.core.parser.UkubukaChunkReader;
 import com.ukubuka.core.parser.UkubukaParser;
+import com.ukubuka.core.parser.UkubukaRecordStream;
 import com.ukubuka.core.utilities.Constants;
-import com.ukubuka.core.utilities.Utilities;
 
 /**
  * Ukubuka Delimited File Parser
@@ -34,6 +48,9 @@ public class UkubukaDFileParser extends UkubukaBaseParser
     private static final Logger LOGGER = LoggerFactory
             .getLogger(UkubukaDFileParser.class);
 
+    /************************************ Global Variables **********************************/
+    private final Map<Integer, ForkJoinPool> forkJoinPools = new ConcurrentHashMap<>();
+
     /**
      * Parse File
      */
@@ -42,66 +59,383 @@ public class UkubukaDFileParser extends UkubukaBaseParser
             Map<String, Object> flags) throws ParserException {
         LOGGER.info("Parsing Delimited File - Location: {} | Flags: {}",
                 completeFileName, flags);
-        return super.getFileContents(readWithOptions(completeFileName, flags));
+        if (isParallel(completeFileName, flags)) {
+            return readInParallel(completeFileName, flags);
+        }
+
+        try (UkubukaRecordStream recordStream = openRecordStream(
+                completeFileName, flags)) {
+            /* Fill Column Vectors */
+            if (isColumnar(flags)) {
+                return readColumnar(recordStream, flags);
+            }
+
+            /* Collect Every Batch */
+            List<FileRecord> fileRecords = new ArrayList<>();
+            while (recordStream.hasNext()) {
+                fileRecords.addAll(recordStream.nextBatch());
+            }
+            return new FileContents(recordStream.getHeader(), fileRecords);
+        } catch (IOException ex) {
+            throw new ParserException(ex);
+        }
     }
 
     /**
-     * Get Parser Information
+     * Is Columnar
+     * 
+     * @param flags
+     * @return Whether Column Vectors Are Requested, Typed Columns Imply It
      */
-    @Override
-    public String getParserInfo() {
-        return this.getClass().getSimpleName();
+    private boolean isColumnar(final Map<String, Object> flags) {
+        return ExtractFlags.COLUMNAR.getValue(flags, false)
+                || ExtractFlags.INFER_TYPES.getValue(flags, false)
+                || null != ExtractFlags.COLUMN_TYPES.getValue(flags, null);
     }
 
     /**
-     * Read With Options
+     * Read Columnar
+     * 
+     * @param recordStream
+     * @param flags
+     * @return Columnar File Contents
+     * @throws ParserException
+     */
+    private FileContents readColumnar(final UkubukaRecordStream recordStream,
+            final Map<String, Object> flags) throws ParserException {
+        /* Buffer The Sample Used For Type Inference */
+        List<FileRecord> sampleRecords = new ArrayList<>();
+        while (recordStream.hasNext() && sampleRecords
+                .size() < Constants.DEFAULT_TYPE_INFERENCE_SAMPLE_SIZE) {
+            sampleRecords.addAll(recordStream.nextBatch());
+        }
+
+        ColumnarFileContents fileContents = new ColumnarFileContents(
+                recordStream.getHeader(), getColumnTypes(
+                        recordStream.getHeader(), sampleRecords, flags));
+        appendRecords(fileContents, sampleRecords);
+        while (recordStream.hasNext()) {
+            appendRecords(fileContents, recordStream.nextBatch());
+        }
+        LOGGER.info("Column Types: {}", fileContents.getColumnTypes());
+        return fileContents;
+    }
+
+    /**
+     * Is Parallel
+     * 
+     * Only uncompressed files in a charset whose record boundaries can be
+     * found on the raw bytes are split, everything else is read sequentially.
      * 
      * @param completeFileName
-     * @return File Content
+     * @param flags
+     * @return Whether The File Can Be Read In Parallel Chunks
+     */
+    private boolean isParallel(final String completeFileName,
+            final Map<String, Object> flags) {
+        if (!ExtractFlags.PARALLEL.getValue(flags, false)) {
+            return false;
+        }
+        try {
+            if (Compression.NONE == getCompression(completeFileName, flags)
+                    && UkubukaChunkReader.isSupported(getCharset(flags),
+                            getFileDelimiter(flags))) {
+                return true;
+            }
+        } catch (IllegalArgumentException ex) {
+            /* Let The Sequential Reader Report It */
+        }
+        LOGGER.warn("Parallel Read Not Supported, Reading Sequentially");
+        return false;
+    }
+
+    /**
+     * Get Fork/Join Pool
+     * 
+     * One pool per thread count, created on first use and kept for every
+     * later parallel read asking for the same count.
+     * 
+     * @param threads
+     * @return Chunk Reading Pool
+     */
+    private ForkJoinPool getForkJoinPool(final int threads) {
+        return forkJoinPools.computeIfAbsent(threads, ForkJoinPool::new);
+    }
+
+    /**
+     * Read In Parallel
+     * 
+     * @param completeFileName
+     * @param flags
+     * @return File Contents
+     * @throws ParserException
+     */
+    private FileContents readInParallel(final String completeFileName,
+            final Map<String, Object> flags) throws ParserException {
+        SupportedSource source = SupportedSource.getSource(
+                ExtractFlags.SOURCE.getValue(flags, (String) null));
+        int parallelism = ExtractFlags.PARALLELISM
+                .getValue(flags, (Number) Constants.DEFAULT_PARALLELISM)
+                .intValue();
+        long chunkSize = ExtractFlags.CHUNK_SIZE
+                .getValue(flags, (Number) Constants.DEFAULT_PARALLEL_CHUNK_SIZE)
+                .longValue();
+
+        int threads = parallelism > 0 ? parallelism
+                : Runtime.getRuntime().availableProcessors();
+
+        List<FileRecord> fileRecords;
+        try (FileChannel fileChannel = super.getReader()
+                .openFileChannel(source, completeFileName)) {
+            fileRecords = new UkubukaChunkReader(fileChannel,
+                    getCharset(flags), getFileDelimiter(flags))
+                            .readRecords(getForkJoinPool(threads), chunkSize);
+        } catch (IOException | ReaderException ex) {
+            throw new ParserException(ex);
+        }
+
+        /* Header From The First Record */
+        List<String> header;
+        if (fileRecords.isEmpty()) {
+            header = new ArrayList<>();
+        } else if (ExtractFlags.FILE_CONTAINS_HEADER.getValue(flags, true)) {
+            header = UkubukaRecordStream
+                    .toHeader(fileRecords.remove(0).getData());
+        } else {
+            header = UkubukaRecordStream
+                    .stitchHeader(fileRecords.get(0).getData().size());
+        }
+
+        if (isColumnar(flags)) {
+            List<FileRecord> sampleRecords = fileRecords.subList(0,
+                    Math.min(fileRecords.size(),
+                            Constants.DEFAULT_TYPE_INFERENCE_SAMPLE_SIZE));
+            ColumnarFileContents fileContents = new ColumnarFileContents(
+                    header, getColumnTypes(header, sampleRecords, flags));
+            appendRecords(fileContents, fileRecords);
+            LOGGER.info("Column Types: {}", fileContents.getColumnTypes());
+            return fileContents;
+        }
+        return new FileContents(header, fileRecords);
+    }
+
+    /**
+     * Append Records
+     * 
+     * @param fileContents
+     * @param fileRecords
      * @throws ParserException
      */
-    public List<String> readWithOptions(final String completeFileName,
+    private void appendRecords(ColumnarFileContents fileContents,
+            final List<FileRecord> fileRecords) throws ParserException {
+        for (final FileRecord fileRecord : fileRecords) {
+            try {
+                fileContents.appendRecord(fileRecord.getData());
+            } catch (IllegalArgumentException ex) {
+                throw new ParserException("Unable To Append Row #"
+                        + fileContents.getRowCount() + " | " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get Column Types
+     * 
+     * Declared types win, the rest are inferred from the sample when asked
+     * to, otherwise left untyped.
+     * 
+     * @param header
+     * @param sampleRecords
+     * @param flags
+     * @return Column Types
+     * @throws ParserException
+     */
+    private List<ColumnType> getColumnTypes(final List<String> header,
+            final List<FileRecord> sampleRecords,
+            final Map<String, Object> flags) throws ParserException {
+        Map<String, Object> declaredTypes = ExtractFlags.COLUMN_TYPES
+                .getValue(flags, Collections.<String, Object> emptyMap());
+        boolean inferTypes = ExtractFlags.INFER_TYPES.getValue(flags, false);
+
+        List<ColumnType> columnTypes = new ArrayList<>(header.size());
+        for (int i = 0; i < header.size(); i++) {
+            Object declaredType = declaredTypes.get(header.get(i));
+            if (null != declaredType) {
+                ColumnType columnType = ColumnType
+                        .getColumnType(String.valueOf(declaredType));
+                if (null == columnType) {
+                    throw new ParserException("Unsupported Column Type: "
+                            + declaredType + " | Column: " + header.get(i));
+                }
+                columnTypes.add(columnType);
+            } else {
+                columnTypes.add(inferTypes ? inferColumnType(sampleRecords, i)
+                        : ColumnType.STRING);
+            }
+        }
+        return columnTypes;
+    }
+
+    /**
+     * Infer Column Type
+     * 
+     * @param sampleRecords
+     * @param index
+     * @return Inferred Column Type
+     */
+    private ColumnType inferColumnType(final List<FileRecord> sampleRecords,
+            final int index) {
+        List<String> samples = new ArrayList<>();
+        for (final FileRecord fileRecord : sampleRecords) {
+            if (index < fileRecord.getData().size()) {
+                String sample = String.valueOf(fileRecord.getData().get(index));
+                if (!sample.isEmpty()) {
+                    samples.add(sample);
+                }
+            }
+        }
+        return ColumnType.infer(samples);
+    }
+
+    /**
+     * Open Record Stream
+     * 
+     * The streaming pipeline consumes the batches as they come, parseFile
+     * collects all of them.
+     * 
+     * @param completeFileName
+     * @param flags
+     * @return Record Stream
+     * @throws ParserException
+     */
+    public UkubukaRecordStream openRecordStream(final String completeFileName,
             Map<String, Object> flags) throws ParserException {
-        boolean withHeader = null != flags
-                .get(ExtractFlags.FILE_CONTAINS_HEADER.getFlag())
-                        ? (boolean) flags.get(
-                                ExtractFlags.FILE_CONTAINS_HEADER.getFlag())
-                        : true;
-        SupportedSource source = null == flags
-                .get(ExtractFlags.SOURCE.getFlag()) ? SupportedSource.FILE
-                        : SupportedSource.getSource((String) flags
-                                .get(ExtractFlags.SOURCE.getFlag()));
-        List<String> fileContents = readWithOptions(source, completeFileName,
-                (String) flags.get(ExtractFlags.FILE_ENCODING.getFlag()),
-                (String) flags.get(ExtractFlags.FILE_DELIMITER.getFlag()));
-        return withHeader ? fileContents : super.appendHeader(fileContents);
+        return new UkubukaRecordStream(readWithOptions(completeFileName, flags),
+                getFileDelimiter(flags),
+                ExtractFlags.FILE_CONTAINS_HEADER.getValue(flags, true),
+                ExtractFlags.BATCH_SIZE
+                        .getValue(flags, (Number) Constants.DEFAULT_BATCH_SIZE)
+                        .intValue(),
+                getProjection(flags), getRowFilter(flags));
+    }
+
+    /**
+     * Get Projection
+     * 
+     * @param flags
+     * @return Column Projection, Null When None Was Handed Down
+     */
+    private ColumnProjection getProjection(final Map<String, Object> flags) {
+        Object projection = ExtractFlags.PROJECTION.getValue(flags, null);
+        return projection instanceof ColumnProjection
+                ? (ColumnProjection) projection
+                : null;
+    }
+
+    /**
+     * Get Row Filter
+     * 
+     * Typed columns hold values the filter was not written against until
+     * they are converted, so typed reads leave filtering to the transformer.
+     * 
+     * @param flags
+     * @return Row Filter, Null When None Was Handed Down Or It Can Not Apply
+     */
+    private RowFilter getRowFilter(final Map<String, Object> flags) {
+        Object rowFilter = ExtractFlags.ROW_FILTER.getValue(flags, null);
+        boolean isTyped = ExtractFlags.INFER_TYPES.getValue(flags, false)
+                || null != ExtractFlags.COLUMN_TYPES.getValue(flags, null);
+        return rowFilter instanceof RowFilter && !isTyped
+                ? (RowFilter) rowFilter
+                : null;
+    }
+
+    /**
+     * Get File Delimiter
+     * 
+     * @param flags
+     * @return File Delimiter
+     */
+    private String getFileDelimiter(final Map<String, Object> flags) {
+        String fileDelimiter = ExtractFlags.FILE_DELIMITER.getValue(flags,
+                (String) null);
+        return StringUtils.isEmpty(fileDelimiter)
+                ? Constants.COMMON_FILE_DELIMITER
+                : fileDelimiter;
+    }
+
+    /**
+     * Get Charset
+     * 
+     * @param flags
+     * @return File Charset
+     */
+    private Charset getCharset(final Map<String, Object> flags) {
+        String fileEncoding = ExtractFlags.FILE_ENCODING.getValue(flags,
+                (String) null);
+        return Charset.forName(StringUtils.isEmpty(fileEncoding)
+                ? Constants.DEFAULT_FILE_ENCODING
+                : fileEncoding);
+    }
+
+    /**
+     * Get Compression
+     * 
+     * @param completeFileName
+     * @param flags
+     * @return Declared Compression, Else The One Told By The Extension
+     */
+    private Compression getCompression(final String completeFileName,
+            final Map<String, Object> flags) {
+        return Compression.getCompression(
+                ExtractFlags.COMPRESSION.getValue(flags, (String) null),
+                completeFileName);
+    }
+
+    /**
+     * Get Parser Information
+     */
+    @Override
+    public String getParserInfo() {
+        return this.getClass().getSimpleName();
     }
 
     /**
      * Read With Options
      * 
      * @param completeFileName
-     * @param fileEncoding
-     * @param fileDelimiter
-     * @return File Content
+     * @param flags
+     * @return File Content Reader
      * @throws ParserException
      */
-    private List<String> readWithOptions(final SupportedSource source,
-            final String completeFileName, final String fileEncoding,
-            final String fileDelimiter) throws ParserException {
+    private Reader readWithOptions(final String completeFileName,
+            Map<String, Object> flags) throws ParserException {
+        SupportedSource source = SupportedSource.getSource(
+                ExtractFlags.SOURCE.getValue(flags, (String) null));
+        String fileEncoding = ExtractFlags.FILE_ENCODING.getValue(flags,
+                (String) null);
         try {
-            String[] fileContents = super.getReader()
-                    .readFileAsString(source, completeFileName, fileEncoding)
-                    .split(Constants.DEFAULT_FILE_END_LINE_DELIMITER);
-            List<String> fileLines = new ArrayList<>(
-                    Arrays.asList(fileContents));
-            Utilities.applyNewDelimiter(fileLines,
-                    StringUtils.isEmpty(fileDelimiter)
-                            ? Constants.COMMON_FILE_DELIMITER
-                            : fileDelimiter,
-                    Constants.DEFAULT_FILE_DELIMITER);
-            return fileLines;
-        } catch (ReaderException ex) {
+            /* Inflate While Streaming */
+            Compression compression = getCompression(completeFileName, flags);
+            if (Compression.NONE != compression) {
+                return super.getReader().readFileAsReader(source,
+                        completeFileName, fileEncoding, compression);
+            }
+
+            /* Decode Straight From Mapped Segments */
+            if (ExtractFlags.MEMORY_MAPPED.getValue(flags, false)) {
+                return super.getReader().readFileAsMappedReader(source,
+                        completeFileName, fileEncoding);
+            }
+
+            /* Stream Straight From The File Channel */
+            if (ExtractFlags.STREAMING.getValue(flags, false)) {
+                return super.getReader().readFileAsReader(source,
+                        completeFileName, fileEncoding);
+            }
+            return new StringReader(super.getReader()
+                    .readFileAsString(source, completeFileName, fileEncoding));
+        } catch (ReaderException | IllegalArgumentException ex) {
             throw new ParserException(ex);
         }
     }
@@ -0,0 +1,119 @@
+package com.ukubuka.core.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Ukubuka Mapped Reader
+ * 
+ * Decodes a file straight out of memory mapped segments of its channel, so
+ * the file is never copied onto the heap as a whole. A single mapping is
+ * limited to 2 GB, larger files are read by rolling over to the next segment
+ * once the current one is decoded. A character which is cut by a segment end
+ * is decoded again from the start of the next segment.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaMappedReader extends Reader {
+
+    /************************************ Global Variables **********************************/
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MINIMUM_SEGMENT_SIZE = 8;
+
+    private final FileChannel fileChannel;
+    private final CharsetDecoder decoder;
+    private final int segmentSize;
+    private final long fileSize;
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    private boolean exhausted;
+
+    /****************************** Constructor ******************************/
+    public UkubukaMappedReader(final FileChannel fileChannel,
+            final CharsetDecoder decoder, final int segmentSize)
+            throws IOException {
+        if (segmentSize < MINIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException(
+                    "Segment Size Too Small: " + segmentSize);
+        }
+        this.fileChannel = fileChannel;
+        this.decoder = decoder;
+        this.segmentSize = segmentSize;
+        this.fileSize = fileChannel.size();
+        this.chars.flip();
+        map(0);
+    }
+
+    /**
+     * Read Characters
+     */
+    @Override
+    public int read(final char[] buffer, final int offset, final int length)
+            throws IOException {
+        if (0 == length) {
+            return 0;
+        }
+        if (!chars.hasRemaining() && !fill()) {
+            return -1;
+        }
+        int read = Math.min(length, chars.remaining());
+        chars.get(buffer, offset, read);
+        return read;
+    }
+
+    /**
+     * Close Reader
+     */
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        fileChannel.close();
+    }
+
+    /**
+     * Fill Buffer
+     * 
+     * @return Whether Any Characters Were Decoded
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        chars.clear();
+        while (0 == chars.position() && !exhausted) {
+            boolean endOfInput = segmentStart + segment.limit() >= fileSize;
+            CoderResult result = decoder.decode(segment, chars, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isUnderflow()) {
+                if (endOfInput) {
+                    decoder.flush(chars);
+                    exhausted = true;
+                } else {
+                    /* Roll Over, Keeping Any Partial Character */
+                    map(segmentStart + segment.position());
+                }
+            }
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+
+    /**
+     * Map Segment
+     * 
+     * @param position
+     * @throws IOException
+     */
+    private void map(final long position) throws IOException {
+        segmentStart = position;
+        segment = fileChannel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(segmentSize, fileSize - position));
+    }
+}
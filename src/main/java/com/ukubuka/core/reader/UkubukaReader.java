@@ -1,10 +1,21 @@
 package com.ukubuka.core.reader;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -14,13 +25,16 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import com.ukubuka.core.exception.ReaderException;
+import com.ukubuka.core.model.Compression;
 import com.ukubuka.core.model.SupportedSource;
 import com.ukubuka.core.utilities.Constants;
 
@@ -40,6 +54,10 @@ public class UkubukaReader {
     @Autowired
     private XMLInputFactory inputFactory;
 
+    @Value("${ukubuka.reader.mapped.segment.size:"
+            + Constants.DEFAULT_MAPPED_SEGMENT_SIZE + "}")
+    private int segmentSize = Constants.DEFAULT_MAPPED_SEGMENT_SIZE;
+
     /**
      * Read File
      * 
@@ -76,15 +94,116 @@ public class UkubukaReader {
             final String completeFileName, final String fileEncoding)
             throws ReaderException {
         try {
-            return FileUtils
-                    .readFileToString(
-                            source == SupportedSource.URL
-                                    ? new File(
-                                            new URL(completeFileName).toURI())
-                                    : new File(completeFileName),
-                            StringUtils.isEmpty(fileEncoding)
-                                    ? Constants.DEFAULT_FILE_ENCODING
-                                    : fileEncoding);
+            Compression compression = Compression.getCompression(null,
+                    completeFileName);
+            if (Compression.NONE != compression) {
+                try (InputStream inputStream = openInputStream(source,
+                        completeFileName, compression)) {
+                    return IOUtils.toString(inputStream,
+                            getEncoding(fileEncoding));
+                }
+            }
+            return FileUtils.readFileToString(
+                    getFile(source, completeFileName),
+                    getEncoding(fileEncoding));
+        } catch (IOException | URISyntaxException
+                | IllegalArgumentException ex) {
+            throw new ReaderException(ex);
+        }
+    }
+
+    /**
+     * Read File As Buffered Reader
+     * 
+     * @param source
+     * @param completeFileName
+     * @param fileEncoding
+     * @return Buffered Reader Over File Channel
+     * @throws ReaderException
+     */
+    public BufferedReader readFileAsReader(final SupportedSource source,
+            final String completeFileName, final String fileEncoding)
+            throws ReaderException {
+        return readFileAsReader(source, completeFileName, fileEncoding,
+                Compression.getCompression(null, completeFileName));
+    }
+
+    /**
+     * Read File As Buffered Reader
+     * 
+     * A compressed file is inflated as it is read, never as a whole.
+     * 
+     * @param source
+     * @param completeFileName
+     * @param fileEncoding
+     * @param compression
+     * @return Buffered Reader Over File Channel
+     * @throws ReaderException
+     */
+    public BufferedReader readFileAsReader(final SupportedSource source,
+            final String completeFileName, final String fileEncoding,
+            final Compression compression) throws ReaderException {
+        try {
+            if (Compression.NONE != compression) {
+                LOGGER.info("Inflating File - Location: {} | Compression: {}",
+                        completeFileName, compression);
+                return new BufferedReader(new InputStreamReader(
+                        openInputStream(source, completeFileName, compression),
+                        getDecoder(fileEncoding)));
+            }
+            FileChannel fileChannel = FileChannel.open(
+                    getFile(source, completeFileName).toPath(),
+                    StandardOpenOption.READ);
+            return new BufferedReader(Channels.newReader(fileChannel,
+                    getDecoder(fileEncoding), -1));
+        } catch (IOException | URISyntaxException
+                | IllegalArgumentException ex) {
+            throw new ReaderException(ex);
+        }
+    }
+
+    /**
+     * Read File As Memory Mapped Reader
+     * 
+     * @param source
+     * @param completeFileName
+     * @param fileEncoding
+     * @return Reader Decoding Straight From Mapped Segments
+     * @throws ReaderException
+     */
+    public Reader readFileAsMappedReader(final SupportedSource source,
+            final String completeFileName, final String fileEncoding)
+            throws ReaderException {
+        if (Compression.NONE != Compression.getCompression(null,
+                completeFileName)) {
+            LOGGER.warn("Compressed File Can't Be Mapped, Streaming Instead");
+            return readFileAsReader(source, completeFileName, fileEncoding);
+        }
+        LOGGER.info("Mapping File - Source: {} | Location: {} | Encoding: {}",
+                source, completeFileName, fileEncoding);
+        FileChannel fileChannel = openFileChannel(source, completeFileName);
+        try {
+            return new UkubukaMappedReader(fileChannel,
+                    getDecoder(fileEncoding), segmentSize);
+        } catch (IOException | IllegalArgumentException ex) {
+            IOUtils.closeQuietly(fileChannel);
+            throw new ReaderException(ex);
+        }
+    }
+
+    /**
+     * Open File Channel
+     * 
+     * @param source
+     * @param completeFileName
+     * @return Read Only File Channel
+     * @throws ReaderException
+     */
+    public FileChannel openFileChannel(final SupportedSource source,
+            final String completeFileName) throws ReaderException {
+        try {
+            return FileChannel.open(getFile(source, completeFileName).toPath(),
+                    StandardOpenOption.READ);
         } catch (IOException | URISyntaxException
                 | IllegalArgumentException ex) {
             throw new ReaderException(ex);
@@ -104,11 +223,86 @@ public class UkubukaReader {
             final String completeFileName) throws ReaderException {
         try {
             return inputFactory.createXMLStreamReader(
-                    new FileInputStream(source == SupportedSource.URL
-                            ? new File(new URL(completeFileName).toURI())
-                            : new File(completeFileName)));
+                    openInputStream(source, completeFileName, Compression
+                            .getCompression(null, completeFileName)));
         } catch (IOException | URISyntaxException | XMLStreamException ex) {
             throw new ReaderException(ex);
         }
     }
+
+    /**
+     * Open Input Stream
+     * 
+     * @param source
+     * @param completeFileName
+     * @param compression
+     * @return Buffered, Inflating Input Stream
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    private InputStream openInputStream(final SupportedSource source,
+            final String completeFileName, final Compression compression)
+            throws IOException, URISyntaxException {
+        InputStream inputStream = new BufferedInputStream(
+                new FileInputStream(getFile(source, completeFileName)),
+                Constants.COMPRESSION_BUFFER_SIZE);
+        try {
+            return compression.decompress(inputStream);
+        } catch (IOException ex) {
+            IOUtils.closeQuietly(inputStream);
+            throw ex;
+        }
+    }
+
+    /**
+     * Get File
+     * 
+     * @param source
+     * @param completeFileName
+     * @return File
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    private File getFile(final SupportedSource source,
+            final String completeFileName)
+            throws IOException, URISyntaxException {
+        return source == SupportedSource.URL
+                ? new File(new URL(completeFileName).toURI())
+                : new File(completeFileName);
+    }
+
+    /**
+     * Get Encoding
+     * 
+     * @param fileEncoding
+     * @return File Encoding
+     */
+    private String getEncoding(final String fileEncoding) {
+        return StringUtils.isEmpty(fileEncoding)
+                ? Constants.DEFAULT_FILE_ENCODING
+                : fileEncoding;
+    }
+
+    /**
+     * Get Decoder
+     * 
+     * Replaces malformed and unmappable bytes instead of failing, the same
+     * way the whole file read does.
+     * 
+     * @param fileEncoding
+     * @return Decoder For The File Encoding
+     */
+    private CharsetDecoder getDecoder(final String fileEncoding) {
+        return Charset.forName(getEncoding(fileEncoding)).newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * @param segmentSize
+     *            the segmentSize to set
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
 }
@@ -15,18 +15,42 @@ public final class Constants {
     public static final String DEFAULT_FILE_DELIMITER = "~`~";
     public static final String COMMON_FILE_DELIMITER = ",";
     public static final String DEFAULT_FILE_END_LINE_DELIMITER = "\n";
+    public static final int DEFAULT_MAPPED_SEGMENT_SIZE = 256 * 1024 * 1024;
+    public static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
 
     /********************************** Parser Constants **********************************/
     public static final String EMPTY_STRING = "";
     public static final String DEFAULT_COLUMN_NAME_PREFIX = "column_";
+    public static final int DEFAULT_BATCH_SIZE = 10000;
+    public static final int DEFAULT_TYPE_INFERENCE_SAMPLE_SIZE = 1000;
+    public static final long DEFAULT_PARALLEL_CHUNK_SIZE = 8L * 1024 * 1024;
 
     /******************************* Transformer Constants ********************************/
     public static final String COLUMN_ENCOLSING_QUOTE = "\"";
     public static final String SHORTCUT_MAP_DELIMITER = "=";
+    public static final String SHORTCUT_MAPPINGS_FILE = "shortcut-mappings";
+    public static final String AGGREGATIONS_VARIABLE = "#aggregations";
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 100000;
+    public static final int DEFAULT_PARALLELISM = 0;
+    public static final int PARALLEL_CHUNKS_PER_THREAD = 4;
+    public static final int DEFAULT_TRACE_SAMPLE = 0;
+
+    /********************************* Loader Constants ***********************************/
+    public static final int DEFAULT_SPILL_THRESHOLD = 0;
+    public static final int MAXIMUM_SPILL_PARTITIONS = 256;
+
+    /********************************* Writer Constants ***********************************/
+    public static final int DEFAULT_WRITER_BUFFER_SIZE = 64 * 1024;
+
+    /****************************** Columnar File Constants *******************************/
+    public static final int COLUMNAR_FILE_MAGIC = 0x554B4243;
+    public static final int COLUMNAR_FILE_VERSION = 1;
+    public static final int DEFAULT_COLUMNAR_BLOCK_SIZE = 65536;
 
     /******************************** Evaluator Constants *********************************/
     public static final int DIVISION_OPERATION_PRECISION = 25;
     public static final int DIVISION_OPERATION_ROUNDING = BigDecimal.ROUND_HALF_UP;
+    public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 1024;
 
     /****************************** Scripts Reader Constants ******************************/
     public static final String CONTENT_TAG = "$$$CONTENT$$$";
@@ -1,7 +1,7 @@
 package com.ukubuka.core.utilities;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * Utilities
@@ -17,53 +17,25 @@ public final class Utilities {
     }
 
     /**
-     * Extract Delimiter Indices
+     * To BigDecimal
      * 
-     * @param header
-     * @param delimiter
-     * @return List<Integer> Indices
-     */
-    public static List<Integer> extractDelimiterIndices(final String header,
-            final char delimiter) {
-        List<Integer> indices = new ArrayList<>();
-        char[] inputTape = header.toCharArray();
-        boolean quote = false;
-        for (int i = 0; i < inputTape.length; i++) {
-            if (inputTape[i] == Constants.COLUMN_ENCOLSING_QUOTE.charAt(0)) {
-                quote = !quote;
-            } else if (inputTape[i] == delimiter && !quote) {
-                indices.add(i);
-            }
-        }
-        return indices;
-    }
-
-    /**
-     * Apply New Delimiter
+     * Same value and scale as new BigDecimal(String.valueOf(value)) without
+     * printing and re-parsing boxed numbers.
      * 
-     * @param fileContents
-     * @param indices
-     * @param newDelimiter
+     * @param value
+     * @return BigDecimal Value
      */
-    public static void applyNewDelimiter(List<String> fileContents,
-            final String oldDelimiter, final String newDelimiter) {
-        for (int i = 0; i < fileContents.size(); i++) {
-            String dataRow = fileContents.get(i);
-            List<Integer> indices = extractDelimiterIndices(dataRow,
-                    oldDelimiter.charAt(0));
-            StringBuilder builder = new StringBuilder()
-                    .append(dataRow.charAt(0));
-            int previousIndex = 0;
-            for (final int index : indices) {
-                builder.append(dataRow.substring(1, index - previousIndex))
-                        .append(newDelimiter);
-                dataRow = dataRow.substring(index - previousIndex);
-                previousIndex = index;
-            }
-            String output = builder.append(dataRow.substring(1))
-                    .append(newDelimiter).toString();
-            fileContents.set(i, output.substring(0,
-                    output.length() - newDelimiter.length()));
+    public static BigDecimal toBigDecimal(final Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            return BigDecimal.valueOf((Double) value);
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
         }
+        return new BigDecimal(String.valueOf(value));
     }
 }
@@ -0,0 +1,253 @@
+package com.ukubuka.core.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnVector;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.Compression;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Columnar Writer
+ * 
+ * Writes file contents as typed, column major blocks which can be read back
+ * without parsing any text. The layout is:
+ * 
+ * <pre>
+ * magic, version, compression, column count, (name, type) per column,
+ * row count, block size, then per block: row count and per column
+ * (stored length, stored bytes)
+ * </pre>
+ * 
+ * The stored bytes of a column hold its missing value bitmap followed by
+ * the present values, compressed block by block. Columnar contents keep
+ * their column types, the columns of row contents are typed by the
+ * narrowest type accepting all of their values.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaColumnarWriter {
+
+    private final Compression compression;
+    private final int blockSize;
+
+    /****************************** Constructor ******************************/
+    public UkubukaColumnarWriter(final Compression compression,
+            final int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(
+                    "Block Size Too Small: " + blockSize);
+        }
+        this.compression = compression;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Write
+     * 
+     * @param outputStream
+     * @param fileContents
+     * @throws IOException
+     */
+    public void write(final OutputStream outputStream,
+            final FileContents fileContents) throws IOException {
+        List<String> header = fileContents.getHeader();
+        List<ColumnType> columnTypes = getColumnTypes(fileContents);
+        int rowCount = fileContents.getData().size();
+
+        DataOutputStream dataStream = new DataOutputStream(outputStream);
+        dataStream.writeInt(Constants.COLUMNAR_FILE_MAGIC);
+        dataStream.writeByte(Constants.COLUMNAR_FILE_VERSION);
+        dataStream.writeUTF(compression.getCompression());
+        dataStream.writeInt(header.size());
+        for (int i = 0; i < header.size(); i++) {
+            dataStream.writeUTF(header.get(i));
+            dataStream.writeUTF(columnTypes.get(i).getType());
+        }
+        dataStream.writeInt(rowCount);
+        dataStream.writeInt(blockSize);
+
+        /* Column Major Blocks */
+        for (int from = 0; from < rowCount; from += blockSize) {
+            int to = Math.min(rowCount, from + blockSize);
+            dataStream.writeInt(to - from);
+            for (int i = 0; i < header.size(); i++) {
+                writeColumn(dataStream,
+                        getColumn(fileContents, columnTypes.get(i), i, from,
+                                to));
+            }
+        }
+        dataStream.flush();
+    }
+
+    /**
+     * Write Column Block
+     * 
+     * @param dataStream
+     * @param column
+     * @throws IOException
+     */
+    private void writeColumn(final DataOutputStream dataStream,
+            final ColumnVector column) throws IOException {
+        ColumnType columnType = column.getType();
+
+        /* Encode Missing Values Along With The Values */
+        BitSet missing = new BitSet(column.size());
+        ByteArrayOutputStream values = new ByteArrayOutputStream();
+        try (DataOutputStream valueStream = new DataOutputStream(
+                compression.compress(values))) {
+            for (int i = 0; i < column.size(); i++) {
+                if (column.isMissing(i)) {
+                    missing.set(i);
+                }
+            }
+            long[] words = missing.toLongArray();
+            valueStream.writeInt(words.length);
+            for (final long word : words) {
+                valueStream.writeLong(word);
+            }
+            for (int i = 0; i < column.size(); i++) {
+                if (missing.get(i)) {
+                    continue;
+                }
+                writeValue(valueStream, columnType, column.get(i));
+            }
+        }
+
+        dataStream.writeInt(values.size());
+        values.writeTo(dataStream);
+    }
+
+    /**
+     * Get Column Block
+     * 
+     * @param fileContents
+     * @param columnType
+     * @param index
+     * @param from
+     * @param to
+     * @return Typed Vector Of The Rows In Range
+     */
+    private ColumnVector getColumn(final FileContents fileContents,
+            final ColumnType columnType, final int index, final int from,
+            final int to) {
+        ColumnVector column = ColumnVector.create(columnType, to - from);
+        if (fileContents instanceof ColumnarFileContents) {
+            ColumnVector sourceColumn = ((ColumnarFileContents) fileContents)
+                    .getColumn(index);
+            for (int i = from; i < to; i++) {
+                column.add(sourceColumn.get(i));
+            }
+            return column;
+        }
+        List<FileRecord> fileRecords = fileContents.getData();
+        for (int i = from; i < to; i++) {
+            List<Object> data = fileRecords.get(i).getData();
+            column.add(index < data.size() ? data.get(index)
+                    : Constants.EMPTY_STRING);
+        }
+        return column;
+    }
+
+    /**
+     * Get Column Types
+     * 
+     * @param fileContents
+     * @return Column Types
+     */
+    private List<ColumnType> getColumnTypes(final FileContents fileContents) {
+        if (fileContents instanceof ColumnarFileContents) {
+            return ((ColumnarFileContents) fileContents).getColumnTypes();
+        }
+        List<ColumnType> columnTypes = new ArrayList<>();
+        ColumnType[] candidateTypes = ColumnType.values();
+        for (int i = 0; i < fileContents.getHeader().size(); i++) {
+            /* Drop Every Type Some Value Does Not Round Trip Through */
+            boolean[] rejected = new boolean[candidateTypes.length];
+            boolean sampled = false;
+            for (final FileRecord fileRecord : fileContents.getData()) {
+                List<Object> data = fileRecord.getData();
+                String value = i < data.size() ? String.valueOf(data.get(i))
+                        : Constants.EMPTY_STRING;
+                if (value.isEmpty()) {
+                    continue;
+                }
+                sampled = true;
+                for (int j = 0; j < candidateTypes.length; j++) {
+                    rejected[j] = rejected[j]
+                            || !candidateTypes[j].accepts(value);
+                }
+            }
+            ColumnType columnType = ColumnType.STRING;
+            for (int j = candidateTypes.length - 1; sampled && j >= 0; j--) {
+                columnType = rejected[j] ? columnType : candidateTypes[j];
+            }
+            columnTypes.add(columnType);
+        }
+        return columnTypes;
+    }
+
+    /**
+     * Write Value
+     * 
+     * @param dataStream
+     * @param columnType
+     * @param value
+     * @throws IOException
+     */
+    private static void writeValue(final DataOutputStream dataStream,
+            final ColumnType columnType, final Object value)
+            throws IOException {
+        switch (columnType) {
+            case INT:
+                dataStream.writeInt((Integer) value);
+                break;
+            case LONG:
+                dataStream.writeLong((Long) value);
+                break;
+            case DOUBLE:
+                dataStream.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                dataStream.writeBoolean((Boolean) value);
+                break;
+            case DECIMAL:
+                writeText(dataStream, ((BigDecimal) value).toString());
+                break;
+            default:
+                writeText(dataStream,
+                        null == value ? null : String.valueOf(value));
+                break;
+        }
+    }
+
+    /**
+     * Write Text
+     * 
+     * @param dataStream
+     * @param text
+     * @throws IOException
+     */
+    private static void writeText(final DataOutputStream dataStream,
+            final String text) throws IOException {
+        if (null == text) {
+            dataStream.writeInt(-1);
+            return;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        dataStream.writeInt(bytes.length);
+        dataStream.write(bytes);
+    }
+}
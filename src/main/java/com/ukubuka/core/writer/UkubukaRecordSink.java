@@ -0,0 +1,27 @@
+package com.ukubuka.core.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import com.ukubuka.core.model.FileRecord;
+
+/**
+ * Ukubuka Record Sink
+ * 
+ * Takes the records of one output file batch by batch, so that only the
+ * batch being written has to be held. Closing it finishes the file.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public interface UkubukaRecordSink extends Closeable {
+
+    /**
+     * Write Records
+     * 
+     * @param fileRecords
+     * @throws IOException
+     */
+    void write(final List<FileRecord> fileRecords) throws IOException;
+}
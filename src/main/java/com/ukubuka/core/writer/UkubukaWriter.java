@@ -1,22 +1,32 @@
 package com.ukubuka.core.writer;
 
-import java.io.File;
-import java.io.FileWriter;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
-import org.json.CDL;
-import org.json.JSONArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.Compression;
+import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
 import com.ukubuka.core.utilities.Constants;
 
@@ -33,23 +43,133 @@ public class UkubukaWriter {
     private static final Logger LOGGER = LoggerFactory
             .getLogger(UkubukaWriter.class);
 
+    /************************************ Global Variables **********************************/
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     /******************************** Dependency Injections *********************************/
-    @Autowired
-    private ObjectMapper mapper;
+    @Value("${ukubuka.writer.buffer.size:"
+            + Constants.DEFAULT_WRITER_BUFFER_SIZE + "}")
+    private int bufferSize = Constants.DEFAULT_WRITER_BUFFER_SIZE;
 
     /**
      * Write JSON
      * 
+     * Streams the records straight into a buffered file channel as a JSON
+     * array, or as one object per line in JSON lines mode.
+     * 
+     * @param completeFileName
      * @param fileHeader
      * @param fileRecords
-     * @return JSONArray
+     * @param prettyPrint
+     * @param jsonLines
+     * @param compression
+     * @throws WriterException
      */
-    public JSONArray writeJSON(List<String> fileHeader,
-            List<FileRecord> fileRecords) {
-        LOGGER.info("Writing JSON: #{} Records", fileRecords.size());
+    public void writeJSON(final String completeFileName,
+            final List<String> fileHeader, final List<FileRecord> fileRecords,
+            final boolean prettyPrint, final boolean jsonLines,
+            final Compression compression) throws WriterException {
+        LOGGER.info(
+                "Streaming JSON: #{} Records | Pretty Print: {} | JSON Lines: {} | Compression: {}",
+                fileRecords.size(), prettyPrint, jsonLines, compression);
+        try (Writer writer = openFile(completeFileName, compression)) {
+            writeJSON(writer, fileHeader, fileRecords, prettyPrint, jsonLines);
+        } catch (IOException ex) {
+            throw new WriterException(ex);
+        }
+    }
+
+    /**
+     * Knit JSON
+     * 
+     * @param fileHeader
+     * @param fileRecords
+     * @return Pretty Printed JSON Array
+     * @throws WriterException
+     */
+    public String knitJSON(final List<String> fileHeader,
+            final List<FileRecord> fileRecords) throws WriterException {
+        StringWriter writer = new StringWriter();
+        try {
+            writeJSON(writer, fileHeader, fileRecords, true, false);
+        } catch (IOException ex) {
+            throw new WriterException(ex);
+        }
+        return writer.toString();
+    }
 
-        /* Convert To JSON */
-        return CDL.toJSONArray(knitFile(fileHeader, fileRecords));
+    /**
+     * Write JSON
+     * 
+     * Every record becomes an object keyed by the header, fields beyond
+     * either end are left out.
+     * 
+     * @param writer
+     * @param fileHeader
+     * @param fileRecords
+     * @param prettyPrint
+     * @param jsonLines
+     * @throws IOException
+     */
+    public void writeJSON(final Writer writer, final List<String> fileHeader,
+            final List<FileRecord> fileRecords, final boolean prettyPrint,
+            final boolean jsonLines) throws IOException {
+        try (UkubukaRecordSink sink = new JSONSink(writer, fileHeader,
+                prettyPrint, jsonLines, false)) {
+            sink.write(fileRecords);
+        }
+    }
+
+    /**
+     * Open JSON
+     * 
+     * @param completeFileName
+     * @param fileHeader
+     * @param prettyPrint
+     * @param jsonLines
+     * @param compression
+     * @return Sink Streaming Batches Into The File
+     * @throws WriterException
+     */
+    public UkubukaRecordSink openJSON(final String completeFileName,
+            final List<String> fileHeader, final boolean prettyPrint,
+            final boolean jsonLines, final Compression compression)
+            throws WriterException {
+        LOGGER.info(
+                "Opening JSON Sink - Pretty Print: {} | JSON Lines: {} | Compression: {}",
+                prettyPrint, jsonLines, compression);
+        try {
+            Writer writer = openFile(completeFileName, compression);
+            try {
+                return new JSONSink(writer, fileHeader, prettyPrint, jsonLines,
+                        true);
+            } catch (IOException ex) {
+                writer.close();
+                throw ex;
+            }
+        } catch (IOException ex) {
+            throw new WriterException(ex);
+        }
+    }
+
+    /**
+     * Write Object
+     * 
+     * @param generator
+     * @param fileHeader
+     * @param fields
+     * @throws IOException
+     */
+    private void writeObject(final JsonGenerator generator,
+            final List<String> fileHeader, final List<?> fields)
+            throws IOException {
+        generator.writeStartObject();
+        int size = Math.min(fileHeader.size(), fields.size());
+        for (int i = 0; i < size; i++) {
+            generator.writeStringField(fileHeader.get(i),
+                    String.valueOf(fields.get(i)));
+        }
+        generator.writeEndObject();
     }
 
     /**
@@ -67,6 +187,98 @@ public class UkubukaWriter {
         return knitFile(fileHeader, fileRecords);
     }
 
+    /**
+     * Write CSV
+     * 
+     * Streams the records straight into a buffered file channel, so the
+     * output is never built up in memory.
+     * 
+     * @param completeFileName
+     * @param fileHeader
+     * @param fileRecords
+     * @param compression
+     * @throws WriterException
+     */
+    public void writeCSV(final String completeFileName,
+            final List<String> fileHeader, final List<FileRecord> fileRecords,
+            final Compression compression) throws WriterException {
+        LOGGER.info(
+                "Streaming CSV: #{} Records | Buffer Size: {} | Compression: {}",
+                fileRecords.size(), bufferSize, compression);
+        try (Writer writer = openFile(completeFileName, compression)) {
+            writeCSV(writer, fileHeader, fileRecords);
+        } catch (IOException ex) {
+            throw new WriterException(ex);
+        }
+    }
+
+    /**
+     * Write CSV
+     * 
+     * @param writer
+     * @param fileHeader
+     * @param fileRecords
+     * @throws IOException
+     */
+    public void writeCSV(final Writer writer, final List<String> fileHeader,
+            final List<FileRecord> fileRecords) throws IOException {
+        try (UkubukaRecordSink sink = new CSVSink(writer, fileHeader, false)) {
+            sink.write(fileRecords);
+        }
+    }
+
+    /**
+     * Open CSV
+     * 
+     * @param completeFileName
+     * @param fileHeader
+     * @param compression
+     * @return Sink Streaming Batches Into The File
+     * @throws WriterException
+     */
+    public UkubukaRecordSink openCSV(final String completeFileName,
+            final List<String> fileHeader, final Compression compression)
+            throws WriterException {
+        LOGGER.info("Opening CSV Sink - Buffer Size: {} | Compression: {}",
+                bufferSize, compression);
+        try {
+            Writer writer = openFile(completeFileName, compression);
+            try {
+                return new CSVSink(writer, fileHeader, true);
+            } catch (IOException ex) {
+                writer.close();
+                throw ex;
+            }
+        } catch (IOException ex) {
+            throw new WriterException(ex);
+        }
+    }
+
+    /**
+     * Write Columnar
+     * 
+     * @param completeFileName
+     * @param fileContents
+     * @param compression
+     * @param blockSize
+     * @throws WriterException
+     */
+    public void writeColumnar(final String completeFileName,
+            final FileContents fileContents, final Compression compression,
+            final int blockSize) throws WriterException {
+        LOGGER.info(
+                "Writing Columnar: #{} Records | Block Size: {} | Compression: {}",
+                fileContents.getData().size(), blockSize, compression);
+        try (OutputStream outputStream = new BufferedOutputStream(
+                Files.newOutputStream(Paths.get(completeFileName)),
+                bufferSize)) {
+            new UkubukaColumnarWriter(compression, blockSize)
+                    .write(outputStream, fileContents);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new WriterException(ex);
+        }
+    }
+
     /**
      * Knit File
      * 
@@ -80,44 +292,82 @@ public class UkubukaWriter {
 
         /* Create New Builder Instance */
         StringBuilder fileContents = new StringBuilder();
+        try {
+            /* Append Header */
+            appendRecord(fileContents, fileHeader);
+
+            /* Iterate Records */
+            for (final FileRecord fileRecord : fileRecords) {
+                appendRecord(fileContents, fileRecord.getData());
+            }
+        } catch (IOException ex) {
+            /* StringBuilder Never Throws */
+            throw new UncheckedIOException(ex);
+        }
 
-        /* Append Header */
-        fileContents
-                .append(StringUtils
-                        .arrayToCommaDelimitedString(fileHeader.toArray()))
-                .append(Constants.DEFAULT_FILE_END_LINE_DELIMITER);
+        LOGGER.info("Output Content Length: {}", fileContents.length());
+        return fileContents.toString();
+    }
 
-        /* Iterate Records */
-        for (final FileRecord fileRecord : fileRecords) {
-            /* Append Record */
-            fileContents
-                    .append(StringUtils.arrayToCommaDelimitedString(
-                            fileRecord.getData().toArray()))
-                    .append(Constants.DEFAULT_FILE_END_LINE_DELIMITER);
+    /**
+     * Append Record
+     * 
+     * @param output
+     * @param fields
+     * @throws IOException
+     */
+    private void appendRecord(final Appendable output, final List<?> fields)
+            throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                output.append(Constants.COMMON_FILE_DELIMITER);
+            }
+            appendField(output, String.valueOf(fields.get(i)));
         }
+        output.append(Constants.DEFAULT_FILE_END_LINE_DELIMITER);
+    }
 
-        /* Vomit String */
-        String outputFileContent = fileContents.toString();
-        LOGGER.info("Output Content Bytes: {}",
-                outputFileContent.getBytes().length);
-        return outputFileContent;
+    /**
+     * Append Field, Quoting It When It Holds A Delimiter, Quote Or Line Break
+     * 
+     * @param output
+     * @param field
+     * @throws IOException
+     */
+    private void appendField(final Appendable output, final String field)
+            throws IOException {
+        if (!needsQuotes(field)) {
+            output.append(field);
+            return;
+        }
+        char quote = Constants.COLUMN_ENCOLSING_QUOTE.charAt(0);
+        output.append(quote);
+        for (int i = 0; i < field.length(); i++) {
+            char character = field.charAt(i);
+            if (character == quote) {
+                output.append(quote);
+            }
+            output.append(character);
+        }
+        output.append(quote);
     }
 
     /**
-     * Pretty Print JSON
+     * Needs Quotes
      * 
-     * @param jsonArray
-     * @return Output JSON
-     * @throws WriterException
+     * @param field
+     * @return Whether The Field Must Be Quoted
      */
-    public String prettyPrint(final String jsonArray) throws WriterException {
-        LOGGER.info("Pretty Printing JSON...");
-        try {
-            return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(
-                    mapper.readValue(jsonArray, Object.class));
-        } catch (IOException ex) {
-            throw new WriterException(ex);
+    private boolean needsQuotes(final String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char character = field.charAt(i);
+            if (character == Constants.COMMON_FILE_DELIMITER.charAt(0)
+                    || character == Constants.COLUMN_ENCOLSING_QUOTE.charAt(0)
+                    || character == '\n' || character == '\r') {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -130,12 +380,47 @@ public class UkubukaWriter {
     public void writeFile(final String completeFileName,
             final String fileContents) throws WriterException {
         try {
-            writeFile(new FileWriter(new File(completeFileName)), fileContents);
+            writeFile(openFile(completeFileName,
+                    Compression.getCompression(null, completeFileName)),
+                    fileContents);
         } catch (IOException ex) {
             throw new WriterException(ex);
         }
     }
 
+    /**
+     * Open File
+     * 
+     * @param completeFileName
+     * @param compression
+     * @return Buffered File Writer, Deflating When Compressed
+     * @throws IOException
+     */
+    private Writer openFile(final String completeFileName,
+            final Compression compression) throws IOException {
+        if (Compression.NONE != compression) {
+            OutputStream outputStream = new BufferedOutputStream(
+                    Files.newOutputStream(Paths.get(completeFileName)),
+                    Constants.COMPRESSION_BUFFER_SIZE);
+            try {
+                return new BufferedWriter(new OutputStreamWriter(
+                        compression.compress(outputStream),
+                        StandardCharsets.UTF_8), bufferSize);
+            } catch (IOException ex) {
+                outputStream.close();
+                throw ex;
+            }
+        }
+        return new BufferedWriter(
+                Channels.newWriter(
+                        FileChannel.open(Paths.get(completeFileName),
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.TRUNCATE_EXISTING,
+                                StandardOpenOption.WRITE),
+                        StandardCharsets.UTF_8.newEncoder(), -1),
+                bufferSize);
+    }
+
     /**
      * Write File
      * @param writer
@@ -146,4 +431,112 @@ public class UkubukaWriter {
         printWriter.print(fileContents);
         printWriter.close();
     }
+
+    /**
+     * @param bufferSize
+     *            the bufferSize to set
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * CSV Sink
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    private class CSVSink implements UkubukaRecordSink {
+
+        private final Writer writer;
+        private final boolean closeWriter;
+
+        /******************************** Constructor *********************************/
+        private CSVSink(final Writer writer, final List<String> fileHeader,
+                final boolean closeWriter) throws IOException {
+            this.writer = writer;
+            this.closeWriter = closeWriter;
+
+            /* Append Header */
+            appendRecord(writer, fileHeader);
+        }
+
+        @Override
+        public void write(final List<FileRecord> fileRecords)
+                throws IOException {
+            for (final FileRecord fileRecord : fileRecords) {
+                appendRecord(writer, fileRecord.getData());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closeWriter) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * JSON Sink
+     * 
+     * @author agrawroh
+     * @version v1.0
+     */
+    private class JSONSink implements UkubukaRecordSink {
+
+        private final Writer writer;
+        private final JsonGenerator generator;
+        private final List<String> fileHeader;
+        private final boolean jsonLines;
+        private final boolean closeWriter;
+
+        /******************************** Constructor *********************************/
+        private JSONSink(final Writer writer, final List<String> fileHeader,
+                final boolean prettyPrint, final boolean jsonLines,
+                final boolean closeWriter) throws IOException {
+            this.writer = writer;
+            this.fileHeader = fileHeader;
+            this.jsonLines = jsonLines;
+            this.closeWriter = closeWriter;
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            /* One Object Per Line */
+            if (jsonLines) {
+                generator.setRootValueSeparator(null);
+                return;
+            }
+            if (prettyPrint) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartArray();
+        }
+
+        @Override
+        public void write(final List<FileRecord> fileRecords)
+                throws IOException {
+            for (final FileRecord fileRecord : fileRecords) {
+                writeObject(generator, fileHeader, fileRecord.getData());
+                if (jsonLines) {
+                    generator.writeRaw(
+                            Constants.DEFAULT_FILE_END_LINE_DELIMITER);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (!jsonLines) {
+                    generator.writeEndArray();
+                }
+                generator.close();
+            } finally {
+                if (closeWriter) {
+                    writer.close();
+                }
+            }
+        }
+    }
 }
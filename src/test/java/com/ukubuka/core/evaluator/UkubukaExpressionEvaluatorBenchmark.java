@@ -0,0 +1,131 @@
+package com.ukubuka.core.evaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+
+/**
+ * Ukubuka Expression Evaluator Benchmark
+ * 
+ * Measures the per-row cost of typical ADD, INCLUDE and SUM targets with the
+ * SpEL compiler switched off and on. Run after "mvn test-compile" via main().
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UkubukaExpressionEvaluatorBenchmark {
+
+    private static final int ROWS = 10000;
+    private static final String ADD_TARGET = "T(java.lang.Integer).parseInt(data[0]) * 2 + 1";
+    private static final String INCLUDE_TARGET = "T(java.lang.Double).parseDouble(data[2]) > 500.0";
+    private static final String SUM_TARGET = "T(java.lang.Double).parseDouble(data[2])";
+
+    @Param({ "OFF", "IMMEDIATE", "MIXED" })
+    private SpelCompilerMode compilerMode;
+
+    private UkubukaExpressionEvaluator expressionEvaluator;
+    private EvaluationContext evaluationContext;
+    private List<FileRecord> fileRecords;
+
+    /**
+     * Create Evaluator & Rows
+     */
+    @Setup
+    public void setup() {
+        expressionEvaluator = new UkubukaExpressionEvaluator();
+        expressionEvaluator.setExpressionParser(new SpelExpressionParser(
+                new SpelParserConfiguration(compilerMode, null)));
+        evaluationContext = expressionEvaluator
+                .createContext(new FileContents());
+        fileRecords = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            fileRecords.add(new FileRecord(new ArrayList<>(Arrays.asList(
+                    String.valueOf(i), "foo" + i, String.valueOf(i * 0.1)))));
+        }
+    }
+
+    /**
+     * ADD Target
+     * 
+     * @param blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void addTarget(final Blackhole blackhole) {
+        evaluateAll(ADD_TARGET, blackhole);
+    }
+
+    /**
+     * INCLUDE Target
+     * 
+     * @param blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void includeTarget(final Blackhole blackhole) {
+        evaluateAll(INCLUDE_TARGET, blackhole);
+    }
+
+    /**
+     * SUM Target
+     * 
+     * @param blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void sumTarget(final Blackhole blackhole) {
+        evaluateAll(SUM_TARGET, blackhole);
+    }
+
+    /**
+     * Evaluate Target For Every Row
+     * 
+     * @param target
+     * @param blackhole
+     */
+    private void evaluateAll(final String target, final Blackhole blackhole) {
+        for (final FileRecord fileRecord : fileRecords) {
+            blackhole.consume(expressionEvaluator.evaluate(evaluationContext,
+                    fileRecord, target));
+        }
+    }
+
+    /*********************************** Main Entry Point ***********************************/
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UkubukaExpressionEvaluatorBenchmark.class
+                        .getSimpleName())
+                .build()).run();
+    }
+}
@@ -1,16 +1,24 @@
 package com.ukubuka.core.evaluator;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParseException;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
@@ -44,8 +52,9 @@ public class UkubukaExpressionEvaluatorTest {
     public void test_evaluate_success() {
         Mockito.when(expressionParser.parseExpression(Mockito.anyString()))
                 .thenReturn(expression);
-        Mockito.when(expression
-                .getValue(Mockito.any(StandardEvaluationContext.class)))
+        Mockito.when(expression.getValue(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class)))
                 .thenReturn(new Object());
 
         ukubukaExpressionEvaluator.evaluate(new FileContents(),
@@ -53,8 +62,54 @@ public class UkubukaExpressionEvaluatorTest {
 
         Mockito.verify(expressionParser, Mockito.times(1))
                 .parseExpression(Mockito.anyString());
-        Mockito.verify(expression, Mockito.times(1))
-                .getValue(Mockito.any(StandardEvaluationContext.class));
+        Mockito.verify(expression, Mockito.times(1)).getValue(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class));
+    }
+
+    @Test
+    public void test_evaluate_cached_success() {
+        Mockito.when(expressionParser.parseExpression(Mockito.anyString()))
+                .thenReturn(expression);
+        Mockito.when(expression.getValue(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class)))
+                .thenReturn(new Object());
+
+        FileContents fileContents = new FileContents();
+        EvaluationContext evaluationContext = ukubukaExpressionEvaluator
+                .createContext(fileContents);
+        ukubukaExpressionEvaluator.evaluate(evaluationContext,
+                new FileRecord(), "fooBar");
+        ukubukaExpressionEvaluator.evaluate(evaluationContext,
+                new FileRecord(), "fooBar");
+        ukubukaExpressionEvaluator.evaluate(fileContents, new FileRecord(),
+                "fooBar");
+
+        Mockito.verify(expressionParser, Mockito.times(1))
+                .parseExpression(Mockito.anyString());
+        Mockito.verify(expression, Mockito.times(3)).getValue(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class));
+        assertEquals(2, ukubukaExpressionEvaluator.getCacheHits());
+        assertEquals(1, ukubukaExpressionEvaluator.getCacheMisses());
+    }
+
+    @Test
+    public void test_evaluate_cacheBounded_success() {
+        Mockito.when(expressionParser.parseExpression(Mockito.anyString()))
+                .thenReturn(expression);
+
+        ukubukaExpressionEvaluator.setCacheSize(2);
+        ukubukaExpressionEvaluator.getExpression("foo");
+        ukubukaExpressionEvaluator.getExpression("bar");
+        ukubukaExpressionEvaluator.getExpression("fooBar");
+
+        assertEquals(2, ukubukaExpressionEvaluator.getCachedExpressionCount());
+        assertEquals(3, ukubukaExpressionEvaluator.getCacheMisses());
+
+        ukubukaExpressionEvaluator.clearCache();
+        assertEquals(0, ukubukaExpressionEvaluator.getCachedExpressionCount());
     }
 
     @Test(expected = ParseException.class)
@@ -70,11 +125,34 @@ public class UkubukaExpressionEvaluatorTest {
     public void test_evaluate_evaluation_exception() {
         Mockito.when(expressionParser.parseExpression(Mockito.anyString()))
                 .thenReturn(expression);
-        Mockito.when(expression
-                .getValue(Mockito.any(StandardEvaluationContext.class)))
+        Mockito.when(expression.getValue(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class)))
                 .thenThrow(new EvaluationException("bar"));
 
         ukubukaExpressionEvaluator.evaluate(new FileContents(),
                 new FileRecord(), "fooBar");
     }
+
+    @Test
+    public void test_evaluate_compiled_fallback_success() {
+        UkubukaExpressionEvaluator compilingEvaluator = new UkubukaExpressionEvaluator();
+        compilingEvaluator.setExpressionParser(
+                new SpelExpressionParser(new SpelParserConfiguration(
+                        SpelCompilerMode.IMMEDIATE, null)));
+        EvaluationContext evaluationContext = compilingEvaluator
+                .createContext(new FileContents());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("foo", compilingEvaluator.evaluate(evaluationContext,
+                    new FileRecord(new ArrayList<>(Arrays.asList("foo"))),
+                    "data[0].toString()"));
+        }
+        assertEquals("42", compilingEvaluator.evaluate(evaluationContext,
+                new FileRecord(new ArrayList<>(Arrays.asList(42))),
+                "data[0].toString()"));
+        assertEquals("bar", compilingEvaluator.evaluate(evaluationContext,
+                new FileRecord(new ArrayList<>(Arrays.asList("bar"))),
+                "data[0].toString()"));
+    }
 }
@@ -0,0 +1,72 @@
+package com.ukubuka.core.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Ukubuka Shortcuts Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaShortcutsTest {
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_expand_default_success() {
+        UkubukaShortcuts shortcuts = new UkubukaShortcuts();
+        assertEquals("T(java.lang.Integer).parseInt(data[0]) + 1",
+                shortcuts.expand("$INT$(data[0]) + 1",
+                        shortcuts.getShortcuts()));
+        assertEquals("T(java.lang.Math).abs(-1)", shortcuts
+                .expand("$MATH$.abs(-1)", shortcuts.getShortcuts(null)));
+    }
+
+    @Test
+    public void test_expand_longestFirst_success() {
+        UkubukaShortcuts shortcuts = new UkubukaShortcuts(
+                new ByteArrayResource("$A$=foo\n$A$$B$=bar\r\n\n"
+                        .getBytes(StandardCharsets.UTF_8)));
+        assertEquals(2, shortcuts.getShortcuts().size());
+        assertEquals("bar foo",
+                shortcuts.expand("$A$$B$ $A$", shortcuts.getShortcuts()));
+    }
+
+    @Test
+    public void test_getShortcuts_additional_success() {
+        UkubukaShortcuts shortcuts = new UkubukaShortcuts();
+        Map<String, String> additionalShortcuts = new HashMap<>();
+        additionalShortcuts.put("$INT$", "T(java.lang.Long).parseLong");
+        additionalShortcuts.put("$FOO$", "'foo'");
+        Map<String, String> sMap = shortcuts
+                .getShortcuts(additionalShortcuts);
+        assertEquals("T(java.lang.Long).parseLong('1') + 'foo'",
+                shortcuts.expand("$INT$('1') + $FOO$", sMap));
+        assertSame(shortcuts.getShortcuts(),
+                shortcuts.getShortcuts(Collections.emptyMap()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_getShortcuts_immutable_failure() {
+        new UkubukaShortcuts().getShortcuts().put("$FOO$", "foo");
+    }
+
+    @Test
+    public void test_readShortcuts_missing_success() {
+        UkubukaShortcuts shortcuts = new UkubukaShortcuts(
+                new ClassPathResource("foo-bar"));
+        assertTrue(shortcuts.getShortcuts().isEmpty());
+        assertEquals("$INT$", shortcuts.expand("$INT$",
+                shortcuts.getShortcuts()));
+    }
+}
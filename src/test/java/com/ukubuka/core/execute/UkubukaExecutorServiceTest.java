@@ -1,16 +1,41 @@
 package com.ukubuka.core.execute;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import com.ukubuka.core.evaluator.UkubukaExpressionEvaluator;
+import com.ukubuka.core.evaluator.UkubukaShortcuts;
 import com.ukubuka.core.exception.ParserException;
 import com.ukubuka.core.exception.PipelineException;
+import com.ukubuka.core.model.ColumnProjection;
 import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.RowFilter;
+import com.ukubuka.core.model.SupportedFileType;
+import com.ukubuka.core.model.TransformOperation;
 import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Extract;
+import com.ukubuka.core.model.UkubukaSchema.Transform;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperationsType;
 import com.ukubuka.core.operations.extract.UkubukaExtractor;
 import com.ukubuka.core.operations.load.UkubukaLoader;
 import com.ukubuka.core.operations.transform.UkubukaTransformer;
@@ -41,9 +66,18 @@ public class UkubukaExecutorServiceTest {
     @Mock
     private UkubukaVisualizer ukubukaVisualizer;
 
+    @Mock
+    private UkubukaStreamingPipeline streamingPipeline;
+
     @Mock
     private UkubukaSchema ukubukaSchema;
 
+    @Spy
+    private UkubukaShortcuts shortcuts = new UkubukaShortcuts();
+
+    @Spy
+    private UkubukaExpressionEvaluator expressionEvaluator = new UkubukaExpressionEvaluator();
+
     @InjectMocks
     private UkubukaExecutorService ukubukaExecutorService;
 
@@ -51,6 +85,7 @@ public class UkubukaExecutorServiceTest {
     @Before
     public void init() {
         MockitoAnnotations.initMocks(this);
+        expressionEvaluator.setExpressionParser(new SpelExpressionParser());
     }
 
     /******************************** Test(s) ********************************/
@@ -184,4 +219,162 @@ public class UkubukaExecutorServiceTest {
 
         ukubukaExecutorService.execute("foobar");
     }
+
+    @Test
+    public void test_execute_projection_success()
+            throws ParserException, PipelineException {
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("withHeader", true);
+        UkubukaSchema schema = getSchema(SupportedFileType.CSV, flags,
+                Arrays.asList(
+                        getOperation(TransformOperation.DELETE, "bar", null),
+                        getOperation(TransformOperation.ADD, "qux",
+                                "$INT$(data[0]) + 1"),
+                        getOperation(TransformOperation.MOVE, "quux", "0"),
+                        getOperation(TransformOperation.DELETE, "foo", null),
+                        getOperation(TransformOperation.SUM, "sum",
+                                "$DOUBLE$(data[0])"),
+                        getOperation(TransformOperation.DELETE, "quux", null)));
+        Mockito.when(ukubukaSchemaReader.readSchema(Mockito.anyString()))
+                .thenReturn(schema);
+
+        ukubukaExecutorService.execute("foobar");
+
+        /* Declared Flags Are Kept */
+        Map<String, Object> extractFlags = schema.getExtracts().get(0)
+                .getFlags();
+        assertEquals(true, extractFlags.get("withHeader"));
+
+        ColumnProjection projection = (ColumnProjection) extractFlags
+                .get("projection");
+        assertEquals("T(java.lang.Integer).parseInt(data[0]) + 1",
+                projection.getOperations().get(1).getTarget());
+        assertEquals("0", projection.getOperations().get(2).getTarget());
+        BitSet skippedColumns = new BitSet();
+        skippedColumns.set(1);
+        assertEquals(skippedColumns, projection.getSkippedColumns(
+                Arrays.asList("foo", "bar", "baz", "quux")));
+    }
+
+    @Test
+    public void test_execute_projection_unresolved_success()
+            throws ParserException, PipelineException {
+        UkubukaSchema schema = getSchema(SupportedFileType.CSV, null,
+                Arrays.asList(
+                        getOperation(TransformOperation.DELETE, "bar", null),
+                        getOperation(TransformOperation.INCLUDE, null,
+                                "data.size() > 1")));
+        Mockito.when(ukubukaSchemaReader.readSchema(Mockito.anyString()))
+                .thenReturn(schema);
+
+        ukubukaExecutorService.execute("foobar");
+
+        ColumnProjection projection = (ColumnProjection) schema.getExtracts()
+                .get(0).getFlags().get("projection");
+        assertNull(projection.getSkippedColumns(Arrays.asList("foo", "bar")));
+        assertNull(projection.getSkippedColumns(Arrays.asList("foo")));
+    }
+
+    @Test
+    public void test_execute_projection_xml_success()
+            throws ParserException, PipelineException {
+        UkubukaSchema schema = getSchema(SupportedFileType.XML, null,
+                Arrays.asList(
+                        getOperation(TransformOperation.DELETE, "bar", null)));
+        Mockito.when(ukubukaSchemaReader.readSchema(Mockito.anyString()))
+                .thenReturn(schema);
+
+        ukubukaExecutorService.execute("foobar");
+
+        assertNull(schema.getExtracts().get(0).getFlags());
+    }
+
+    @Test
+    public void test_execute_rowFilter_success()
+            throws ParserException, PipelineException {
+        UkubukaSchema schema = getSchema(SupportedFileType.CSV, null,
+                Arrays.asList(
+                        getOperation(TransformOperation.DELETE, "foo", null)));
+        schema.getTransforms().get(0).getOperations().setRow(getOperation(
+                TransformOperation.INCLUDE, null, "$INT$(data[0]) > 1"));
+        Mockito.when(ukubukaSchemaReader.readSchema(Mockito.anyString()))
+                .thenReturn(schema);
+
+        ukubukaExecutorService.execute("foobar");
+
+        /* Data[0] Is The Raw Bar Column */
+        RowFilter rowFilter = (RowFilter) schema.getExtracts().get(0)
+                .getFlags().get("rowFilter");
+        assertFalse(rowFilter.isApplied());
+        List<FileRecord> fileRecords = Arrays.asList(
+                new FileRecord(Arrays.asList("9", "1")),
+                new FileRecord(Arrays.asList("0", "2")));
+        assertFalse(rowFilter.bind(Arrays.asList("foo", "bar"))
+                .test(fileRecords.get(0)));
+        assertTrue(rowFilter.bind(Arrays.asList("foo", "bar"))
+                .test(fileRecords.get(1)));
+        assertTrue(rowFilter.isApplied());
+    }
+
+    @Test
+    public void test_execute_rowFilter_aggregation_success()
+            throws ParserException, PipelineException {
+        UkubukaSchema schema = getSchema(SupportedFileType.CSV, null,
+                Arrays.asList(getOperation(TransformOperation.SUM, "sum",
+                        "$INT$(data[0])")));
+        schema.getTransforms().get(0).getOperations().setRow(getOperation(
+                TransformOperation.INCLUDE, null, "$INT$(data[0]) > 1"));
+        Mockito.when(ukubukaSchemaReader.readSchema(Mockito.anyString()))
+                .thenReturn(schema);
+
+        ukubukaExecutorService.execute("foobar");
+
+        /* Sums Are Taken Over Every Row, So Rows Must Not Go Early */
+        assertNull(schema.getExtracts().get(0).getFlags().get("rowFilter"));
+    }
+
+    /**
+     * Get Schema
+     * 
+     * @param type
+     * @param flags
+     * @param operations
+     * @return Schema With One Extract Transformed By The Operations
+     */
+    private UkubukaSchema getSchema(final SupportedFileType type,
+            final Map<String, Object> flags,
+            final List<TransformOperations> operations) {
+        Extract extract = new Extract();
+        extract.setId("foo");
+        extract.setType(type);
+        extract.setFlags(flags);
+
+        TransformOperationsType operationsType = new TransformOperationsType();
+        operationsType.setColumn(operations);
+        Transform transform = new Transform();
+        transform.setId("foo");
+        transform.setOperations(operationsType);
+
+        UkubukaSchema schema = new UkubukaSchema();
+        schema.setExtracts(Arrays.asList(extract));
+        schema.setTransforms(Collections.singletonList(transform));
+        return schema;
+    }
+
+    /**
+     * Get Operation
+     * 
+     * @param type
+     * @param source
+     * @param target
+     * @return Transform Operation
+     */
+    private TransformOperations getOperation(final TransformOperation type,
+            final String source, final String target) {
+        TransformOperations operation = new TransformOperations();
+        operation.setType(type);
+        operation.setSource(source);
+        operation.setTarget(target);
+        return operation;
+    }
 }
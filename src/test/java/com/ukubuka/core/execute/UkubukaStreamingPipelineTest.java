@@ -0,0 +1,237 @@
+package com.ukubuka.core.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.InjectMocks;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.ukubuka.core.evaluator.UkubukaExpressionEvaluator;
+import com.ukubuka.core.evaluator.UkubukaShortcuts;
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.exception.PipelineException;
+import com.ukubuka.core.exception.ReaderException;
+import com.ukubuka.core.model.SupportedFileType;
+import com.ukubuka.core.model.SupportedSource;
+import com.ukubuka.core.model.TransformOperation;
+import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Extract;
+import com.ukubuka.core.model.UkubukaSchema.Load;
+import com.ukubuka.core.model.UkubukaSchema.LoadOperations;
+import com.ukubuka.core.model.UkubukaSchema.Transform;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperationsType;
+import com.ukubuka.core.operations.load.UkubukaLoader;
+import com.ukubuka.core.operations.transform.UkubukaTransformer;
+import com.ukubuka.core.parser.impl.UkubukaDFileParser;
+import com.ukubuka.core.reader.UkubukaReader;
+import com.ukubuka.core.writer.UkubukaWriter;
+
+/**
+ * Ukubuka Streaming Pipeline Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaStreamingPipelineTest {
+
+    /**************************** Dependency Mocks ***************************/
+    @Spy
+    private UkubukaReader reader = new UkubukaReader();
+
+    @Spy
+    private UkubukaWriter writer = new UkubukaWriter();
+
+    @Spy
+    private UkubukaShortcuts shortcuts = new UkubukaShortcuts();
+
+    @Spy
+    private UkubukaExpressionEvaluator expressionEvaluator = new UkubukaExpressionEvaluator();
+
+    @Spy
+    @InjectMocks
+    private UkubukaDFileParser delimitedFileParser = new UkubukaDFileParser();
+
+    @Spy
+    @InjectMocks
+    private UkubukaTransformer transformer = new UkubukaTransformer();
+
+    @Spy
+    @InjectMocks
+    private UkubukaLoader loader = new UkubukaLoader();
+
+    @InjectMocks
+    private UkubukaStreamingPipeline streamingPipeline;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**************************** Initialize Mocks ***************************/
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+        expressionEvaluator.setExpressionParser(new SpelExpressionParser());
+    }
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_performOperations_csv_success() throws IOException,
+            ParserException, PipelineException, ReaderException {
+        File outputFile = temporaryFolder.newFile();
+        UkubukaSchema schema = getSchema("foo,bar\n1,a\n2,b\n3,c\n",
+                outputFile, SupportedFileType.CSV);
+
+        streamingPipeline.performOperations(schema);
+
+        /* Output Matches The In-Memory Pipeline */
+        assertEquals("baz,bar\n1,a\n3,c\n", new String(
+                Files.readAllBytes(outputFile.toPath()),
+                StandardCharsets.UTF_8));
+        assertTrue(schema.getExtracts().isEmpty());
+        assertTrue(schema.getLoads().isEmpty());
+
+        /* Read From The File Channel, Never As One String */
+        Mockito.verify(reader, Mockito.times(1)).readFileAsReader(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+        Mockito.verify(reader, Mockito.never()).readFileAsString(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+    }
+
+    @Test
+    public void test_performOperations_json_success()
+            throws IOException, ParserException, PipelineException {
+        File outputFile = temporaryFolder.newFile();
+        UkubukaSchema schema = getSchema("foo,bar\n1,a\n2,b\n", outputFile,
+                SupportedFileType.JSON);
+        schema.getLoads().get(0).getOperations().setFlags(
+                Collections.<String, Object> singletonMap("prettyPrint",
+                        false));
+
+        streamingPipeline.performOperations(schema);
+
+        assertEquals("[{\"baz\":\"1\",\"bar\":\"a\"}]", new String(
+                Files.readAllBytes(outputFile.toPath()),
+                StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_performOperations_aggregation_notStreamed()
+            throws IOException, ParserException, PipelineException,
+            ReaderException {
+        UkubukaSchema schema = getSchema("foo,bar\n1,a\n",
+                temporaryFolder.newFile(), SupportedFileType.CSV);
+        TransformOperations operation = new TransformOperations();
+        operation.setType(TransformOperation.SUM);
+        operation.setSource("sum");
+        operation.setTarget("data[0]");
+        schema.getTransforms().get(0).getOperations()
+                .setColumn(Arrays.asList(operation));
+
+        streamingPipeline.performOperations(schema);
+
+        assertEquals(1, schema.getExtracts().size());
+        assertEquals(1, schema.getLoads().size());
+        Mockito.verify(reader, Mockito.never()).readFileAsReader(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+    }
+
+    @Test
+    public void test_performOperations_loadReadAgain_notStreamed()
+            throws IOException, ParserException, PipelineException,
+            ReaderException {
+        UkubukaSchema schema = getSchema("foo,bar\n1,a\n",
+                temporaryFolder.newFile(), SupportedFileType.CSV);
+        LoadOperations loadOperations = new LoadOperations();
+        loadOperations.setHeader("qux");
+        loadOperations.setData(Arrays.asList("qux"));
+        Load load = new Load();
+        load.setId("quux");
+        load.setType(SupportedFileType.CSV);
+        load.setOperations(loadOperations);
+        List<Load> loads = new ArrayList<>(schema.getLoads());
+        loads.add(load);
+        schema.setLoads(loads);
+
+        streamingPipeline.performOperations(schema);
+
+        assertEquals(1, schema.getExtracts().size());
+        assertEquals(2, schema.getLoads().size());
+        Mockito.verify(reader, Mockito.never()).readFileAsReader(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+    }
+
+    /**
+     * Get Schema
+     * 
+     * @param input
+     * @param outputFile
+     * @param outputType
+     * @return Schema Copying A Streamed Extract Into The Output File
+     * @throws IOException
+     */
+    private UkubukaSchema getSchema(final String input, final File outputFile,
+            final SupportedFileType outputType) throws IOException {
+        File inputFile = temporaryFolder.newFile();
+        Files.write(inputFile.toPath(), input.getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("streaming", true);
+        flags.put("batchSize", 1);
+        Extract extract = new Extract();
+        extract.setId("foo");
+        extract.setType(SupportedFileType.CSV);
+        extract.setLocation(inputFile.getAbsolutePath());
+        extract.setFlags(flags);
+
+        TransformOperations rename = new TransformOperations();
+        rename.setType(TransformOperation.RENAME);
+        rename.setSource("foo");
+        rename.setTarget("baz");
+        TransformOperations exclude = new TransformOperations();
+        exclude.setType(TransformOperation.EXCLUDE);
+        exclude.setTarget("data[0] == '2'");
+        TransformOperationsType operationsType = new TransformOperationsType();
+        operationsType.setColumn(Arrays.asList(rename));
+        operationsType.setRow(exclude);
+        Transform transform = new Transform();
+        transform.setId("foo");
+        transform.setOperations(operationsType);
+
+        LoadOperations loadOperations = new LoadOperations();
+        loadOperations.setHeader("foo");
+        loadOperations.setData(Arrays.asList("foo"));
+        Load load = new Load();
+        load.setId("qux");
+        load.setType(outputType);
+        load.setLocation(outputFile.getAbsolutePath());
+        load.setOperations(loadOperations);
+
+        UkubukaSchema schema = new UkubukaSchema();
+        schema.setExtracts(Arrays.asList(extract));
+        schema.setTransforms(Arrays.asList(transform));
+        schema.setLoads(Arrays.asList(load));
+        return schema;
+    }
+}
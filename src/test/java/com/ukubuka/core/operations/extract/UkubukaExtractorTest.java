@@ -34,6 +34,9 @@ public class UkubukaExtractorTest {
     @Mock
     private UkubukaParser delimitedFileParser;
 
+    @Mock
+    private UkubukaParser columnarFileParser;
+
     @InjectMocks
     private UkubukaExtractor ukubukaExtractor;
 
@@ -89,6 +92,28 @@ public class UkubukaExtractorTest {
                 Mockito.anyMapOf(String.class, Object.class));
     }
 
+    @Test
+    public void test_performOperations_columnar_success()
+            throws PipelineException, ParserException {
+        Mockito.when(columnarFileParser.parseFile(Mockito.anyString(),
+                Mockito.anyMapOf(String.class, Object.class)))
+                .thenReturn(new FileContents());
+
+        Extract extracts = new Extract();
+        extracts.setId("foo");
+        extracts.setLocation("");
+        extracts.setType(SupportedFileType.COLUMNAR);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setExtracts(Arrays.asList(extracts));
+
+        ukubukaExtractor.performOperations(new HashMap<>(), ukubukaSchema);
+
+        Mockito.verify(columnarFileParser, Mockito.times(1)).parseFile(
+                Mockito.anyString(),
+                Mockito.anyMapOf(String.class, Object.class));
+    }
+
     @Test(expected = PipelineException.class)
     public void test_performOperations_unsupported_operation_failure()
             throws PipelineException, ParserException {
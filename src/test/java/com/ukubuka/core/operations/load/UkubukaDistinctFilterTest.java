@@ -0,0 +1,105 @@
+package com.ukubuka.core.operations.load;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.FileRecord;
+
+/**
+ * Ukubuka Distinct Filter Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaDistinctFilterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_filter_firstSeenOrder_success() throws WriterException {
+        List<FileRecord> fileRecords = Arrays.asList(record("b", "1"),
+                record("a", "2"), record("b", "1"), record("c", "3"),
+                record("a", "2"), record("a, 2"));
+        List<FileRecord> distinctRecords = new UkubukaDistinctFilter(0, null)
+                .filter(fileRecords);
+        assertEquals(4, distinctRecords.size());
+        assertTrue(fileRecords.get(0) == distinctRecords.get(0));
+        assertTrue(fileRecords.get(1) == distinctRecords.get(1));
+        assertTrue(fileRecords.get(3) == distinctRecords.get(2));
+        assertTrue(fileRecords.get(5) == distinctRecords.get(3));
+    }
+
+    @Test
+    public void test_filter_typedValues_success() throws WriterException {
+        List<FileRecord> distinctRecords = new UkubukaDistinctFilter(0, null)
+                .filter(Arrays.asList(record("foo", 1), record("foo", "1"),
+                        record("foo", 1L), record("foo", null),
+                        record("foo", "null"), record("foo", "")));
+        assertEquals(3, distinctRecords.size());
+        assertEquals("", distinctRecords.get(2).getData().get(1));
+    }
+
+    @Test
+    public void test_filter_spill_success() throws WriterException {
+        Random random = new Random(7);
+        List<FileRecord> fileRecords = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            fileRecords.add(record("foo" + random.nextInt(300),
+                    String.valueOf(random.nextInt(3))));
+        }
+        File spillDirectory = temporaryFolder.getRoot();
+        List<FileRecord> distinctRecords = new UkubukaDistinctFilter(0, null)
+                .filter(fileRecords);
+        List<FileRecord> spilledRecords = new UkubukaDistinctFilter(100,
+                spillDirectory.getAbsolutePath()).filter(fileRecords);
+
+        assertEquals(distinctRecords.size(), spilledRecords.size());
+        for (int i = 0; i < distinctRecords.size(); i++) {
+            assertTrue(distinctRecords.get(i) == spilledRecords.get(i));
+        }
+        assertEquals(0, spillDirectory.list().length);
+    }
+
+    @Test(expected = WriterException.class)
+    public void test_filter_spill_failure() throws WriterException {
+        new UkubukaDistinctFilter(1, "/foo/bar/baz")
+                .filter(Arrays.asList(record("foo"), record("bar")));
+    }
+
+    @Test
+    public void test_sameFields() {
+        assertTrue(UkubukaDistinctFilter.sameFields(Arrays.asList("1", 2),
+                Arrays.asList(1, "2")));
+        assertFalse(UkubukaDistinctFilter.sameFields(Arrays.asList("a, b"),
+                Arrays.asList("a", "b")));
+        assertFalse(UkubukaDistinctFilter.sameFields(Arrays.asList("a"),
+                null));
+        assertEquals(
+                UkubukaDistinctFilter.fingerprint(Arrays.asList("1", 2)),
+                UkubukaDistinctFilter.fingerprint(Arrays.asList(1, "2")));
+    }
+
+    /**
+     * Create Record
+     * 
+     * @param values
+     * @return File Record
+     */
+    private FileRecord record(final Object... values) {
+        return new FileRecord(new ArrayList<>(Arrays.asList(values)));
+    }
+}
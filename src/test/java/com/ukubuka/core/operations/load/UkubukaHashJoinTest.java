@@ -0,0 +1,39 @@
+package com.ukubuka.core.operations.load;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.JoinType;
+
+/**
+ * Ukubuka Hash Join Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaHashJoinTest extends UkubukaJoinTest {
+
+    @Override
+    protected UkubukaJoin createJoin() {
+        return new UkubukaHashJoin();
+    }
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_join_full_buildLeft_success() throws WriterException {
+        FileContents left = new FileContents(
+                new ArrayList<>(Arrays.asList("id", "name")),
+                records(Arrays.asList("2", "bar"), Arrays.asList("1", "foo")));
+        FileContents fileContents = createJoin().join(left, right(), "bar",
+                Arrays.asList("id"), Arrays.asList("id"), JoinType.FULL);
+        assertEquals(Arrays.asList("[1, foo, 1, x]", "[, , 3, z]",
+                "[1, foo, 1, y]", "[, , 4, w]", "[2, bar, , ]"),
+                rows(fileContents));
+    }
+}
@@ -0,0 +1,140 @@
+package com.ukubuka.core.operations.load;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.JoinType;
+
+/**
+ * Ukubuka Join Test
+ * 
+ * Join semantics every implementation has to keep. The inputs are in key
+ * order, so hashed and sorted joins give the same rows in the same order.
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public abstract class UkubukaJoinTest {
+
+    /**
+     * @return the join under test
+     */
+    protected abstract UkubukaJoin createJoin();
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_join_inner_success() throws WriterException {
+        FileContents fileContents = createJoin().join(left(), right(), "bar",
+                Arrays.asList("id"), Arrays.asList("id"), JoinType.INNER);
+        assertEquals(Arrays.asList("id", "name", "bar.id", "city"),
+                fileContents.getHeader());
+        assertEquals(Arrays.asList("[1, foo, 1, x]", "[1, foo, 1, y]",
+                "[3, baz, 3, z]"), rows(fileContents));
+    }
+
+    @Test
+    public void test_join_left_success() throws WriterException {
+        FileContents fileContents = createJoin().join(left(), right(), "bar",
+                Arrays.asList("id"), Arrays.asList("id"), JoinType.LEFT);
+        assertEquals(Arrays.asList("[1, foo, 1, x]", "[1, foo, 1, y]",
+                "[2, bar, , ]", "[3, baz, 3, z]", "[5, qux, , ]", "[6, , , ]"),
+                rows(fileContents));
+    }
+
+    @Test
+    public void test_join_right_success() throws WriterException {
+        FileContents fileContents = createJoin().join(left(), right(), "bar",
+                Arrays.asList("id"), Arrays.asList("id"), JoinType.RIGHT);
+        assertEquals(Arrays.asList("[1, foo, 1, x]", "[1, foo, 1, y]",
+                "[3, baz, 3, z]", "[, , 4, w]"), rows(fileContents));
+    }
+
+    @Test
+    public void test_join_compositeKeys_success() throws WriterException {
+        FileContents left = new FileContents(
+                new ArrayList<>(Arrays.asList("a", "b")),
+                records(Arrays.asList("1", 2), Arrays.asList("1", "3")));
+        FileContents right = new FileContents(
+                new ArrayList<>(Arrays.asList("c", "d", "e")),
+                records(Arrays.asList(2, "1", "foo"),
+                        Arrays.asList("2", "2", "bar")));
+        FileContents fileContents = createJoin().join(left, right, "bar",
+                Arrays.asList("a", "b"), Arrays.asList("d", "c"),
+                JoinType.INNER);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"),
+                fileContents.getHeader());
+        assertEquals(Arrays.asList("[1, 2, 2, 1, foo]"), rows(fileContents));
+    }
+
+    @Test(expected = WriterException.class)
+    public void test_join_keyNotFound_failure() throws WriterException {
+        createJoin().join(left(), right(), "bar", Arrays.asList("foo"),
+                Arrays.asList("id"), JoinType.INNER);
+    }
+
+    @Test(expected = WriterException.class)
+    public void test_join_keyCountMismatch_failure() throws WriterException {
+        createJoin().join(left(), right(), "bar", Arrays.asList("id", "name"),
+                Arrays.asList("id"), JoinType.INNER);
+    }
+
+    /**
+     * Left Input
+     * 
+     * @return File Contents
+     */
+    protected FileContents left() {
+        return new FileContents(new ArrayList<>(Arrays.asList("id", "name")),
+                records(Arrays.asList("1", "foo"), Arrays.asList("2", "bar"),
+                        Arrays.asList("3", "baz"), Arrays.asList("5", "qux"),
+                        Arrays.asList("6")));
+    }
+
+    /**
+     * Right Input
+     * 
+     * @return File Contents
+     */
+    protected FileContents right() {
+        return new FileContents(new ArrayList<>(Arrays.asList("id", "city")),
+                records(Arrays.asList("1", "x"), Arrays.asList("3", "z"),
+                        Arrays.asList("1", "y"), Arrays.asList("4", "w")));
+    }
+
+    /**
+     * Create Records
+     * 
+     * @param rows
+     * @return File Records
+     */
+    @SafeVarargs
+    protected final List<FileRecord> records(final List<Object>... rows) {
+        List<FileRecord> fileRecords = new ArrayList<>();
+        for (final List<Object> row : rows) {
+            fileRecords.add(new FileRecord(new ArrayList<>(row)));
+        }
+        return fileRecords;
+    }
+
+    /**
+     * Rows As Text
+     * 
+     * @param fileContents
+     * @return Rows
+     */
+    protected List<String> rows(final FileContents fileContents) {
+        List<String> rows = new ArrayList<>();
+        for (final FileRecord fileRecord : fileContents.getData()) {
+            rows.add(fileRecord.getData().toString());
+        }
+        return rows;
+    }
+}
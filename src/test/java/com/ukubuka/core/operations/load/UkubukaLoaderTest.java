@@ -1,10 +1,12 @@
 package com.ukubuka.core.operations.load;
 
+import static org.junit.Assert.assertEquals;
+
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-import org.json.JSONArray;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -14,11 +16,15 @@ import org.mockito.MockitoAnnotations;
 
 import com.ukubuka.core.exception.PipelineException;
 import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.Compression;
 import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.JoinStrategy;
+import com.ukubuka.core.model.JoinType;
 import com.ukubuka.core.model.LoadOperation;
 import com.ukubuka.core.model.SupportedFileType;
 import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Join;
 import com.ukubuka.core.model.UkubukaSchema.Load;
 import com.ukubuka.core.model.UkubukaSchema.LoadOperations;
 import com.ukubuka.core.writer.UkubukaWriter;
@@ -75,6 +81,14 @@ public class UkubukaLoaderTest {
         ukubukaSchema.setLoads(Arrays.asList(load));
 
         ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
+
+        /* CSV Is Streamed Straight To The File */
+        Mockito.verify(writer).writeCSV(Mockito.eq(""),
+                Mockito.eq(Arrays.asList("foo", "bar")),
+                Mockito.anyListOf(FileRecord.class),
+                Mockito.eq(Compression.NONE));
+        Mockito.verify(writer, Mockito.never())
+                .writeFile(Mockito.anyString(), Mockito.anyString());
     }
 
     @Test
@@ -116,10 +130,6 @@ public class UkubukaLoaderTest {
         Mockito.doNothing().when(writer).writeFile(Mockito.anyString(),
                 Mockito.anyString());
 
-        Mockito.when(writer.writeJSON(Mockito.anyListOf(String.class),
-                Mockito.anyListOf(FileRecord.class)))
-                .thenReturn(new JSONArray());
-
         Map<String, FileContents> dataFiles = new HashMap<>();
         dataFiles.put("foo", new FileContents(Arrays.asList("foo", "bar"),
                 Arrays.asList(new FileRecord(Arrays.asList("bar", "foo")))));
@@ -141,6 +151,41 @@ public class UkubukaLoaderTest {
         ukubukaSchema.setLoads(Arrays.asList(load));
 
         ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
+
+        /* JSON Is Streamed Straight To The File, Pretty Printed */
+        Mockito.verify(writer).writeJSON(Mockito.eq(""),
+                Mockito.eq(Arrays.asList("foo", "bar")),
+                Mockito.anyListOf(FileRecord.class), Mockito.eq(true),
+                Mockito.eq(false), Mockito.eq(Compression.NONE));
+    }
+
+    @Test
+    public void test_performOperations_columnar_success()
+            throws PipelineException, WriterException {
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo", new FileContents(Arrays.asList("foo", "bar"),
+                Arrays.asList(new FileRecord(Arrays.asList("bar", "foo")))));
+
+        LoadOperations loadOperations = new LoadOperations();
+        loadOperations.setHeader("foo");
+        loadOperations.setData(Arrays.asList("foo"));
+        loadOperations.setType(LoadOperation.JOIN);
+
+        Load load = new Load();
+        load.setId("foo-X");
+        load.setLocation("foo.ukc");
+        load.setType(SupportedFileType.COLUMNAR);
+        load.setOperations(loadOperations);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setLoads(Arrays.asList(load));
+
+        ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
+
+        /* Blocks Are Deflated By Default */
+        Mockito.verify(writer).writeColumnar(Mockito.eq("foo.ukc"),
+                Mockito.any(FileContents.class),
+                Mockito.eq(Compression.DEFLATE), Mockito.eq(65536));
     }
 
     @Test(expected = PipelineException.class)
@@ -149,10 +194,6 @@ public class UkubukaLoaderTest {
         Mockito.doNothing().when(writer).writeFile(Mockito.anyString(),
                 Mockito.anyString());
 
-        Mockito.when(writer.writeJSON(Mockito.anyListOf(String.class),
-                Mockito.anyListOf(FileRecord.class)))
-                .thenReturn(new JSONArray());
-
         Map<String, FileContents> dataFiles = new HashMap<>();
         dataFiles.put("foo", new FileContents(Arrays.asList("foo", "bar"),
                 Arrays.asList(new FileRecord(Arrays.asList("bar", "foo")))));
@@ -182,10 +223,6 @@ public class UkubukaLoaderTest {
         Mockito.doThrow(new WriterException("foo")).when(writer)
                 .writeFile(Mockito.anyString(), Mockito.anyString());
 
-        Mockito.when(writer.writeJSON(Mockito.anyListOf(String.class),
-                Mockito.anyListOf(FileRecord.class)))
-                .thenReturn(new JSONArray());
-
         Map<String, FileContents> dataFiles = new HashMap<>();
         dataFiles.put("foo", new FileContents(Arrays.asList("foo", "bar"),
                 Arrays.asList(new FileRecord(Arrays.asList("bar", "foo")))));
@@ -208,4 +245,160 @@ public class UkubukaLoaderTest {
 
         ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
     }
+
+    @Test
+    public void test_performOperations_distinct_firstSeenOrder_success()
+            throws PipelineException, WriterException {
+        Mockito.when(writer.writeCSV(Mockito.anyListOf(String.class),
+                Mockito.anyListOf(FileRecord.class))).thenReturn("foo");
+
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo", new FileContents(Arrays.asList("foo", "bar"),
+                Arrays.asList(new FileRecord(Arrays.asList("b", "1")),
+                        new FileRecord(Arrays.asList("a", "2")),
+                        new FileRecord(Arrays.asList("b", "1")),
+                        new FileRecord(Arrays.asList("c", "3")))));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("spillThreshold", 2);
+        LoadOperations loadOperations = new LoadOperations();
+        loadOperations.setHeader("foo");
+        loadOperations.setData(Arrays.asList("foo"));
+        loadOperations.setType(LoadOperation.JOIN);
+        loadOperations.setFilter(LoadOperation.DISTINCT);
+        loadOperations.setFlags(flags);
+
+        Load load = new Load();
+        load.setId("foo-X");
+        load.setLocation("");
+        load.setType(SupportedFileType.CSV);
+        load.setOperations(loadOperations);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setLoads(Arrays.asList(load));
+
+        ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
+
+        List<FileRecord> fileRecords = dataFiles.get("foo-X").getData();
+        assertEquals(3, fileRecords.size());
+        assertEquals(Arrays.asList("b", "1"), fileRecords.get(0).getData());
+        assertEquals(Arrays.asList("a", "2"), fileRecords.get(1).getData());
+        assertEquals(Arrays.asList("c", "3"), fileRecords.get(2).getData());
+    }
+
+    @Test
+    public void test_performOperations_join_success()
+            throws PipelineException, WriterException {
+        Mockito.when(writer.writeCSV(Mockito.anyListOf(String.class),
+                Mockito.anyListOf(FileRecord.class))).thenReturn("foo");
+
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo", new FileContents(Arrays.asList("id", "foo"),
+                Arrays.asList(new FileRecord(Arrays.asList("1", "bar")),
+                        new FileRecord(Arrays.asList("2", "baz")),
+                        new FileRecord(Arrays.asList("2", "baz")))));
+        dataFiles.put("bar", new FileContents(Arrays.asList("key", "bar"),
+                Arrays.asList(new FileRecord(Arrays.asList("2", "foo")))));
+
+        Join join = new Join();
+        join.setLeft("foo");
+        join.setRight("bar");
+        join.setLeftKeys(Arrays.asList("id"));
+        join.setRightKeys(Arrays.asList("key"));
+        join.setType(JoinType.LEFT);
+        LoadOperations loadOperations = new LoadOperations();
+        loadOperations.setType(LoadOperation.JOIN);
+        loadOperations.setFilter(LoadOperation.DISTINCT);
+        loadOperations.setJoin(join);
+
+        Load load = new Load();
+        load.setId("foo-X");
+        load.setLocation("");
+        load.setType(SupportedFileType.CSV);
+        load.setOperations(loadOperations);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setLoads(Arrays.asList(load));
+
+        ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
+
+        FileContents fileContents = dataFiles.get("foo-X");
+        assertEquals(Arrays.asList("id", "foo", "key", "bar"),
+                fileContents.getHeader());
+        assertEquals(2, fileContents.getData().size());
+        assertEquals(Arrays.asList("1", "bar", "", ""),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("2", "baz", "2", "foo"),
+                fileContents.getData().get(1).getData());
+    }
+
+    @Test
+    public void test_performOperations_join_sortMerge_success()
+            throws PipelineException, WriterException {
+        Mockito.when(writer.writeCSV(Mockito.anyListOf(String.class),
+                Mockito.anyListOf(FileRecord.class))).thenReturn("foo");
+
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo", new FileContents(Arrays.asList("id", "foo"),
+                Arrays.asList(new FileRecord(Arrays.asList("2", "baz")),
+                        new FileRecord(Arrays.asList("1", "bar")))));
+        dataFiles.put("bar", new FileContents(Arrays.asList("id", "bar"),
+                Arrays.asList(new FileRecord(Arrays.asList("2", "foo")),
+                        new FileRecord(Arrays.asList("1", "qux")))));
+
+        Join join = new Join();
+        join.setLeft("foo");
+        join.setRight("bar");
+        join.setLeftKeys(Arrays.asList("id"));
+        join.setStrategy(JoinStrategy.SORT_MERGE);
+        LoadOperations loadOperations = new LoadOperations();
+        loadOperations.setType(LoadOperation.JOIN);
+        loadOperations.setJoin(join);
+
+        Load load = new Load();
+        load.setId("foo-X");
+        load.setLocation("");
+        load.setType(SupportedFileType.CSV);
+        load.setOperations(loadOperations);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setLoads(Arrays.asList(load));
+
+        ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
+
+        /* Sort Merge Output Comes In Key Order */
+        FileContents fileContents = dataFiles.get("foo-X");
+        assertEquals(Arrays.asList("id", "foo", "bar.id", "bar"),
+                fileContents.getHeader());
+        assertEquals(Arrays.asList("1", "bar", "1", "qux"),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("2", "baz", "2", "foo"),
+                fileContents.getData().get(1).getData());
+    }
+
+    @Test(expected = PipelineException.class)
+    public void test_performOperations_join_failure()
+            throws PipelineException, WriterException {
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo", new FileContents(Arrays.asList("id", "foo"),
+                Arrays.asList(new FileRecord(Arrays.asList("1", "bar")))));
+
+        Join join = new Join();
+        join.setLeft("foo");
+        join.setRight("bar");
+        join.setLeftKeys(Arrays.asList("id"));
+        LoadOperations loadOperations = new LoadOperations();
+        loadOperations.setType(LoadOperation.JOIN);
+        loadOperations.setJoin(join);
+
+        Load load = new Load();
+        load.setId("foo-X");
+        load.setType(SupportedFileType.CSV);
+        load.setOperations(loadOperations);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setLoads(Arrays.asList(load));
+
+        ukubukaLoader.performOperations(dataFiles, ukubukaSchema);
+    }
 }
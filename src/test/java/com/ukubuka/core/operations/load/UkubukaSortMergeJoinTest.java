@@ -0,0 +1,74 @@
+package com.ukubuka.core.operations.load;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.JoinType;
+
+/**
+ * Ukubuka Sort Merge Join Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaSortMergeJoinTest extends UkubukaJoinTest {
+
+    @Override
+    protected UkubukaJoin createJoin() {
+        return new UkubukaSortMergeJoin();
+    }
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_join_unsortedInput_success() throws WriterException {
+        FileContents left = new FileContents(
+                new ArrayList<>(Arrays.asList("id", "name")),
+                records(Arrays.asList("5", "qux"), Arrays.asList("2", "bar"),
+                        Arrays.asList("1", "foo"), Arrays.asList("6"),
+                        Arrays.asList("3", "baz")));
+        FileContents fileContents = createJoin().join(left, right(), "bar",
+                Arrays.asList("id"), Arrays.asList("id"), JoinType.LEFT);
+        assertEquals(Arrays.asList("[1, foo, 1, x]", "[1, foo, 1, y]",
+                "[2, bar, , ]", "[3, baz, 3, z]", "[5, qux, , ]", "[6, , , ]"),
+                rows(fileContents));
+    }
+
+    @Test
+    public void test_join_matchesHashJoin_success() throws WriterException {
+        Random random = new Random(42);
+        List<FileRecord> leftRecords = new ArrayList<>();
+        List<FileRecord> rightRecords = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            leftRecords.add(new FileRecord(new ArrayList<>(Arrays.asList(
+                    String.valueOf(random.nextInt(200)), "l" + i))));
+            rightRecords.add(new FileRecord(new ArrayList<>(Arrays.asList(
+                    String.valueOf(random.nextInt(200)), "r" + i))));
+        }
+        FileContents left = new FileContents(
+                new ArrayList<>(Arrays.asList("id", "foo")), leftRecords);
+        FileContents right = new FileContents(
+                new ArrayList<>(Arrays.asList("id", "bar")), rightRecords);
+
+        for (final JoinType joinType : JoinType.values()) {
+            List<String> expected = rows(new UkubukaHashJoin().join(left,
+                    right, "bar", Arrays.asList("id"), Arrays.asList("id"),
+                    joinType));
+            List<String> actual = rows(new UkubukaSortMergeJoin()
+                    .join(left, right, "bar", Arrays.asList("id"),
+                            Arrays.asList("id"), joinType));
+            Collections.sort(expected);
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+        }
+    }
+}
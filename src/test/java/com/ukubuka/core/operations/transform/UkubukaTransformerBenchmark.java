@@ -0,0 +1,122 @@
+package com.ukubuka.core.operations.transform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+
+/**
+ * Ukubuka Transformer Benchmark
+ * 
+ * Measures the single pass row compaction behind INCLUDE/EXCLUDE for row and
+ * columnar contents at low, even and high keep ratios. The iterator removal
+ * it replaced shifts the tail of the list for every dropped row and does not
+ * finish in reasonable time at these sizes. Run after "mvn test-compile" via
+ * main().
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UkubukaTransformerBenchmark {
+
+    @Param({ "1000000" })
+    private int rows;
+
+    @Param({ "1", "50", "99" })
+    private int keepPercent;
+
+    private List<FileRecord> fileRecords;
+    private BitSet keptRows;
+    private FileContents rowContents;
+    private ColumnarFileContents columnarContents;
+
+    /**
+     * Generate Input
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(rows);
+        fileRecords = new ArrayList<>(rows);
+        keptRows = new BitSet(rows);
+        for (int i = 0; i < rows; i++) {
+            fileRecords.add(new FileRecord(new ArrayList<>(
+                    Arrays.asList(i, "value-" + i, i * 0.5d))));
+            if (random.nextInt(100) < keepPercent) {
+                keptRows.set(i);
+            }
+        }
+    }
+
+    /**
+     * Reset Contents
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        rowContents = new FileContents(Arrays.asList("foo", "bar", "baz"),
+                new ArrayList<>(fileRecords));
+        columnarContents = new ColumnarFileContents(
+                Arrays.asList("foo", "bar", "baz"), Arrays.asList(
+                        ColumnType.INT, ColumnType.STRING, ColumnType.DOUBLE));
+        for (final FileRecord fileRecord : fileRecords) {
+            columnarContents.appendRecord(fileRecord.getData());
+        }
+    }
+
+    /**
+     * Row Contents
+     * 
+     * @return Remaining Rows
+     */
+    @Benchmark
+    public int retainRowContents() {
+        rowContents.retainRows(keptRows);
+        return rowContents.getData().size();
+    }
+
+    /**
+     * Columnar Contents
+     * 
+     * @return Remaining Rows
+     */
+    @Benchmark
+    public int retainColumnarContents() {
+        columnarContents.retainRows(keptRows);
+        return columnarContents.getRowCount();
+    }
+
+    /*********************************** Main Entry Point ***********************************/
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UkubukaTransformerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -18,20 +18,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.expression.EvaluationContext;
 
 import com.ukubuka.core.evaluator.UkubukaExpressionEvaluator;
+import com.ukubuka.core.evaluator.UkubukaShortcuts;
 import com.ukubuka.core.exception.PipelineException;
-import com.ukubuka.core.exception.ReaderException;
 import com.ukubuka.core.exception.TransformException;
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnarFileContents;
 import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
-import com.ukubuka.core.model.SupportedSource;
+import com.ukubuka.core.model.RowFilter;
 import com.ukubuka.core.model.TransformOperation;
 import com.ukubuka.core.model.UkubukaSchema;
+import com.ukubuka.core.model.UkubukaSchema.Extract;
 import com.ukubuka.core.model.UkubukaSchema.Transform;
 import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
 import com.ukubuka.core.model.UkubukaSchema.TransformOperationsType;
-import com.ukubuka.core.reader.UkubukaReader;
 
 /**
  * Ukubuka Transformer Test
@@ -42,8 +46,8 @@ import com.ukubuka.core.reader.UkubukaReader;
 public class UkubukaTransformerTest {
 
     /**************************** Dependency Mocks ***************************/
-    @Mock
-    private UkubukaReader reader;
+    @Spy
+    private UkubukaShortcuts shortcuts = new UkubukaShortcuts();
 
     @Mock
     private UkubukaExpressionEvaluator expressionEvaluator;
@@ -74,7 +78,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(0xCafeBabe);
 
@@ -92,15 +97,15 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
         assertEquals(3, fileHeader.size());
         assertTrue(fileHeader.contains("foobar"));
     }
 
     @Test
     public void test_performOperations_add_withSrct_success()
-            throws PipelineException, TransformException, ReaderException {
+            throws PipelineException, TransformException {
         TransformOperations transformOperation = new TransformOperations();
         transformOperation.setType(TransformOperation.ADD);
         transformOperation.setSource("foobar");
@@ -114,7 +119,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(0xCafeBabe);
 
@@ -126,22 +132,65 @@ public class UkubukaTransformerTest {
         Map<String, FileContents> dataFiles = new HashMap<>();
         dataFiles.put("foo-X", new FileContents(fileHeader, fileRecords));
 
-        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
-                Mockito.anyString(), Mockito.anyString()))
-                .thenReturn("$RANDOM$=new java.util.Random()");
-
         UkubukaSchema ukubukaSchema = new UkubukaSchema();
         ukubukaSchema.setTransforms(Arrays.asList(transforms));
 
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class),
+                Mockito.eq("new java.util.Random.nextInt(100)"));
+        Mockito.verify(shortcuts, Mockito.times(1)).expand(
+                Mockito.eq("$RANDOM$.nextInt(100)"), Mockito.anyMap());
         assertEquals(3, fileHeader.size());
         assertTrue(fileHeader.contains("foobar"));
     }
 
+    @Test
+    public void test_performOperations_add_withSchemaSrct_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.ADD);
+        transformOperation.setSource("foobar");
+        transformOperation.setTarget("$TWICE$($INT$(data[0]))");
+
+        List<String> fileHeader = new ArrayList<>(Arrays.asList("foo", "bar"));
+        List<FileRecord> fileRecords = new ArrayList<>(Arrays.asList(
+                new FileRecord(new ArrayList<>(Arrays.asList("1", "foo"))),
+                new FileRecord(new ArrayList<>(Arrays.asList("2", "bar")))));
+        List<TransformOperations> operationsList = new ArrayList<>(
+                Arrays.asList(transformOperation));
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.anyString()))
+                .thenReturn(0xCafeBabe);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(operationsList);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", new FileContents(fileHeader, fileRecords));
+
+        Map<String, String> schemaShortcuts = new HashMap<>();
+        schemaShortcuts.put("$TWICE$", "2 * ");
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+        ukubukaSchema.setShortcuts(schemaShortcuts);
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class),
+                Mockito.eq("2 * (T(java.lang.Integer).parseInt(data[0]))"));
+        assertEquals(3, fileHeader.size());
+    }
+
     @Test
     public void test_performOperations_new_success()
             throws PipelineException, TransformException {
@@ -158,7 +207,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(0xCafeBabe);
 
@@ -175,8 +225,8 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
         assertEquals(3, fileHeader.size());
         assertTrue(fileHeader.contains("foobar"));
     }
@@ -197,7 +247,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(0xCafeBabe);
 
@@ -214,8 +265,8 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(0)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
     }
 
     @Test
@@ -484,6 +535,107 @@ public class UkubukaTransformerTest {
         assertEquals("foo", fileHeader.get(1));
     }
 
+    @Test
+    public void test_performOperations_columnLayout_success()
+            throws PipelineException, TransformException {
+        TransformOperations deleteOperation = new TransformOperations();
+        deleteOperation.setType(TransformOperation.DELETE);
+        deleteOperation.setSource("foo");
+        TransformOperations moveOperation = new TransformOperations();
+        moveOperation.setType(TransformOperation.MOVE);
+        moveOperation.setSource("qux");
+        moveOperation.setTarget("0");
+        TransformOperations swapOperation = new TransformOperations();
+        swapOperation.setType(TransformOperation.SWAP);
+        swapOperation.setSource("bar");
+        swapOperation.setTarget("baz");
+
+        List<String> fileHeader = new ArrayList<>(
+                Arrays.asList("foo", "bar", "baz", "qux"));
+        List<Object> firstRecord = new ArrayList<>(
+                Arrays.asList("a", "b", "c", "d"));
+        List<Object> secondRecord = new ArrayList<>(
+                Arrays.asList("e", "f", "g", "h", "extra"));
+        List<FileRecord> fileRecords = new ArrayList<>(
+                Arrays.asList(new FileRecord(firstRecord),
+                        new FileRecord(secondRecord)));
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(deleteOperation,
+                moveOperation, swapOperation));
+        transforms.setOperations(transformOperationsType);
+        FileContents fileContents = new FileContents(fileHeader, fileRecords);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", fileContents);
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        assertEquals(Arrays.asList("qux", "baz", "bar"), fileHeader);
+        assertEquals(fileRecords, fileContents.getData());
+        assertEquals(Arrays.asList("d", "c", "b"), firstRecord);
+        assertEquals(Arrays.asList("h", "g", "f", "extra"), secondRecord);
+    }
+
+    @Test
+    public void test_performOperations_delete_shortRow_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.DELETE);
+        transformOperation.setSource("foo");
+
+        FileContents fileContents = performColumnOperation(
+                transformOperation, Arrays.asList("foo", "bar"),
+                Arrays.asList("1", "x"), Arrays.asList("6"));
+
+        assertEquals(Arrays.asList("bar"), fileContents.getHeader());
+        assertEquals(Arrays.asList("x"),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList(), fileContents.getData().get(1).getData());
+    }
+
+    @Test
+    public void test_performOperations_move_shortRow_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.MOVE);
+        transformOperation.setSource("baz");
+        transformOperation.setTarget("0");
+
+        FileContents fileContents = performColumnOperation(
+                transformOperation, Arrays.asList("foo", "bar", "baz"),
+                Arrays.asList("1", "x", "p"), Arrays.asList("6", "y"));
+
+        assertEquals(Arrays.asList("baz", "foo", "bar"),
+                fileContents.getHeader());
+        assertEquals(Arrays.asList("p", "1", "x"),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("6", "y"),
+                fileContents.getData().get(1).getData());
+    }
+
+    @Test
+    public void test_performOperations_swap_shortRow_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.SWAP);
+        transformOperation.setSource("foo");
+        transformOperation.setTarget("bar");
+
+        FileContents fileContents = performColumnOperation(
+                transformOperation, Arrays.asList("foo", "bar"),
+                Arrays.asList("1", "x"), Arrays.asList("6"));
+
+        assertEquals(Arrays.asList("bar", "foo"), fileContents.getHeader());
+        assertEquals(Arrays.asList("x", "1"),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("6"),
+                fileContents.getData().get(1).getData());
+    }
+
     @Test(expected = PipelineException.class)
     public void test_performOperations_move_failure()
             throws PipelineException, TransformException {
@@ -585,7 +737,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(2);
 
@@ -603,8 +756,8 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
         assertEquals(new BigDecimal(4),
                 dataFiles.get("foo-X").getAggregations().get("foobar"));
     }
@@ -627,7 +780,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(2);
 
@@ -645,8 +799,8 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
         assertEquals(new BigDecimal(2),
                 dataFiles.get("foo-X").getAggregations().get("foobar"));
     }
@@ -669,7 +823,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(3);
 
@@ -687,12 +842,55 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
         assertEquals(new BigDecimal(3),
                 dataFiles.get("foo-X").getAggregations().get("foobar"));
     }
 
+    @Test
+    public void test_performOperations_max_negative_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.MAX);
+        transformOperation.setSource("foobar");
+        transformOperation.setTarget("data[1]");
+
+        List<String> fileHeader = new ArrayList<>(Arrays.asList("foo", "bar"));
+        List<FileRecord> fileRecords = new ArrayList<>(Arrays.asList(
+                new FileRecord(new ArrayList<>(
+                        Arrays.asList("bar", String.valueOf("-3")))),
+                new FileRecord(new ArrayList<>(
+                        Arrays.asList("foo", String.valueOf("-2"))))));
+        List<TransformOperations> operationsList = new ArrayList<>(
+                Arrays.asList(transformOperation));
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.anyString()))
+                .thenReturn(-3, -2);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(operationsList);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", new FileContents(fileHeader, fileRecords));
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
+        assertEquals(new BigDecimal(-2),
+                dataFiles.get("foo-X").getAggregations().get("foobar"));
+    }
+
     @Test
     public void test_performOperations_avg_success()
             throws PipelineException, TransformException {
@@ -711,7 +909,8 @@ public class UkubukaTransformerTest {
                 Arrays.asList(transformOperation));
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(new BigDecimal(3));
 
@@ -729,8 +928,8 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
         assertNotNull(dataFiles.get("foo-X").getAggregations().get("foobar"));
     }
 
@@ -785,7 +984,8 @@ public class UkubukaTransformerTest {
         TransformOperations operationsList = transformOperation;
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(true);
 
@@ -803,8 +1003,49 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
+    }
+
+    @Test
+    public void test_performOperations_include_appliedWhileParsing_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.INCLUDE);
+        transformOperation.setTarget("$DOUBLE$(data[1]) < 3d");
+
+        List<String> fileHeader = new ArrayList<>(Arrays.asList("foo", "bar"));
+        List<FileRecord> fileRecords = new ArrayList<>(Arrays.asList(
+                new FileRecord(new ArrayList<>(Arrays.asList("bar", "2")))));
+
+        /* The Parser Already Bound The Filter */
+        RowFilter rowFilter = new RowFilter(new ArrayList<>(),
+                transformOperation, (fileRecord, expression) -> true);
+        rowFilter.bind(fileHeader);
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("rowFilter", rowFilter);
+        Extract extract = new Extract();
+        extract.setId("foo-X");
+        extract.setFlags(flags);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setRow(transformOperation);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", new FileContents(fileHeader, fileRecords));
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setExtracts(Arrays.asList(extract));
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        Mockito.verify(expressionEvaluator, Mockito.times(0)).evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
+        assertEquals(1, fileRecords.size());
     }
 
     @Test
@@ -823,7 +1064,8 @@ public class UkubukaTransformerTest {
         TransformOperations operationsList = transformOperation;
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(false);
 
@@ -841,8 +1083,8 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
     }
 
     @Test
@@ -861,7 +1103,8 @@ public class UkubukaTransformerTest {
         TransformOperations operationsList = transformOperation;
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(true);
 
@@ -879,8 +1122,8 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
     }
 
     @Test
@@ -899,7 +1142,8 @@ public class UkubukaTransformerTest {
         TransformOperations operationsList = transformOperation;
 
         Mockito.when(
-                expressionEvaluator.evaluate(Mockito.any(FileContents.class),
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
                         Mockito.any(FileRecord.class), Mockito.anyString()))
                 .thenReturn(false);
 
@@ -917,7 +1161,595 @@ public class UkubukaTransformerTest {
         ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(expressionEvaluator, Mockito.times(2)).evaluate(
-                Mockito.any(FileContents.class), Mockito.any(FileRecord.class),
-                Mockito.anyString());
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
+    }
+
+    @Test
+    public void test_performOperations_columnar_success()
+            throws PipelineException, TransformException {
+        TransformOperations addOperation = new TransformOperations();
+        addOperation.setType(TransformOperation.ADD);
+        addOperation.setSource("foobar");
+        addOperation.setTarget("data[0] + data[1]");
+        TransformOperations deleteOperation = new TransformOperations();
+        deleteOperation.setType(TransformOperation.DELETE);
+        deleteOperation.setSource("baz");
+        TransformOperations moveOperation = new TransformOperations();
+        moveOperation.setType(TransformOperation.MOVE);
+        moveOperation.setSource("foobar");
+        moveOperation.setTarget("0");
+        TransformOperations swapOperation = new TransformOperations();
+        swapOperation.setType(TransformOperation.SWAP);
+        swapOperation.setSource("foo");
+        swapOperation.setTarget("bar");
+        TransformOperations excludeOperation = new TransformOperations();
+        excludeOperation.setType(TransformOperation.EXCLUDE);
+        excludeOperation.setTarget("data[1] == 'foo'");
+
+        ColumnarFileContents fileContents = new ColumnarFileContents(
+                Arrays.asList("foo", "bar", "baz"));
+        fileContents.appendRecord(Arrays.asList("foo", "bar", "x"));
+        fileContents.appendRecord(Arrays.asList("bar", "foo", "y"));
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class),
+                        Mockito.eq("data[0] + data[1]")))
+                .thenReturn("foobar", "barfoo");
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class),
+                        Mockito.eq("data[1] == 'foo'")))
+                .thenReturn(false, true);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(addOperation,
+                deleteOperation, moveOperation, swapOperation));
+        transformOperationsType.setRow(excludeOperation);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", fileContents);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        assertEquals(Arrays.asList("foobar", "bar", "foo"),
+                fileContents.getHeader());
+        assertEquals(1, fileContents.getRowCount());
+        assertEquals(Arrays.asList("foobar", "bar", "foo"),
+                fileContents.getData().get(0).getData());
+    }
+
+    @Test
+    public void test_performOperations_exclude_order_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.EXCLUDE);
+        transformOperation.setTarget("data[0] == 'foo'");
+
+        List<FileRecord> fileRecords = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            fileRecords.add(new FileRecord(
+                    new ArrayList<>(Arrays.asList(String.valueOf(i)))));
+        }
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.anyString()))
+                .thenReturn(true, false, false, true, true, false);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setRow(transformOperation);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X",
+                new FileContents(new ArrayList<>(Arrays.asList("foo")),
+                        fileRecords));
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        assertEquals(3, fileRecords.size());
+        assertEquals(Arrays.asList("1"), fileRecords.get(0).getData());
+        assertEquals(Arrays.asList("2"), fileRecords.get(1).getData());
+        assertEquals(Arrays.asList("5"), fileRecords.get(2).getData());
+    }
+
+    @Test
+    public void test_performOperations_include_typedColumnar_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.INCLUDE);
+        transformOperation.setTarget("data[0] > 1");
+
+        ColumnarFileContents fileContents = new ColumnarFileContents(
+                Arrays.asList("foo", "bar"),
+                Arrays.asList(ColumnType.INT, ColumnType.STRING));
+        fileContents.appendRecord(Arrays.asList(1, "a"));
+        fileContents.appendRecord(Arrays.asList("", "b"));
+        fileContents.appendRecord(Arrays.asList(3, "c"));
+        fileContents.appendRecord(Arrays.asList("", "d"));
+        fileContents.appendRecord(Arrays.asList(5, "e"));
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.anyString()))
+                .thenReturn(false, true, false, true, true);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setRow(transformOperation);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", fileContents);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        assertEquals(3, fileContents.getRowCount());
+        assertEquals(Arrays.asList("", "b"),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("", "d"),
+                fileContents.getData().get(1).getData());
+        assertEquals(Arrays.asList(5, "e"),
+                fileContents.getData().get(2).getData());
+        assertEquals(ColumnType.INT, fileContents.getColumn(0).getType());
+        assertEquals(3, fileContents.getColumn(0).size());
+    }
+
+    @Test
+    public void test_performOperations_fusedRowOperations_success()
+            throws PipelineException, TransformException {
+        TransformOperations addOperation = new TransformOperations();
+        addOperation.setType(TransformOperation.ADD);
+        addOperation.setSource("foobar");
+        addOperation.setTarget("data[0] + data[1]");
+        TransformOperations renameOperation = new TransformOperations();
+        renameOperation.setType(TransformOperation.RENAME);
+        renameOperation.setSource("bar");
+        renameOperation.setTarget("qux");
+        TransformOperations deleteOperation = new TransformOperations();
+        deleteOperation.setType(TransformOperation.DELETE);
+        deleteOperation.setSource("foo");
+        TransformOperations moveOperation = new TransformOperations();
+        moveOperation.setType(TransformOperation.MOVE);
+        moveOperation.setSource("foobar");
+        moveOperation.setTarget("0");
+        TransformOperations newOperation = new TransformOperations();
+        newOperation.setType(TransformOperation.NEW);
+        newOperation.setSource("index");
+        newOperation.setTarget("index");
+        TransformOperations excludeOperation = new TransformOperations();
+        excludeOperation.setType(TransformOperation.EXCLUDE);
+        excludeOperation.setTarget("data[1] == 'x'");
+
+        List<String> fileHeader = new ArrayList<>(Arrays.asList("foo", "bar"));
+        List<FileRecord> fileRecords = new ArrayList<>(Arrays.asList(
+                new FileRecord(new ArrayList<>(Arrays.asList("a", "x"))),
+                new FileRecord(new ArrayList<>(Arrays.asList("b", "y"))),
+                new FileRecord(new ArrayList<>(Arrays.asList("c", "z")))));
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class),
+                        Mockito.eq("data[0] + data[1]")))
+                .thenAnswer(invocation -> {
+                    List<Object> data = ((FileRecord) invocation
+                            .getArguments()[1]).getData();
+                    return "" + data.get(0) + data.get(1);
+                });
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.eq("index")))
+                .thenAnswer(invocation -> ((FileRecord) invocation
+                        .getArguments()[1]).getIndex());
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class),
+                        Mockito.eq("data[1] == 'x'")))
+                .thenAnswer(invocation -> "x".equals(((FileRecord) invocation
+                        .getArguments()[1]).getData().get(1)));
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(addOperation,
+                renameOperation, deleteOperation, moveOperation,
+                newOperation));
+        transformOperationsType.setRow(excludeOperation);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", new FileContents(fileHeader, fileRecords));
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        assertEquals(Arrays.asList("foobar", "qux", "index"), fileHeader);
+        assertEquals(2, fileRecords.size());
+        assertEquals(Arrays.asList("by", "y", 1),
+                fileRecords.get(0).getData());
+        assertEquals(Arrays.asList("cz", "z", 2),
+                fileRecords.get(1).getData());
+        Mockito.verify(expressionEvaluator, Mockito.times(9)).evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
+    }
+
+    @Test
+    public void test_performOperations_fusedRowOperations_aggregationBarrier()
+            throws PipelineException, TransformException {
+        TransformOperations addOperation = new TransformOperations();
+        addOperation.setType(TransformOperation.ADD);
+        addOperation.setSource("bar");
+        addOperation.setTarget("data[0] * 2");
+        TransformOperations sumOperation = new TransformOperations();
+        sumOperation.setType(TransformOperation.SUM);
+        sumOperation.setSource("barSum");
+        sumOperation.setTarget("data[1]");
+        TransformOperations shareOperation = new TransformOperations();
+        shareOperation.setType(TransformOperation.ADD);
+        shareOperation.setSource("share");
+        shareOperation.setTarget("#aggregations['barSum']");
+        TransformOperations includeOperation = new TransformOperations();
+        includeOperation.setType(TransformOperation.INCLUDE);
+        includeOperation.setTarget("data[0] > 1");
+
+        List<String> fileHeader = new ArrayList<>(Arrays.asList("foo"));
+        List<FileRecord> fileRecords = new ArrayList<>(Arrays.asList(
+                new FileRecord(new ArrayList<>(Arrays.asList(1))),
+                new FileRecord(new ArrayList<>(Arrays.asList(2)))));
+        FileContents fileContents = new FileContents(fileHeader, fileRecords);
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class),
+                        Mockito.eq("data[0] * 2")))
+                .thenAnswer(invocation -> 2 * (Integer) ((FileRecord) invocation
+                        .getArguments()[1]).getData().get(0));
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.eq("data[1]")))
+                .thenAnswer(invocation -> ((FileRecord) invocation
+                        .getArguments()[1]).getData().get(1));
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class),
+                        Mockito.eq("#aggregations['barSum']")))
+                .thenAnswer(invocation -> fileContents.getAggregations()
+                        .get("barSum"));
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class),
+                        Mockito.eq("data[0] > 1")))
+                .thenAnswer(invocation -> (Integer) ((FileRecord) invocation
+                        .getArguments()[1]).getData().get(0) > 1);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(addOperation,
+                sumOperation, shareOperation));
+        transformOperationsType.setRow(includeOperation);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", fileContents);
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        assertEquals(Arrays.asList("foo", "bar", "share"), fileHeader);
+        assertEquals(new BigDecimal(6),
+                fileContents.getAggregations().get("barSum"));
+        assertEquals(1, fileRecords.size());
+        assertEquals(Arrays.asList(2, 4, new BigDecimal(6)),
+                fileRecords.get(0).getData());
+    }
+
+    @Test
+    public void test_performOperations_traceSample_success()
+            throws PipelineException, TransformException {
+        TransformOperations transformOperation = new TransformOperations();
+        transformOperation.setType(TransformOperation.ADD);
+        transformOperation.setSource("bar");
+        transformOperation.setTarget("data[0]");
+
+        List<String> fileHeader = new ArrayList<>(Arrays.asList("foo"));
+        List<FileRecord> fileRecords = new ArrayList<>(Arrays.asList(
+                new FileRecord(new ArrayList<>(Arrays.asList("a"))),
+                new FileRecord(new ArrayList<>(Arrays.asList("b"))),
+                new FileRecord(new ArrayList<>(Arrays.asList("c")))));
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.anyString()))
+                .thenReturn("x", "y", "z");
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(transformOperation));
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", new FileContents(fileHeader, fileRecords));
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.setTraceSample(2);
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        assertEquals(Arrays.asList("foo", "bar"), fileHeader);
+        assertEquals(Arrays.asList("a", "x"), fileRecords.get(0).getData());
+        assertEquals(Arrays.asList("b", "y"), fileRecords.get(1).getData());
+        assertEquals(Arrays.asList("c", "z"), fileRecords.get(2).getData());
+    }
+
+    @Test
+    public void test_performOperations_typedAggregations_success()
+            throws PipelineException, TransformException {
+        TransformOperations sumOperation = new TransformOperations();
+        sumOperation.setType(TransformOperation.SUM);
+        sumOperation.setSource("fooSum");
+        sumOperation.setTarget("data[0]");
+        TransformOperations minOperation = new TransformOperations();
+        minOperation.setType(TransformOperation.MIN);
+        minOperation.setSource("barMin");
+        minOperation.setTarget("$DOUBLE$(data[1])");
+        TransformOperations maxOperation = new TransformOperations();
+        maxOperation.setType(TransformOperation.MAX);
+        maxOperation.setSource("fooMax");
+        maxOperation.setTarget("$INT$(data[0])");
+        TransformOperations avgOperation = new TransformOperations();
+        avgOperation.setType(TransformOperation.AVG);
+        avgOperation.setSource("barAvg");
+        avgOperation.setTarget("data[1]");
+
+        ColumnarFileContents fileContents = new ColumnarFileContents(
+                Arrays.asList("foo", "bar"),
+                Arrays.asList(ColumnType.INT, ColumnType.DOUBLE));
+        fileContents.appendRecord(Arrays.asList("3", "1.5"));
+        fileContents.appendRecord(Arrays.asList("7", "2.25"));
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(sumOperation,
+                minOperation, maxOperation, avgOperation));
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", fileContents);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        Mockito.verify(expressionEvaluator, Mockito.times(0)).evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
+        assertEquals(new BigDecimal("10"),
+                fileContents.getAggregations().get("fooSum"));
+        assertEquals(new BigDecimal("1.5"),
+                fileContents.getAggregations().get("barMin"));
+        assertEquals(new BigDecimal("7"),
+                fileContents.getAggregations().get("fooMax"));
+        assertEquals(0, new BigDecimal("1.875").compareTo(
+                (BigDecimal) fileContents.getAggregations().get("barAvg")));
+    }
+
+    @Test
+    public void test_performOperations_typedAdd_success()
+            throws PipelineException, TransformException {
+        TransformOperations addOperation = new TransformOperations();
+        addOperation.setType(TransformOperation.ADD);
+        addOperation.setSource("foobar");
+        addOperation.setTarget("$INT$(data[0]) * 2 + $INT$(data[1])");
+
+        ColumnarFileContents fileContents = new ColumnarFileContents(
+                Arrays.asList("foo", "bar"),
+                Arrays.asList(ColumnType.INT, ColumnType.STRING));
+        fileContents.appendRecord(Arrays.asList("3", "1"));
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.anyString()))
+                .thenReturn(7);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(addOperation));
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", fileContents);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        Mockito.verify(expressionEvaluator, Mockito.times(1)).evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.eq(
+                        "data[0] * 2 + T(java.lang.Integer).parseInt(data[1])"));
+        assertEquals(Arrays.asList(ColumnType.INT, ColumnType.STRING,
+                ColumnType.INT), fileContents.getColumnTypes());
+    }
+
+    @Test
+    public void test_performOperations_fusedAggregations_success()
+            throws PipelineException, TransformException {
+        List<TransformOperations> operationsList = new ArrayList<>();
+        for (final TransformOperation operationType : Arrays.asList(
+                TransformOperation.SUM, TransformOperation.AVG,
+                TransformOperation.MIN, TransformOperation.MAX,
+                TransformOperation.COUNT)) {
+            TransformOperations transformOperation = new TransformOperations();
+            transformOperation.setType(operationType);
+            transformOperation.setSource("foo" + operationType);
+            transformOperation.setTarget("$INT$(data[1])");
+            operationsList.add(transformOperation);
+        }
+        TransformOperations ratioOperation = new TransformOperations();
+        ratioOperation.setType(TransformOperation.SUM);
+        ratioOperation.setSource("fooRatio");
+        ratioOperation.setTarget("$INT$(data[1]) / #aggregations['fooSUM']");
+        operationsList.add(ratioOperation);
+
+        List<String> fileHeader = new ArrayList<>(Arrays.asList("foo", "bar"));
+        List<FileRecord> fileRecords = new ArrayList<>(Arrays.asList(
+                new FileRecord(new ArrayList<>(Arrays.asList("foo", "2"))),
+                new FileRecord(new ArrayList<>(Arrays.asList("bar", "6")))));
+
+        Mockito.when(expressionEvaluator.evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class),
+                Mockito.eq("T(java.lang.Integer).parseInt(data[1])")))
+                .thenReturn(2, 6);
+        Mockito.when(expressionEvaluator.evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class),
+                Mockito.eq(
+                        "T(java.lang.Integer).parseInt(data[1]) / #aggregations['fooSUM']")))
+                .thenReturn(0.25, 0.75);
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(operationsList);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        FileContents fileContents = new FileContents(fileHeader, fileRecords);
+        dataFiles.put("foo-X", fileContents);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        Mockito.verify(expressionEvaluator, Mockito.times(4)).evaluate(
+                Mockito.any(EvaluationContext.class),
+                Mockito.any(FileRecord.class), Mockito.anyString());
+        Map<String, Object> aggregations = fileContents.getAggregations();
+        assertEquals(new BigDecimal("8"), aggregations.get("fooSUM"));
+        assertEquals(0, new BigDecimal("4")
+                .compareTo((BigDecimal) aggregations.get("fooAVG")));
+        assertEquals(new BigDecimal("2"), aggregations.get("fooMIN"));
+        assertEquals(new BigDecimal("6"), aggregations.get("fooMAX"));
+        assertEquals(new BigDecimal("2"), aggregations.get("fooCOUNT"));
+        assertEquals(new BigDecimal("1.00"), aggregations.get("fooRatio"));
+    }
+
+    @Test
+    public void test_performOperations_parallelAggregations_success()
+            throws PipelineException, TransformException {
+        List<TransformOperations> operationsList = new ArrayList<>();
+        for (final TransformOperation operationType : Arrays.asList(
+                TransformOperation.SUM, TransformOperation.MIN,
+                TransformOperation.MAX)) {
+            TransformOperations transformOperation = new TransformOperations();
+            transformOperation.setType(operationType);
+            transformOperation.setSource("foo" + operationType);
+            transformOperation.setTarget("data[1]");
+            operationsList.add(transformOperation);
+        }
+
+        List<FileRecord> fileRecords = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            fileRecords.add(new FileRecord(new ArrayList<>(
+                    Arrays.asList("foo", String.valueOf(i % 2 == 0 ? i : -i)))));
+        }
+
+        Mockito.when(
+                expressionEvaluator.evaluate(
+                        Mockito.any(EvaluationContext.class),
+                        Mockito.any(FileRecord.class), Mockito.anyString()))
+                .thenAnswer(invocation -> ((FileRecord) invocation
+                        .getArguments()[1]).getData().get(1));
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(operationsList);
+        transforms.setOperations(transformOperationsType);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        FileContents fileContents = new FileContents(
+                new ArrayList<>(Arrays.asList("foo", "bar")), fileRecords);
+        dataFiles.put("foo-X", fileContents);
+
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.setParallelThreshold(100);
+        ukubukaTransformer.setParallelism(4);
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+
+        Mockito.verify(expressionEvaluator, Mockito.times(4 * 4)).createContext(
+                Mockito.any(FileContents.class));
+        Map<String, Object> aggregations = fileContents.getAggregations();
+        assertEquals(new BigDecimal("500"), aggregations.get("fooSUM"));
+        assertEquals(new BigDecimal("-999"), aggregations.get("fooMIN"));
+        assertEquals(new BigDecimal("1000"), aggregations.get("fooMAX"));
+    }
+
+    /**
+     * Perform Column Operation
+     * 
+     * @param transformOperation
+     * @param header
+     * @param rows
+     * @return Transformed File Contents
+     * @throws PipelineException
+     */
+    @SafeVarargs
+    private final FileContents performColumnOperation(
+            final TransformOperations transformOperation,
+            final List<String> header, final List<Object>... rows)
+            throws PipelineException {
+        List<FileRecord> fileRecords = new ArrayList<>();
+        for (final List<Object> row : rows) {
+            fileRecords.add(new FileRecord(new ArrayList<>(row)));
+        }
+
+        Transform transforms = new Transform();
+        transforms.setId("foo-X");
+        TransformOperationsType transformOperationsType = new TransformOperationsType();
+        transformOperationsType.setColumn(Arrays.asList(transformOperation));
+        transforms.setOperations(transformOperationsType);
+        FileContents fileContents = new FileContents(new ArrayList<>(header),
+                fileRecords);
+        Map<String, FileContents> dataFiles = new HashMap<>();
+        dataFiles.put("foo-X", fileContents);
+        UkubukaSchema ukubukaSchema = new UkubukaSchema();
+        ukubukaSchema.setTransforms(Arrays.asList(transforms));
+
+        ukubukaTransformer.performOperations(dataFiles, ukubukaSchema);
+        return fileContents;
     }
 }
@@ -7,7 +7,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.json.JSONArray;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -80,18 +79,14 @@ public class UkubukaVisualizerTest {
                 .thenReturn("fooBar");
         Mockito.doNothing().when(writer).writeFile(Mockito.anyString(),
                 Mockito.anyString());
-        Mockito.when(writer.prettyPrint(Mockito.anyString())).thenReturn("foo");
-        Mockito.when(writer.writeJSON(Mockito.anyListOf(String.class),
-                Mockito.anyListOf(FileRecord.class)))
-                .thenReturn(new JSONArray());
+        Mockito.when(writer.knitJSON(Mockito.anyListOf(String.class),
+                Mockito.anyListOf(FileRecord.class))).thenReturn("foo");
 
         ukubukaVisualizer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(scriptsReader, Mockito.times(1))
                 .createHTML(Mockito.anyString());
-        Mockito.verify(writer, Mockito.times(1))
-                .prettyPrint(Mockito.anyString());
-        Mockito.verify(writer, Mockito.times(1)).writeJSON(
+        Mockito.verify(writer, Mockito.times(1)).knitJSON(
                 Mockito.anyListOf(String.class),
                 Mockito.anyListOf(FileRecord.class));
     }
@@ -125,18 +120,14 @@ public class UkubukaVisualizerTest {
                 .thenReturn("fooBar");
         Mockito.doNothing().when(writer).writeFile(Mockito.anyString(),
                 Mockito.anyString());
-        Mockito.when(writer.prettyPrint(Mockito.anyString())).thenReturn("foo");
-        Mockito.when(writer.writeJSON(Mockito.anyListOf(String.class),
-                Mockito.anyListOf(FileRecord.class)))
-                .thenReturn(new JSONArray());
+        Mockito.when(writer.knitJSON(Mockito.anyListOf(String.class),
+                Mockito.anyListOf(FileRecord.class))).thenReturn("foo");
 
         ukubukaVisualizer.performOperations(dataFiles, ukubukaSchema);
 
         Mockito.verify(scriptsReader, Mockito.times(1))
                 .createHTML(Mockito.anyString());
-        Mockito.verify(writer, Mockito.times(1))
-                .prettyPrint(Mockito.anyString());
-        Mockito.verify(writer, Mockito.times(1)).writeJSON(
+        Mockito.verify(writer, Mockito.times(1)).knitJSON(
                 Mockito.anyListOf(String.class),
                 Mockito.anyListOf(FileRecord.class));
     }
@@ -171,10 +162,8 @@ public class UkubukaVisualizerTest {
                 .thenReturn("fooBar");
         Mockito.doThrow(new WriterException("foo")).when(writer)
                 .writeFile(Mockito.anyString(), Mockito.anyString());
-        Mockito.when(writer.prettyPrint(Mockito.anyString())).thenReturn("foo");
-        Mockito.when(writer.writeJSON(Mockito.anyListOf(String.class),
-                Mockito.anyListOf(FileRecord.class)))
-                .thenReturn(new JSONArray());
+        Mockito.when(writer.knitJSON(Mockito.anyListOf(String.class),
+                Mockito.anyListOf(FileRecord.class))).thenReturn("foo");
 
         ukubukaVisualizer.performOperations(dataFiles, ukubukaSchema);
     }
@@ -209,10 +198,8 @@ public class UkubukaVisualizerTest {
                 .thenThrow(new ReaderException("foo"));
         Mockito.doNothing().when(writer).writeFile(Mockito.anyString(),
                 Mockito.anyString());
-        Mockito.when(writer.prettyPrint(Mockito.anyString())).thenReturn("foo");
-        Mockito.when(writer.writeJSON(Mockito.anyListOf(String.class),
-                Mockito.anyListOf(FileRecord.class)))
-                .thenReturn(new JSONArray());
+        Mockito.when(writer.knitJSON(Mockito.anyListOf(String.class),
+                Mockito.anyListOf(FileRecord.class))).thenReturn("foo");
 
         ukubukaVisualizer.performOperations(dataFiles, ukubukaSchema);
     }
@@ -0,0 +1,147 @@
+package com.ukubuka.core.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.model.FileRecord;
+
+/**
+ * Ukubuka Chunk Reader Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaChunkReaderTest {
+
+    private static final String FILE_CONTENTS = "foo,bar,baz\r\n"
+            + "1,\"a\nb\",c\n" + "2,\"x,\"\"\ny\"\"\",z\n\n"
+            + "3,\"\"\"\n\",\"\"\n" + "4,é\"\n" + "5,\"\r\n\",\n" + "6,q,r";
+
+    private static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool(3);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_readRecords_success() throws ParserException, IOException {
+        List<FileRecord> expectedRecords = readSequentially(FILE_CONTENTS);
+        File file = writeFile(FILE_CONTENTS);
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ)) {
+            UkubukaChunkReader chunkReader = new UkubukaChunkReader(
+                    fileChannel, StandardCharsets.UTF_8, ",");
+            for (int chunkSize = 1; chunkSize <= file.length(); chunkSize++) {
+                assertEquals("Chunk Size: " + chunkSize, expectedRecords,
+                        chunkReader.readRecords(FORK_JOIN_POOL, chunkSize));
+            }
+        }
+        assertEquals(7, expectedRecords.size());
+        assertEquals("x,\"\ny\"", expectedRecords.get(2).getData().get(1));
+    }
+
+    @Test
+    public void test_split_success() throws ParserException, IOException {
+        File file = writeFile("a,b\n\"c\nd\",e\nf,g\n");
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ)) {
+            UkubukaChunkReader chunkReader = new UkubukaChunkReader(
+                    fileChannel, StandardCharsets.UTF_8, ",");
+            List<Long> boundaries = chunkReader.split(8, 1);
+            assertEquals(0L, (long) boundaries.get(0));
+            assertEquals(4L, (long) boundaries.get(1));
+            assertEquals(12L, (long) boundaries.get(2));
+            assertEquals(16L, (long) boundaries.get(3));
+            assertEquals(2, chunkReader.split(8, 100).size());
+        }
+    }
+
+    @Test
+    public void test_split_emptyFile_success()
+            throws ParserException, IOException {
+        File file = writeFile("");
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ)) {
+            UkubukaChunkReader chunkReader = new UkubukaChunkReader(
+                    fileChannel, StandardCharsets.UTF_8, ",");
+            assertEquals(1, chunkReader.split(4, 1).size());
+            assertTrue(chunkReader.readRecords(FORK_JOIN_POOL, 1).isEmpty());
+        }
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_readRecords_malformedInput_failure()
+            throws ParserException, IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), new byte[] { 'a', '\n', (byte) 0xC3 });
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ)) {
+            new UkubukaChunkReader(fileChannel, StandardCharsets.UTF_8, ",")
+                    .readRecords(FORK_JOIN_POOL, 1);
+        }
+    }
+
+    @Test
+    public void test_isSupported() {
+        assertTrue(UkubukaChunkReader.isSupported(StandardCharsets.UTF_8,
+                ","));
+        assertTrue(UkubukaChunkReader
+                .isSupported(StandardCharsets.ISO_8859_1, "|"));
+        assertFalse(UkubukaChunkReader.isSupported(StandardCharsets.UTF_16,
+                ","));
+        assertFalse(UkubukaChunkReader
+                .isSupported(Charset.forName("Shift_JIS"), "|"));
+        assertFalse(UkubukaChunkReader.isSupported(StandardCharsets.UTF_8,
+                "\""));
+    }
+
+    /**
+     * Read Sequentially
+     * 
+     * @param fileContents
+     * @return All Records
+     * @throws ParserException
+     */
+    private List<FileRecord> readSequentially(final String fileContents)
+            throws ParserException {
+        List<FileRecord> fileRecords = new ArrayList<>();
+        UkubukaRecordStream recordStream = new UkubukaRecordStream(
+                new StringReader(fileContents), ",", false, 100);
+        while (recordStream.hasNext()) {
+            fileRecords.addAll(recordStream.nextBatch());
+        }
+        return fileRecords;
+    }
+
+    /**
+     * Write File
+     * 
+     * @param fileContents
+     * @return Temporary File
+     * @throws IOException
+     */
+    private File writeFile(final String fileContents) throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(),
+                fileContents.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
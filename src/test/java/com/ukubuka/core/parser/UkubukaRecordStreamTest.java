@@ -0,0 +1,131 @@
+package com.ukubuka.core.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.model.ColumnProjection;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.RowFilter;
+import com.ukubuka.core.model.TransformOperation;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
+
+/**
+ * Ukubuka Record Stream Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaRecordStreamTest {
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_nextBatch_success() throws ParserException, IOException {
+        try (UkubukaRecordStream recordStream = new UkubukaRecordStream(
+                new StringReader("foo,bar\n1,2\n\n3,\"4,5\"\n6,7\n"),
+                ",", true, 2)) {
+            assertEquals(2, recordStream.getHeader().size());
+            assertEquals(2, recordStream.nextBatch().size());
+            assertTrue(recordStream.hasNext());
+            assertEquals(1, recordStream.nextBatch().size());
+            assertFalse(recordStream.hasNext());
+            assertEquals(0, recordStream.nextBatch().size());
+            assertEquals(3, recordStream.getRecordCount());
+        }
+    }
+
+    @Test
+    public void test_nextBatch_quotedDelimiter_success()
+            throws ParserException, IOException {
+        try (UkubukaRecordStream recordStream = new UkubukaRecordStream(
+                new StringReader("foo,bar\n3,\"4,5\"\n"),
+                ",", true, 10)) {
+            assertEquals("4,5",
+                    recordStream.nextBatch().get(0).getData().get(1));
+        }
+    }
+
+    @Test
+    public void test_nextBatch_emptyFile_success()
+            throws ParserException, IOException {
+        try (UkubukaRecordStream recordStream = new UkubukaRecordStream(
+                new StringReader(""), ",", true, 10)) {
+            assertEquals(0, recordStream.getHeader().size());
+            assertFalse(recordStream.hasNext());
+        }
+    }
+
+    @Test
+    public void test_nextBatch_projection_success()
+            throws ParserException, IOException {
+        TransformOperations deleteOperation = new TransformOperations();
+        deleteOperation.setType(TransformOperation.DELETE);
+        deleteOperation.setSource("bar");
+        try (UkubukaRecordStream recordStream = new UkubukaRecordStream(
+                new StringReader("foo,bar,baz\n1,\"2,3\",4\n"), ",", true,
+                10, new ColumnProjection(Arrays.asList(deleteOperation)),
+                null)) {
+            assertEquals(Arrays.asList("foo", "bar", "baz"),
+                    recordStream.getHeader());
+            assertEquals(Arrays.asList("1", "", "4"),
+                    recordStream.nextBatch().get(0).getData());
+        }
+    }
+
+    @Test
+    public void test_nextBatch_rowFilter_success()
+            throws ParserException, IOException {
+        TransformOperations deleteOperation = new TransformOperations();
+        deleteOperation.setType(TransformOperation.DELETE);
+        deleteOperation.setSource("column_0");
+        TransformOperations excludeOperation = new TransformOperations();
+        excludeOperation.setType(TransformOperation.EXCLUDE);
+        excludeOperation.setTarget("data[0] == 'x'");
+        RowFilter rowFilter = new RowFilter(Arrays.asList(deleteOperation),
+                excludeOperation,
+                (fileRecord, expression) -> new SpelExpressionParser()
+                        .parseExpression(expression).getValue(fileRecord));
+
+        /* Data[0] Reads The Second Raw Column After The Delete */
+        try (UkubukaRecordStream recordStream = new UkubukaRecordStream(
+                new StringReader("1,x\n2,y\nx,3\n4,x\n"), ",", false, 10,
+                null, rowFilter)) {
+            List<FileRecord> fileRecords = recordStream.nextBatch();
+            assertEquals(2, fileRecords.size());
+            assertEquals(Arrays.asList("2", "y"), fileRecords.get(0).getData());
+            assertEquals(Arrays.asList("x", "3"), fileRecords.get(1).getData());
+            assertTrue(rowFilter.isApplied());
+        }
+    }
+
+    @Test
+    public void test_nextBatch_rowFilter_computedColumn_success()
+            throws ParserException, IOException {
+        TransformOperations addOperation = new TransformOperations();
+        addOperation.setType(TransformOperation.ADD);
+        addOperation.setSource("baz");
+        addOperation.setTarget("data[0] + data[1]");
+        TransformOperations includeOperation = new TransformOperations();
+        includeOperation.setType(TransformOperation.INCLUDE);
+        includeOperation.setTarget("data[2] == 'xy'");
+        RowFilter rowFilter = new RowFilter(Arrays.asList(addOperation),
+                includeOperation, (fileRecord, expression) -> false);
+
+        /* Computed Columns Only Exist After The Transforms */
+        try (UkubukaRecordStream recordStream = new UkubukaRecordStream(
+                new StringReader("foo,bar\nx,y\n1,2\n"), ",", true, 10,
+                null, rowFilter)) {
+            assertEquals(2, recordStream.nextBatch().size());
+            assertFalse(rowFilter.isApplied());
+        }
+    }
+}
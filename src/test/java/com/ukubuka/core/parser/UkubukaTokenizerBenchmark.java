@@ -0,0 +1,171 @@
+package com.ukubuka.core.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.utilities.Constants;
+
+/**
+ * Ukubuka Tokenizer Benchmark
+ * 
+ * Compares the single-pass tokenizer against the legacy delimiter rewrite
+ * followed by a regex split. Run after "mvn test-compile" via main().
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UkubukaTokenizerBenchmark {
+
+    @Param({ "10000", "100000" })
+    private int rows;
+
+    @Param({ "10", "50" })
+    private int columns;
+
+    private String fileContent;
+
+    /**
+     * Generate Input
+     */
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                if (0 == j % 5) {
+                    builder.append("\"value ").append(i).append(", ")
+                            .append(j).append('"');
+                } else {
+                    builder.append(i * j);
+                }
+            }
+            builder.append('\n');
+        }
+        fileContent = builder.toString();
+    }
+
+    /**
+     * Legacy Path
+     * 
+     * @param blackhole
+     */
+    @Benchmark
+    public void legacyApplyNewDelimiter(final Blackhole blackhole) {
+        List<String> fileLines = new ArrayList<>(Arrays.asList(
+                fileContent.split(Constants.DEFAULT_FILE_END_LINE_DELIMITER)));
+        applyNewDelimiter(fileLines, Constants.COMMON_FILE_DELIMITER,
+                Constants.DEFAULT_FILE_DELIMITER);
+        for (final String fileLine : fileLines) {
+            blackhole.consume(new FileRecord(new ArrayList<>(Arrays.asList(
+                    fileLine.split(Constants.DEFAULT_FILE_DELIMITER)))));
+        }
+    }
+
+    /**
+     * Tokenizer Path
+     * 
+     * @param blackhole
+     * @throws IOException
+     */
+    @Benchmark
+    public void singlePassTokenizer(final Blackhole blackhole)
+            throws IOException {
+        UkubukaTokenizer tokenizer = new UkubukaTokenizer(
+                new StringReader(fileContent), ',');
+        List<Object> fields;
+        while (null != (fields = tokenizer.nextRecord())) {
+            blackhole.consume(new FileRecord(fields));
+        }
+    }
+
+    /**
+     * Apply New Delimiter
+     * 
+     * The legacy rewrite of every line to the internal delimiter, kept here
+     * as the baseline only.
+     * 
+     * @param fileContents
+     * @param oldDelimiter
+     * @param newDelimiter
+     */
+    private static void applyNewDelimiter(List<String> fileContents,
+            final String oldDelimiter, final String newDelimiter) {
+        for (int i = 0; i < fileContents.size(); i++) {
+            String dataRow = fileContents.get(i);
+            List<Integer> indices = extractDelimiterIndices(dataRow,
+                    oldDelimiter.charAt(0));
+            StringBuilder builder = new StringBuilder()
+                    .append(dataRow.charAt(0));
+            int previousIndex = 0;
+            for (final int index : indices) {
+                builder.append(dataRow.substring(1, index - previousIndex))
+                        .append(newDelimiter);
+                dataRow = dataRow.substring(index - previousIndex);
+                previousIndex = index;
+            }
+            String output = builder.append(dataRow.substring(1))
+                    .append(newDelimiter).toString();
+            fileContents.set(i, output.substring(0,
+                    output.length() - newDelimiter.length()));
+        }
+    }
+
+    /**
+     * Extract Delimiter Indices
+     * 
+     * @param header
+     * @param delimiter
+     * @return List<Integer> Indices
+     */
+    private static List<Integer> extractDelimiterIndices(final String header,
+            final char delimiter) {
+        List<Integer> indices = new ArrayList<>();
+        char[] inputTape = header.toCharArray();
+        boolean quote = false;
+        for (int i = 0; i < inputTape.length; i++) {
+            if (inputTape[i] == Constants.COLUMN_ENCOLSING_QUOTE.charAt(0)) {
+                quote = !quote;
+            } else if (inputTape[i] == delimiter && !quote) {
+                indices.add(i);
+            }
+        }
+        return indices;
+    }
+
+    /*********************************** Main Entry Point ***********************************/
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UkubukaTokenizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ukubuka.core.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+/**
+ * Ukubuka Tokenizer Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaTokenizerTest {
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_nextRecord_plain_success() throws IOException {
+        UkubukaTokenizer tokenizer = new UkubukaTokenizer(
+                new StringReader("foo,bar\nbar,foo"), ',');
+        assertEquals(Arrays.asList("foo", "bar"), tokenizer.nextRecord());
+        assertEquals(Arrays.asList("bar", "foo"), tokenizer.nextRecord());
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void test_nextRecord_quoted_success() throws IOException {
+        UkubukaTokenizer tokenizer = new UkubukaTokenizer(
+                new StringReader("\"foo|bar\"|\"say \"\"hi\"\"\"|\"a\r\nb\"\r\n"),
+                '|');
+        assertEquals(Arrays.asList("foo|bar", "say \"hi\"", "a\r\nb"),
+                tokenizer.nextRecord());
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void test_nextRecord_emptyFields_success() throws IOException {
+        UkubukaTokenizer tokenizer = new UkubukaTokenizer(
+                new StringReader(",,\n\n\"\"\n"), ',');
+        assertEquals(Arrays.asList("", "", ""), tokenizer.nextRecord());
+        assertEquals(Arrays.asList(""), tokenizer.nextRecord());
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void test_nextRecord_bufferBoundary_success() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append(i).append(",\"x,").append(i).append("\"\n");
+        }
+        UkubukaTokenizer tokenizer = new UkubukaTokenizer(
+                new StringReader(builder.toString()), ',');
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(Arrays.asList(String.valueOf(i), "x," + i),
+                    tokenizer.nextRecord());
+        }
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void test_nextRecord_skippedFields_success() throws IOException {
+        BitSet skippedFields = new BitSet();
+        skippedFields.set(0);
+        skippedFields.set(2);
+        UkubukaTokenizer tokenizer = new UkubukaTokenizer(new StringReader(
+                "a\"b,\"x,y\",\"p\"\"q\",z,extra\n\"1\r\n2\",3,4,5\n"), ',');
+        tokenizer.setSkippedFields(skippedFields);
+        assertEquals(Arrays.asList("", "x,y", "", "z", "extra"),
+                tokenizer.nextRecord());
+        assertEquals(Arrays.asList("", "3", "", "5"), tokenizer.nextRecord());
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void test_nextRecord_noSkippedFields_success() throws IOException {
+        UkubukaTokenizer tokenizer = new UkubukaTokenizer(
+                new StringReader("foo,bar\n"), ',');
+        tokenizer.setSkippedFields(new BitSet());
+        assertEquals(Arrays.asList("foo", "bar"), tokenizer.nextRecord());
+    }
+}
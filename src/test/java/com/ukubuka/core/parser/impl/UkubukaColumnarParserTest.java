@@ -0,0 +1,141 @@
+package com.ukubuka.core.parser.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.exception.ReaderException;
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.Compression;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.model.SupportedSource;
+import com.ukubuka.core.reader.UkubukaReader;
+import com.ukubuka.core.utilities.Constants;
+import com.ukubuka.core.writer.UkubukaColumnarWriter;
+
+/**
+ * Ukubuka Columnar Parser Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaColumnarParserTest {
+
+    /**************************** Dependency Mocks ***************************/
+    @Mock
+    private UkubukaReader reader;
+
+    @InjectMocks
+    private UkubukaColumnarParser ukubukaColumnarParser;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**************************** Initialize Mocks ***************************/
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_parseFile_success()
+            throws ReaderException, ParserException, IOException {
+        File file = temporaryFolder.newFile();
+        try (OutputStream outputStream = Files
+                .newOutputStream(file.toPath())) {
+            new UkubukaColumnarWriter(Compression.DEFLATE, 1).write(
+                    outputStream,
+                    new FileContents(Arrays.asList("foo", "bar"),
+                            Arrays.asList(
+                                    new FileRecord(Arrays.asList("1", "bar")),
+                                    new FileRecord(
+                                            Arrays.asList("", "baz")))));
+        }
+        mockFileChannel(file);
+
+        ColumnarFileContents fileContents = (ColumnarFileContents) ukubukaColumnarParser
+                .parseFile("foo", new HashMap<>());
+        assertEquals(Arrays.asList("foo", "bar"), fileContents.getHeader());
+        assertEquals(Arrays.asList(ColumnType.INT, ColumnType.STRING),
+                fileContents.getColumnTypes());
+        assertEquals(Arrays.asList(1, "bar"),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("", "baz"),
+                fileContents.getData().get(1).getData());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_magic_failure()
+            throws ReaderException, ParserException, IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "foo,bar\n".getBytes());
+        mockFileChannel(file);
+
+        ukubukaColumnarParser.parseFile("foo", new HashMap<>());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_version_failure()
+            throws ReaderException, ParserException, IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(),
+                new byte[] { (byte) (Constants.COLUMNAR_FILE_MAGIC >>> 24),
+                        (byte) (Constants.COLUMNAR_FILE_MAGIC >>> 16),
+                        (byte) (Constants.COLUMNAR_FILE_MAGIC >>> 8),
+                        (byte) Constants.COLUMNAR_FILE_MAGIC, 99 });
+        mockFileChannel(file);
+
+        ukubukaColumnarParser.parseFile("foo", new HashMap<>());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_truncated_failure()
+            throws ReaderException, ParserException, IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), new byte[] { 0x55, 0x4B });
+        mockFileChannel(file);
+
+        ukubukaColumnarParser.parseFile("foo", new HashMap<>());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_reader_failure()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.openFileChannel(Mockito.any(SupportedSource.class),
+                Mockito.anyString())).thenThrow(new ReaderException("foo"));
+
+        ukubukaColumnarParser.parseFile("foo", new HashMap<>());
+    }
+
+    /**
+     * Mock File Channel
+     * 
+     * @param file
+     * @throws ReaderException
+     */
+    private void mockFileChannel(final File file) throws ReaderException {
+        Mockito.when(reader.openFileChannel(Mockito.any(SupportedSource.class),
+                Mockito.anyString())).thenAnswer(invocation -> FileChannel
+                        .open(file.toPath(), StandardOpenOption.READ));
+    }
+}
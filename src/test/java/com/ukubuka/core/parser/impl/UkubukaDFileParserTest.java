@@ -1,12 +1,26 @@
 package com.ukubuka.core.parser.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -14,8 +28,14 @@ import org.mockito.MockitoAnnotations;
 
 import com.ukubuka.core.exception.ParserException;
 import com.ukubuka.core.exception.ReaderException;
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.Compression;
 import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.RowFilter;
 import com.ukubuka.core.model.SupportedSource;
+import com.ukubuka.core.model.TransformOperation;
+import com.ukubuka.core.model.UkubukaSchema.TransformOperations;
 import com.ukubuka.core.reader.UkubukaReader;
 
 /**
@@ -33,6 +53,9 @@ public class UkubukaDFileParserTest {
     @InjectMocks
     private UkubukaDFileParser ukubukaDFileParser;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     /**************************** Initialize Mocks ***************************/
     @Before
     public void init() {
@@ -57,6 +80,40 @@ public class UkubukaDFileParserTest {
         assertEquals(1, fileContents.getData().size());
     }
 
+    @Test
+    public void test_parseFile_rowFilter_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar\nbar,foo\nfoo,bar\n");
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("rowFilter", getRowFilter());
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        assertEquals(1, fileContents.getData().size());
+        assertEquals(Arrays.asList("foo", "bar"),
+                fileContents.getData().get(0).getData());
+    }
+
+    @Test
+    public void test_parseFile_rowFilter_typed_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar\nbar,foo\nfoo,bar\n");
+
+        /* Typed Values Are Left To The Transformer */
+        RowFilter rowFilter = getRowFilter();
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("rowFilter", rowFilter);
+        flags.put("inferTypes", true);
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        assertEquals(2, fileContents.getData().size());
+        assertFalse(rowFilter.isApplied());
+    }
+
     @Test
     public void test_parseFile_headerPresent_success()
             throws ReaderException, ParserException {
@@ -154,14 +211,368 @@ public class UkubukaDFileParserTest {
         Mockito.verify(reader, Mockito.times(1)).readFileAsString(
                 Mockito.any(SupportedSource.class), Mockito.anyString(),
                 Mockito.anyString());
-        /* TODO - Change the logic in StitchHeader() */
-        // assertEquals(2, fileContents.getHeader().size());
+        assertEquals(2, fileContents.getHeader().size());
         assertEquals(2, fileContents.getData().size());
 
     }
 
+    @Test
+    public void test_parseFile_quotedFields_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar\r\n\"b,a\"\"r\",\"f\no\"\r\n");
+
+        Map<String, Object> flags = new HashMap<>();
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        assertEquals(1, fileContents.getData().size());
+        assertEquals("b,a\"r", fileContents.getData().get(0).getData().get(0));
+        assertEquals("f\no", fileContents.getData().get(0).getData().get(1));
+    }
+
+    @Test
+    public void test_parseFile_streaming_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsReader(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(new BufferedReader(
+                        new StringReader("foo,bar\nbar,foo\nfoo,foo\n")));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("streaming", true);
+        flags.put("batchSize", 1);
+        flags.put("fileEncoding", "UTF-8");
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        Mockito.verify(reader, Mockito.times(0)).readFileAsString(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+        assertEquals(2, fileContents.getHeader().size());
+        assertEquals(2, fileContents.getData().size());
+        assertEquals("foo", fileContents.getData().get(1).getData().get(1));
+    }
+
+    @Test
+    public void test_parseFile_streaming_headerAbsent_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsReader(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(new BufferedReader(
+                        new StringReader("foo|bar\nbar|foo\n")));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("streaming", true);
+        flags.put("withHeader", false);
+        flags.put("fileDelimiter", "|");
+        flags.put("fileEncoding", "UTF-8");
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        assertEquals(2, fileContents.getHeader().size());
+        assertEquals("column_1", fileContents.getHeader().get(1));
+        assertEquals(2, fileContents.getData().size());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_streaming_failure()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsReader(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenThrow(new ReaderException("foo"));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("streaming", true);
+        flags.put("fileEncoding", "UTF-8");
+        ukubukaDFileParser.parseFile("foo", flags);
+    }
+
     @Test
     public void test_getParserInfo() {
         assertEquals("UkubukaDFileParser", ukubukaDFileParser.getParserInfo());
     }
+
+    @Test
+    public void test_parseFile_columnar_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar,baz\nbar,foo,baz\n\"f,b\",foo\n");
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("columnar", true);
+        flags.put("batchSize", 1);
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        assertTrue(fileContents instanceof ColumnarFileContents);
+        assertEquals(Arrays.asList("foo", "bar", "baz"),
+                fileContents.getHeader());
+        assertEquals(2, fileContents.getData().size());
+        assertEquals(Arrays.asList("bar", "foo", "baz"),
+                fileContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("f,b", "foo", ""),
+                fileContents.getData().get(1).getData());
+        assertEquals("baz", ((ColumnarFileContents) fileContents).getColumn(2)
+                .get(0));
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_columnar_failure()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar\nbar,foo,baz\n");
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("columnar", true);
+        ukubukaDFileParser.parseFile("foo", flags);
+    }
+
+    @Test
+    public void test_parseFile_declaredTypes_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar,baz\n1,2.5,true\n,3.25,false\n");
+
+        Map<String, Object> columnTypes = new HashMap<>();
+        columnTypes.put("foo", "int");
+        columnTypes.put("bar", "DECIMAL");
+        columnTypes.put("baz", "boolean");
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("columnTypes", columnTypes);
+        ColumnarFileContents fileContents = (ColumnarFileContents) ukubukaDFileParser
+                .parseFile("foo", flags);
+
+        assertEquals(Arrays.asList(ColumnType.INT, ColumnType.DECIMAL,
+                ColumnType.BOOLEAN), fileContents.getColumnTypes());
+        assertEquals(Arrays.asList(1, new BigDecimal("2.5"), true),
+                fileContents.getData().get(0).getData());
+        assertEquals("", fileContents.getData().get(1).getData().get(0));
+        assertTrue(fileContents.getColumn(0).isMissing(1));
+    }
+
+    @Test
+    public void test_parseFile_inferredTypes_success()
+            throws ReaderException, ParserException {
+        StringBuilder builder = new StringBuilder("foo,bar,baz,qux\n");
+        for (int i = 0; i < 1500; i++) {
+            builder.append(i).append(',').append(i * 10000000000L).append(',')
+                    .append(i + 0.5).append(',')
+                    .append(i < 1200 ? String.valueOf(i) : "x" + i)
+                    .append('\n');
+        }
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(builder.toString());
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("inferTypes", true);
+        flags.put("batchSize", 100);
+        ColumnarFileContents fileContents = (ColumnarFileContents) ukubukaDFileParser
+                .parseFile("foo", flags);
+
+        assertEquals(1500, fileContents.getRowCount());
+        assertEquals(Arrays.asList(ColumnType.INT, ColumnType.LONG,
+                ColumnType.DOUBLE, ColumnType.STRING),
+                fileContents.getColumnTypes());
+        assertEquals(1199, fileContents.getColumn(3).get(1199));
+        assertEquals("x1200", fileContents.getColumn(3).get(1200));
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_declaredTypes_failure()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar\n1,2\n");
+
+        Map<String, Object> columnTypes = new HashMap<>();
+        columnTypes.put("foo", "float");
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("columnTypes", columnTypes);
+        ukubukaDFileParser.parseFile("foo", flags);
+    }
+
+    @Test
+    public void test_parseFile_parallel_success()
+            throws ReaderException, ParserException, IOException {
+        StringBuilder builder = new StringBuilder("foo,bar\n");
+        for (int i = 0; i < 500; i++) {
+            builder.append(i).append(",\"b\na,").append(i).append("\"\n");
+        }
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(),
+                builder.toString().getBytes(StandardCharsets.UTF_8));
+        Mockito.when(reader.openFileChannel(Mockito.any(SupportedSource.class),
+                Mockito.anyString())).thenAnswer(invocation -> FileChannel
+                        .open(file.toPath(), StandardOpenOption.READ));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("parallel", true);
+        flags.put("parallelism", 4);
+        flags.put("chunkSize", 64);
+        flags.put("inferTypes", true);
+        ColumnarFileContents fileContents = (ColumnarFileContents) ukubukaDFileParser
+                .parseFile("foo", flags);
+
+        Mockito.verify(reader, Mockito.times(0)).readFileAsString(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+        assertEquals(Arrays.asList("foo", "bar"), fileContents.getHeader());
+        assertEquals(Arrays.asList(ColumnType.INT, ColumnType.STRING),
+                fileContents.getColumnTypes());
+        assertEquals(500, fileContents.getRowCount());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(Arrays.asList(i, "b\na," + i),
+                    fileContents.getData().get(i).getData());
+        }
+    }
+
+    @Test
+    public void test_parseFile_parallel_headerAbsent_success()
+            throws ReaderException, ParserException, IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(),
+                "foo|bar\nbar|foo\n".getBytes(StandardCharsets.UTF_8));
+        Mockito.when(reader.openFileChannel(Mockito.any(SupportedSource.class),
+                Mockito.anyString())).thenAnswer(invocation -> FileChannel
+                        .open(file.toPath(), StandardOpenOption.READ));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("parallel", true);
+        flags.put("withHeader", false);
+        flags.put("fileDelimiter", "|");
+        flags.put("chunkSize", 1);
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        assertEquals(Arrays.asList("column_0", "column_1"),
+                fileContents.getHeader());
+        assertEquals(2, fileContents.getData().size());
+        assertEquals("foo", fileContents.getData().get(1).getData().get(1));
+    }
+
+    @Test
+    public void test_parseFile_parallel_unsupportedEncoding_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsString(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString()))
+                .thenReturn("foo,bar\nbar,foo\n");
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("parallel", true);
+        flags.put("fileEncoding", "UTF-16");
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        Mockito.verify(reader, Mockito.times(0)).openFileChannel(
+                Mockito.any(SupportedSource.class), Mockito.anyString());
+        assertEquals(1, fileContents.getData().size());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_parallel_failure()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.openFileChannel(Mockito.any(SupportedSource.class),
+                Mockito.anyString())).thenThrow(new ReaderException("foo"));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("parallel", true);
+        ukubukaDFileParser.parseFile("foo", flags);
+    }
+
+    @Test
+    public void test_parseFile_compressed_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsReader(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString(),
+                Mockito.eq(Compression.GZIP)))
+                .thenReturn(new BufferedReader(
+                        new StringReader("foo,bar\nbar,foo\n")));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("parallel", true);
+        flags.put("memoryMapped", true);
+        flags.put("fileEncoding", "UTF-8");
+        FileContents fileContents = ukubukaDFileParser
+                .parseFile("foo.csv.gz", flags);
+
+        Mockito.verify(reader, Mockito.times(0)).openFileChannel(
+                Mockito.any(SupportedSource.class), Mockito.anyString());
+        Mockito.verify(reader, Mockito.times(0)).readFileAsMappedReader(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+        assertEquals(1, fileContents.getData().size());
+    }
+
+    @Test
+    public void test_parseFile_declaredCompression_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsReader(Mockito.any(SupportedSource.class),
+                Mockito.anyString(), Mockito.anyString(),
+                Mockito.eq(Compression.DEFLATE)))
+                .thenReturn(new BufferedReader(
+                        new StringReader("foo,bar\nbar,foo\n")));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("compression", "deflate");
+        flags.put("fileEncoding", "UTF-8");
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        assertEquals(1, fileContents.getData().size());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_unsupportedCompression_failure()
+            throws ReaderException, ParserException {
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("compression", "zstd");
+        ukubukaDFileParser.parseFile("foo", flags);
+    }
+
+    @Test
+    public void test_parseFile_memoryMapped_success()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsMappedReader(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString()))
+                .thenReturn(new StringReader("foo,bar\nbar,foo\nfoo,foo\n"));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("memoryMapped", true);
+        flags.put("streaming", true);
+        flags.put("fileEncoding", "UTF-8");
+        FileContents fileContents = ukubukaDFileParser.parseFile("foo", flags);
+
+        Mockito.verify(reader, Mockito.times(0)).readFileAsReader(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString());
+        assertEquals(2, fileContents.getHeader().size());
+        assertEquals(2, fileContents.getData().size());
+    }
+
+    @Test(expected = ParserException.class)
+    public void test_parseFile_memoryMapped_failure()
+            throws ReaderException, ParserException {
+        Mockito.when(reader.readFileAsMappedReader(
+                Mockito.any(SupportedSource.class), Mockito.anyString(),
+                Mockito.anyString())).thenThrow(new ReaderException("foo"));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("memoryMapped", true);
+        flags.put("fileEncoding", "UTF-8");
+        ukubukaDFileParser.parseFile("foo", flags);
+    }
+
+    /**
+     * Get Row Filter
+     * 
+     * @return Filter Keeping Rows Whose First Field Is Foo
+     */
+    private RowFilter getRowFilter() {
+        TransformOperations includeOperation = new TransformOperations();
+        includeOperation.setType(TransformOperation.INCLUDE);
+        includeOperation.setTarget("data[0] == 'foo'");
+        return new RowFilter(Arrays.<TransformOperations> asList(),
+                includeOperation, (fileRecord, expression) -> "foo"
+                        .equals(fileRecord.getData().get(0)));
+    }
 }
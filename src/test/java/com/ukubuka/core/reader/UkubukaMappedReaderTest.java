@@ -0,0 +1,89 @@
+package com.ukubuka.core.reader;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Ukubuka Mapped Reader Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaMappedReaderTest {
+
+    private static final String FILE_CONTENTS = "foo,bär\nçé,€uro\n𝄞,baz";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_read_segmentRolling_success() throws IOException {
+        File file = writeFile(FILE_CONTENTS);
+        for (int segmentSize = 8; segmentSize <= file.length()
+                + 1; segmentSize++) {
+            try (Reader reader = new UkubukaMappedReader(
+                    FileChannel.open(file.toPath(), StandardOpenOption.READ),
+                    StandardCharsets.UTF_8.newDecoder(), segmentSize)) {
+                assertEquals("Segment Size: " + segmentSize, FILE_CONTENTS,
+                        IOUtils.toString(reader));
+            }
+        }
+    }
+
+    @Test
+    public void test_read_emptyFile_success() throws IOException {
+        try (Reader reader = new UkubukaMappedReader(
+                FileChannel.open(writeFile("").toPath(),
+                        StandardOpenOption.READ),
+                StandardCharsets.UTF_8.newDecoder(), 8)) {
+            assertEquals(-1, reader.read());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void test_read_malformedInput_failure() throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), new byte[] { 'a', '\n', (byte) 0xC3 });
+        try (Reader reader = new UkubukaMappedReader(
+                FileChannel.open(file.toPath(), StandardOpenOption.READ),
+                StandardCharsets.UTF_8.newDecoder(), 8)) {
+            IOUtils.toString(reader);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_segmentSize_failure() throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(
+                writeFile(FILE_CONTENTS).toPath(), StandardOpenOption.READ)) {
+            new UkubukaMappedReader(fileChannel,
+                    StandardCharsets.UTF_8.newDecoder(), 2);
+        }
+    }
+
+    /**
+     * Write File
+     * 
+     * @param fileContents
+     * @return Temporary File
+     * @throws IOException
+     */
+    private File writeFile(final String fileContents) throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(),
+                fileContents.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -1,8 +1,26 @@
 package com.ukubuka.core.reader;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.ukubuka.core.exception.ReaderException;
+import com.ukubuka.core.model.Compression;
 import com.ukubuka.core.model.SupportedSource;
 
 /**
@@ -13,6 +31,9 @@ import com.ukubuka.core.model.SupportedSource;
  */
 public class UkubukaReaderTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private UkubukaReader ukubukaReader = new UkubukaReader();
 
     /******************************** Test(s) ********************************/
@@ -78,4 +99,183 @@ public class UkubukaReaderTest {
                         .toString().replace("file:/", "file://"),
                 null);
     }
+
+    @Test
+    public void test_readFileAsReader_file_success()
+            throws ReaderException, IOException {
+        try (BufferedReader reader = ukubukaReader.readFileAsReader(
+                SupportedSource.FILE, this.getClass().getClassLoader()
+                        .getResource("test-dataset.csv").getFile(),
+                null)) {
+            assertEquals("col_1,col_2,col_3", reader.readLine());
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void test_readFileAsReader_file_failure() throws ReaderException {
+        ukubukaReader.readFileAsReader(SupportedSource.FILE, "foo-bar.csv",
+                null);
+    }
+
+    @Test
+    public void test_readFileAsReader_gzip_success()
+            throws ReaderException, IOException {
+        try (BufferedReader reader = ukubukaReader.readFileAsReader(
+                SupportedSource.FILE, compressedDataset("foo.csv.gz"),
+                null)) {
+            assertEquals("col_1,col_2,col_3", reader.readLine());
+        }
+    }
+
+    @Test
+    public void test_readFileAsReader_declaredCompression_success()
+            throws ReaderException, IOException {
+        try (BufferedReader reader = ukubukaReader.readFileAsReader(
+                SupportedSource.FILE, compressedDataset("foo.csv"), null,
+                Compression.GZIP)) {
+            assertEquals("col_1,col_2,col_3", reader.readLine());
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void test_readFileAsReader_gzip_failure()
+            throws ReaderException, IOException {
+        ukubukaReader.readFileAsReader(SupportedSource.FILE,
+                this.getClass().getClassLoader()
+                        .getResource("test-dataset.csv").getFile(),
+                null, Compression.GZIP);
+    }
+
+    @Test
+    public void test_readFileAsString_gzip_success()
+            throws ReaderException, IOException {
+        assertEquals(
+                ukubukaReader.readFileAsString(SupportedSource.FILE,
+                        this.getClass().getClassLoader()
+                                .getResource("test-dataset.csv").getFile(),
+                        null),
+                ukubukaReader.readFileAsString(SupportedSource.FILE,
+                        compressedDataset("foo.csv.gz"), null));
+    }
+
+    @Test
+    public void test_readFileAsMappedReader_gzip_success()
+            throws ReaderException, IOException {
+        try (BufferedReader reader = new BufferedReader(
+                ukubukaReader.readFileAsMappedReader(SupportedSource.FILE,
+                        compressedDataset("foo.csv.gz"), null))) {
+            assertEquals("col_1,col_2,col_3", reader.readLine());
+        }
+    }
+
+    @Test
+    public void test_openFileChannel_file_success()
+            throws ReaderException, IOException {
+        try (FileChannel fileChannel = ukubukaReader.openFileChannel(
+                SupportedSource.FILE, this.getClass().getClassLoader()
+                        .getResource("test-dataset.csv").getFile())) {
+            assertTrue(fileChannel.size() > 0);
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void test_openFileChannel_file_failure() throws ReaderException {
+        ukubukaReader.openFileChannel(SupportedSource.FILE, "foo-bar.csv");
+    }
+
+    @Test
+    public void test_readFileAsMappedReader_file_success()
+            throws ReaderException, IOException {
+        ukubukaReader.setSegmentSize(8);
+        try (BufferedReader reader = new BufferedReader(
+                ukubukaReader.readFileAsMappedReader(SupportedSource.FILE,
+                        this.getClass().getClassLoader()
+                                .getResource("test-dataset.csv").getFile(),
+                        null))) {
+            assertEquals("col_1,col_2,col_3", reader.readLine());
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void test_readFileAsMappedReader_file_failure()
+            throws ReaderException {
+        ukubukaReader.readFileAsMappedReader(SupportedSource.FILE,
+                "foo-bar.csv", null);
+    }
+
+    @Test(expected = ReaderException.class)
+    public void test_readFileAsMappedReader_segmentSize_failure()
+            throws ReaderException {
+        ukubukaReader.setSegmentSize(0);
+        ukubukaReader.readFileAsMappedReader(SupportedSource.FILE,
+                this.getClass().getClassLoader()
+                        .getResource("test-dataset.csv").getFile(),
+                null);
+    }
+
+    @Test
+    public void test_readFileAsReader_malformedInput_success()
+            throws ReaderException, IOException {
+        String completeFileName = malformedDataset();
+        try (BufferedReader reader = ukubukaReader.readFileAsReader(
+                SupportedSource.FILE, completeFileName, null)) {
+            assertEquals(ukubukaReader.readFileAsString(SupportedSource.FILE,
+                    completeFileName, null), IOUtils.toString(reader));
+        }
+    }
+
+    @Test
+    public void test_readFileAsMappedReader_malformedInput_success()
+            throws ReaderException, IOException {
+        String completeFileName = malformedDataset();
+        try (Reader reader = ukubukaReader.readFileAsMappedReader(
+                SupportedSource.FILE, completeFileName, null)) {
+            assertEquals("a\n\uFFFD,b\n\uFFFD", IOUtils.toString(reader));
+        }
+    }
+
+    @Test
+    public void test_readFileAsReader_gzip_malformedInput_success()
+            throws ReaderException, IOException {
+        File file = temporaryFolder.newFile("foo.csv.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(
+                new FileOutputStream(file))) {
+            Files.copy(Paths.get(malformedDataset()), outputStream);
+        }
+        try (BufferedReader reader = ukubukaReader.readFileAsReader(
+                SupportedSource.FILE, file.getAbsolutePath(), null)) {
+            assertEquals("a\n\uFFFD,b\n\uFFFD", IOUtils.toString(reader));
+        }
+    }
+
+    /**
+     * Malformed Dataset
+     * 
+     * @return Location Of A UTF-8 File With Broken Sequences
+     * @throws IOException
+     */
+    private String malformedDataset() throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), new byte[] { 'a', '\n', (byte) 0xFF, ',',
+                'b', '\n', (byte) 0xC3 });
+        return file.getAbsolutePath();
+    }
+
+    /**
+     * Compressed Dataset
+     * 
+     * @param fileName
+     * @return Location Of The Gzipped Test Dataset
+     * @throws IOException
+     */
+    private String compressedDataset(final String fileName)
+            throws IOException {
+        File file = temporaryFolder.newFile(fileName);
+        try (OutputStream outputStream = new GZIPOutputStream(
+                new FileOutputStream(file))) {
+            Files.copy(Paths.get(this.getClass().getClassLoader()
+                    .getResource("test-dataset.csv").getFile()), outputStream);
+        }
+        return file.getAbsolutePath();
+    }
 }
@@ -0,0 +1,147 @@
+package com.ukubuka.core.writer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ukubuka.core.exception.ParserException;
+import com.ukubuka.core.model.ColumnType;
+import com.ukubuka.core.model.ColumnarFileContents;
+import com.ukubuka.core.model.Compression;
+import com.ukubuka.core.model.FileContents;
+import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.parser.UkubukaColumnarReader;
+
+/**
+ * Ukubuka Columnar Writer Test
+ * 
+ * @author agrawroh
+ * @version v1.0
+ */
+public class UkubukaColumnarWriterTest {
+
+    /******************************** Test(s) ********************************/
+    @Test
+    public void test_write_columnar_success()
+            throws IOException, ParserException {
+        List<ColumnType> columnTypes = Arrays.asList(ColumnType.values());
+        List<String> header = new ArrayList<>();
+        for (final ColumnType columnType : columnTypes) {
+            header.add(columnType.getType());
+        }
+        ColumnarFileContents fileContents = new ColumnarFileContents(header,
+                columnTypes);
+        for (int i = 0; i < 5; i++) {
+            List<Object> record = new ArrayList<>();
+            for (final ColumnType columnType : columnTypes) {
+                record.add(2 == i ? "" : getValue(columnType, i));
+            }
+            fileContents.appendRecord(record);
+        }
+
+        for (final Compression compression : Compression.values()) {
+            ColumnarFileContents readContents = roundTrip(fileContents,
+                    compression, 2);
+            assertEquals(header, readContents.getHeader());
+            assertEquals(columnTypes, readContents.getColumnTypes());
+            assertEquals(5, readContents.getRowCount());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(fileContents.getData().get(i).getData(),
+                        readContents.getData().get(i).getData());
+            }
+        }
+    }
+
+    @Test
+    public void test_write_inferredTypes_success()
+            throws IOException, ParserException {
+        FileContents fileContents = new FileContents(
+                Arrays.asList("foo", "bar", "baz", "qux"),
+                Arrays.asList(
+                        new FileRecord(Arrays.asList("1", "1.5", "", "x")),
+                        new FileRecord(Arrays.asList("", "2", "", "2")),
+                        new FileRecord(Arrays.asList("3"))));
+
+        ColumnarFileContents readContents = roundTrip(fileContents,
+                Compression.NONE, 65536);
+        assertEquals(Arrays.asList(ColumnType.INT, ColumnType.DECIMAL,
+                ColumnType.STRING, ColumnType.STRING),
+                readContents.getColumnTypes());
+        assertEquals(Arrays.asList(1, new BigDecimal("1.5"), "", "x"),
+                readContents.getData().get(0).getData());
+        assertEquals(Arrays.asList("", new BigDecimal("2"), "", "2"),
+                readContents.getData().get(1).getData());
+        assertEquals(Arrays.asList(3, "", "", ""),
+                readContents.getData().get(2).getData());
+    }
+
+    @Test
+    public void test_write_empty_success() throws IOException, ParserException {
+        ColumnarFileContents readContents = roundTrip(
+                new FileContents(Arrays.asList("foo"),
+                        new ArrayList<FileRecord>()),
+                Compression.GZIP, 1);
+        assertEquals(Arrays.asList("foo"), readContents.getHeader());
+        assertEquals(Arrays.asList(ColumnType.STRING),
+                readContents.getColumnTypes());
+        assertEquals(0, readContents.getRowCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_write_blockSize_failure() {
+        new UkubukaColumnarWriter(Compression.NONE, 0);
+    }
+
+    /**
+     * Round Trip
+     * 
+     * @param fileContents
+     * @param compression
+     * @param blockSize
+     * @return Contents Read Back
+     * @throws IOException
+     * @throws ParserException
+     */
+    private static ColumnarFileContents roundTrip(
+            final FileContents fileContents, final Compression compression,
+            final int blockSize) throws IOException, ParserException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new UkubukaColumnarWriter(compression, blockSize).write(outputStream,
+                fileContents);
+        return new UkubukaColumnarReader(
+                new ByteArrayInputStream(outputStream.toByteArray())).read();
+    }
+
+    /**
+     * Get Value
+     * 
+     * @param columnType
+     * @param seed
+     * @return Value Of The Type
+     */
+    private static Object getValue(final ColumnType columnType,
+            final int seed) {
+        switch (columnType) {
+            case INT:
+                return seed;
+            case LONG:
+                return Long.MAX_VALUE - seed;
+            case DOUBLE:
+                return seed + 0.25;
+            case BOOLEAN:
+                return 0 == seed % 2;
+            case DECIMAL:
+                return new BigDecimal("12345678901234567890.0" + seed);
+            default:
+                return "f\u00f6o-" + seed;
+        }
+    }
+}
@@ -2,24 +2,33 @@ package com.ukubuka.core.writer;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.IOUtils;
 
-import org.json.JSONArray;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ukubuka.core.exception.ParserException;
 import com.ukubuka.core.exception.WriterException;
+import com.ukubuka.core.model.Compression;
+import com.ukubuka.core.model.FileContents;
 import com.ukubuka.core.model.FileRecord;
+import com.ukubuka.core.parser.UkubukaColumnarReader;
 
 /**
  * Ukubuka Writer Test
@@ -30,18 +39,12 @@ import com.ukubuka.core.model.FileRecord;
 public class UkubukaWriterTest {
 
     /**************************** Dependency Mocks ***************************/
-    @Mock
-    private ObjectMapper mapper;
-
-    @Mock
-    private ObjectWriter writer;
-
-    @Mock
-    private JsonParseException jsonParseException;
-
     @InjectMocks
     private UkubukaWriter ukubukaWriter;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     /**************************** Initialize Mocks ***************************/
     @Before
     public void init() {
@@ -50,60 +53,207 @@ public class UkubukaWriterTest {
 
     /******************************** Test(s) ********************************/
     @Test
-    public void test_prettyPrint_success() throws WriterException, IOException {
-        Mockito.when(mapper.writerWithDefaultPrettyPrinter())
-                .thenReturn(writer);
-        Mockito.when(
-                mapper.readValue(Mockito.anyString(), Mockito.eq(Object.class)))
-                .thenReturn("fooBar");
-        Mockito.when(writer.writeValueAsString(Mockito.anyString()))
-                .thenReturn("fooBar");
-        String output = ukubukaWriter.prettyPrint("{\"foo\":\"bar\"}");
-        assertEquals("fooBar", output);
+    public void test_writeJSON_writer_success() throws IOException {
+        List<String> fileHeader = Arrays.asList("foo", "bar", "baz");
+        List<FileRecord> fileRecords = Arrays.asList(
+                new FileRecord(Arrays.asList("b\"ar", 1)),
+                new FileRecord(Arrays.asList("qux", "quux", "corge", "x")));
+        StringWriter writer = new StringWriter();
+        ukubukaWriter.writeJSON(writer, fileHeader, fileRecords, false, false);
+        assertEquals("[{\"foo\":\"b\\\"ar\",\"bar\":\"1\"},"
+                + "{\"foo\":\"qux\",\"bar\":\"quux\",\"baz\":\"corge\"}]",
+                writer.toString());
     }
 
-    @Test(expected = WriterException.class)
-    public void test_prettyPrint_writer_json_parse_exception()
+    @Test
+    public void test_writeJSON_jsonLines_success() throws IOException {
+        StringWriter writer = new StringWriter();
+        ukubukaWriter.writeJSON(writer, Arrays.asList("foo"),
+                Arrays.asList(new FileRecord(Arrays.asList("bar")),
+                        new FileRecord(Arrays.asList("baz"))),
+                true, true);
+        assertEquals("{\"foo\":\"bar\"}\n{\"foo\":\"baz\"}\n",
+                writer.toString());
+    }
+
+    @Test
+    public void test_knitJSON_success() throws WriterException {
+        String json = ukubukaWriter.knitJSON(Arrays.asList("foo", "bar"),
+                Arrays.asList(new FileRecord(Arrays.asList("bar", "foo"))));
+        assertEquals("[ {\n  \"foo\" : \"bar\",\n  \"bar\" : \"foo\"\n} ]",
+                json);
+    }
+
+    @Test
+    public void test_writeJSON_file_success()
             throws WriterException, IOException {
-        Mockito.when(mapper.writerWithDefaultPrettyPrinter())
-                .thenReturn(writer);
-        Mockito.when(
-                mapper.readValue(Mockito.anyString(), Mockito.eq(Object.class)))
-                .thenReturn("fooBar");
-        Mockito.when(writer.writeValueAsString(Mockito.anyString()))
-                .thenThrow(jsonParseException);
-        ukubukaWriter.prettyPrint("{\"foo\":\"bar\"}");
+        File file = temporaryFolder.newFile();
+        ukubukaWriter.writeJSON(file.getAbsolutePath(), Arrays.asList("foo"),
+                Arrays.asList(new FileRecord(Arrays.asList("b\u00e4r"))),
+                false, false, Compression.NONE);
+        assertEquals("[{\"foo\":\"b\u00e4r\"}]", new String(
+                Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_openJSON_batches_success()
+            throws WriterException, IOException {
+        File file = temporaryFolder.newFile();
+        try (UkubukaRecordSink sink = ukubukaWriter.openJSON(
+                file.getAbsolutePath(), Arrays.asList("foo"), false, false,
+                Compression.NONE)) {
+            sink.write(Arrays.asList(new FileRecord(Arrays.asList("bar"))));
+            sink.write(Arrays.<FileRecord> asList());
+            sink.write(Arrays.asList(new FileRecord(Arrays.asList("baz"))));
+        }
+        assertEquals("[{\"foo\":\"bar\"},{\"foo\":\"baz\"}]", new String(
+                Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_openCSV_batches_success()
+            throws WriterException, IOException {
+        File file = temporaryFolder.newFile();
+        try (UkubukaRecordSink sink = ukubukaWriter.openCSV(
+                file.getAbsolutePath(), Arrays.asList("foo", "bar"),
+                Compression.NONE)) {
+            sink.write(Arrays.asList(new FileRecord(Arrays.asList("1", "a"))));
+            sink.write(Arrays.asList(new FileRecord(Arrays.asList("2", "b"))));
+        }
+        assertEquals("foo,bar\n1,a\n2,b\n", new String(
+                Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
     }
 
     @Test(expected = WriterException.class)
-    public void test_prettyPrint_mapper_json_parse_exception()
+    public void test_writeJSON_file_failure()
             throws WriterException, IOException {
-        Mockito.when(mapper.writerWithDefaultPrettyPrinter())
-                .thenReturn(writer);
-        Mockito.when(
-                mapper.readValue(Mockito.anyString(), Mockito.eq(Object.class)))
-                .thenThrow(jsonParseException);
-        Mockito.when(writer.writeValueAsString(Mockito.anyString()))
-                .thenThrow(jsonParseException);
-        ukubukaWriter.prettyPrint("{\"foo\":\"bar\"}");
+        ukubukaWriter.writeJSON(temporaryFolder.newFolder().getAbsolutePath(),
+                Arrays.asList("foo"), Arrays.<FileRecord> asList(), true,
+                false, Compression.NONE);
     }
 
     @Test
-    public void test_writeJSON_success() {
+    public void test_writeCSV_success() {
         List<String> fileHeader = Arrays.asList("foo", "bar");
         List<FileRecord> fileRecords = Arrays
                 .asList(new FileRecord(Arrays.asList("bar", "foo")));
-        JSONArray jsonArray = ukubukaWriter.writeJSON(fileHeader, fileRecords);
-        assertEquals(1, jsonArray.length());
+        String csvFile = ukubukaWriter.writeCSV(fileHeader, fileRecords);
+        assertEquals(16, csvFile.length());
     }
 
     @Test
-    public void test_writeCSV_success() {
+    public void test_writeCSV_quotedFields_success() {
         List<String> fileHeader = Arrays.asList("foo", "bar");
         List<FileRecord> fileRecords = Arrays
-                .asList(new FileRecord(Arrays.asList("bar", "foo")));
+                .asList(new FileRecord(Arrays.asList("b,a\"r", "foo")));
         String csvFile = ukubukaWriter.writeCSV(fileHeader, fileRecords);
-        assertEquals(16, csvFile.length());
+        assertEquals("foo,bar\n\"b,a\"\"r\",foo\n", csvFile);
+    }
+
+    @Test
+    public void test_writeCSV_writer_success() throws IOException {
+        List<String> fileHeader = Arrays.asList("foo", "bar");
+        List<FileRecord> fileRecords = Arrays.asList(
+                new FileRecord(Arrays.asList("b,a\"r", 1)),
+                new FileRecord(Arrays.asList("line\nbreak", "baz")));
+        StringWriter writer = new StringWriter();
+        ukubukaWriter.writeCSV(writer, fileHeader, fileRecords);
+        assertEquals(ukubukaWriter.writeCSV(fileHeader, fileRecords),
+                writer.toString());
+    }
+
+    @Test
+    public void test_writeCSV_file_success()
+            throws WriterException, IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "stale contents longer than the output"
+                .getBytes(StandardCharsets.UTF_8));
+        ukubukaWriter.setBufferSize(4);
+        ukubukaWriter.writeCSV(file.getAbsolutePath(),
+                Arrays.asList("foo", "bar"),
+                Arrays.asList(new FileRecord(Arrays.asList("b\u00e4r", "f,oo"))),
+                Compression.NONE);
+        assertEquals("foo,bar\nb\u00e4r,\"f,oo\"\n", new String(
+                Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = WriterException.class)
+    public void test_writeCSV_file_failure()
+            throws WriterException, IOException {
+        ukubukaWriter.writeCSV(temporaryFolder.newFolder().getAbsolutePath(),
+                Arrays.asList("foo"), Arrays.<FileRecord> asList(),
+                Compression.NONE);
+    }
+
+    @Test
+    public void test_writeCSV_gzip_success()
+            throws WriterException, IOException {
+        File file = temporaryFolder.newFile("foo.csv.gz");
+        ukubukaWriter.writeCSV(file.getAbsolutePath(),
+                Arrays.asList("foo", "bar"),
+                Arrays.asList(new FileRecord(Arrays.asList("bar", "baz"))),
+                Compression.GZIP);
+        try (InputStream inputStream = new GZIPInputStream(
+                new FileInputStream(file))) {
+            assertEquals("foo,bar\nbar,baz\n",
+                    IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void test_writeJSON_deflate_success()
+            throws WriterException, IOException {
+        File file = temporaryFolder.newFile();
+        ukubukaWriter.writeJSON(file.getAbsolutePath(), Arrays.asList("foo"),
+                Arrays.asList(new FileRecord(Arrays.asList("bar"))), false,
+                true, Compression.DEFLATE);
+        try (InputStream inputStream = new InflaterInputStream(
+                new FileInputStream(file))) {
+            assertEquals("{\"foo\":\"bar\"}\n",
+                    IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void test_writeColumnar_success()
+            throws WriterException, ParserException, IOException {
+        File file = temporaryFolder.newFile();
+        ukubukaWriter.setBufferSize(4);
+        ukubukaWriter.writeColumnar(file.getAbsolutePath(),
+                new FileContents(Arrays.asList("foo", "bar"),
+                        Arrays.asList(
+                                new FileRecord(Arrays.asList("1", "bar")),
+                                new FileRecord(Arrays.asList("2", "baz")))),
+                Compression.DEFLATE, 1);
+        try (InputStream inputStream = new FileInputStream(file)) {
+            FileContents fileContents = new UkubukaColumnarReader(inputStream)
+                    .read();
+            assertEquals(Arrays.asList("foo", "bar"), fileContents.getHeader());
+            assertEquals(Arrays.asList(2, "baz"),
+                    fileContents.getData().get(1).getData());
+        }
+    }
+
+    @Test(expected = WriterException.class)
+    public void test_writeColumnar_blockSize_failure()
+            throws WriterException, IOException {
+        ukubukaWriter.writeColumnar(
+                temporaryFolder.newFile().getAbsolutePath(),
+                new FileContents(Arrays.asList("foo"),
+                        Arrays.<FileRecord> asList()),
+                Compression.NONE, 0);
+    }
+
+    @Test
+    public void test_writeFile_gzipExtension_success()
+            throws WriterException, IOException {
+        File file = temporaryFolder.newFile("foo.html.gz");
+        ukubukaWriter.writeFile(file.getAbsolutePath(), "fooBar");
+        try (InputStream inputStream = new GZIPInputStream(
+                new FileInputStream(file))) {
+            assertEquals("fooBar",
+                    IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
     }
 
     @Test(expected = WriterException.class)